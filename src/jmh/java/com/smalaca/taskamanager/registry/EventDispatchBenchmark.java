@@ -0,0 +1,86 @@
+package com.smalaca.taskamanager.registry;
+
+import com.smalaca.taskamanager.events.StoryDoneEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.support.AbstractApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventDispatchBenchmark {
+    private static final int RING_CAPACITY = 8192;
+
+    @Param({"publisher", "ring", "ring-direct"})
+    private String dispatch;
+
+    private final StoryDoneEvent event = new StoryDoneEvent();
+    private AnnotationConfigApplicationContext context;
+    private EventDispatcher dispatcher;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME, ListenerResolvingEventMulticaster.class,
+                () -> new ListenerResolvingEventMulticaster(context.getBeanFactory()));
+        context.registerBean(StoryDoneListeners.class);
+        context.registerBean(ResolvedEventListeners.class, () -> new ResolvedEventListeners(
+                context.getBean(ListenerResolvingEventMulticaster.class), EventsRegistry.EVENT_TYPES));
+        context.refresh();
+        event.setStoryId(13);
+
+        if ("ring".equals(dispatch)) {
+            dispatcher = new RingBufferEventDispatcher(RING_CAPACITY, List.of(new SynchronousEventDispatcher(context)));
+        } else if ("ring-direct".equals(dispatch)) {
+            dispatcher = new RingBufferEventDispatcher(RING_CAPACITY, List.of(context.getBean(ResolvedEventListeners.class)::deliver));
+        } else {
+            dispatcher = new SynchronousEventDispatcher(context);
+        }
+    }
+
+    @Benchmark
+    public void publishStoryDone() {
+        dispatcher.dispatch(event);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dispatcher.close();
+        context.close();
+    }
+
+    public static class StoryDoneListeners {
+        private final LongAdder journalled = new LongAdder();
+        private final LongAdder streamed = new LongAdder();
+
+        @EventListener
+        public void journal(StoryDoneEvent event) {
+            journalled.add(event.getStoryId());
+        }
+
+        @EventListener
+        public void stream(StoryDoneEvent event) {
+            streamed.add(event.getStoryId());
+        }
+    }
+}
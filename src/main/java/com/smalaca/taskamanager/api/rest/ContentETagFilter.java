@@ -0,0 +1,8 @@
+package com.smalaca.taskamanager.api.rest;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+@Component
+public class ContentETagFilter extends ShallowEtagHeaderFilter {
+}
@@ -3,7 +3,10 @@ package com.smalaca.taskamanager.api.rest;
 
 import com.smalaca.taskamanager.dto.AssigneeDto;
 import com.smalaca.taskamanager.dto.EpicDto;
+import com.smalaca.taskamanager.dto.EpicTreeDto;
 import com.smalaca.taskamanager.dto.StakeholderDto;
+import com.smalaca.taskamanager.dto.StoryTreeDto;
+import com.smalaca.taskamanager.dto.TaskTreeDto;
 import com.smalaca.taskamanager.dto.WatcherDto;
 import com.smalaca.taskamanager.exception.EpicDoesNotExistException;
 import com.smalaca.taskamanager.exception.ProjectNotFoundException;
@@ -13,8 +16,6 @@ import com.smalaca.taskamanager.model.embedded.Assignee;
 import com.smalaca.taskamanager.model.embedded.EmailAddress;
 import com.smalaca.taskamanager.model.embedded.Owner;
 import com.smalaca.taskamanager.model.embedded.PhoneNumber;
-import com.smalaca.taskamanager.model.embedded.Stakeholder;
-import com.smalaca.taskamanager.model.embedded.Watcher;
 import com.smalaca.taskamanager.model.entities.Epic;
 import com.smalaca.taskamanager.model.entities.Project;
 import com.smalaca.taskamanager.model.entities.Team;
@@ -23,9 +24,12 @@ import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
 import com.smalaca.taskamanager.repository.EpicRepository;
 import com.smalaca.taskamanager.repository.ProjectRepository;
 import com.smalaca.taskamanager.repository.TeamRepository;
-import com.smalaca.taskamanager.repository.UserRepository;
+import com.smalaca.taskamanager.repository.ToDoItemSummary;
+import com.smalaca.taskamanager.service.CascadeDeletion;
 import com.smalaca.taskamanager.service.ToDoItemService;
+import com.smalaca.taskamanager.service.UserLoader;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -35,113 +39,203 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/epic")
-@SuppressWarnings({"checkstyle:ClassFanOutComplexity", "checkstyle:NestedTryDepth", "checkstyle:NestedIfDepth", "PMD.CollapsibleIfStatements"})
+@SuppressWarnings({
+    "checkstyle:ClassFanOutComplexity", "checkstyle:MethodCount", "checkstyle:NestedTryDepth", "checkstyle:NestedIfDepth",
+    "PMD.CollapsibleIfStatements"})
 public class EpicController {
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final EpicRepository epicRepository;
-    private final UserRepository userRepository;
+    private final UserLoader userLoader;
     private final TeamRepository teamRepository;
     private final ProjectRepository projectRepository;
     private final ToDoItemService toDoItemService;
+    private final SerializedDtoCache serializedDtoCache;
+    private final OptimisticUpdateRetry optimisticUpdateRetry;
+    private final CascadeDeletion cascadeDeletion;
 
     public EpicController(
-            EpicRepository epicRepository, UserRepository userRepository, TeamRepository teamRepository,
-            ProjectRepository projectRepository, ToDoItemService toDoItemService) {
+            EpicRepository epicRepository, UserLoader userLoader, TeamRepository teamRepository,
+            ProjectRepository projectRepository, ToDoItemService toDoItemService,
+            SerializedDtoCache serializedDtoCache, CascadeDeletion cascadeDeletion, OptimisticUpdateRetry optimisticUpdateRetry) {
         this.epicRepository = epicRepository;
-        this.userRepository = userRepository;
+        this.userLoader = userLoader;
         this.teamRepository = teamRepository;
         this.projectRepository = projectRepository;
         this.toDoItemService = toDoItemService;
+        this.serializedDtoCache = serializedDtoCache;
+        this.optimisticUpdateRetry = optimisticUpdateRetry;
+        this.cascadeDeletion = cascadeDeletion;
     }
 
-    @Transactional
-    @GetMapping("/{id}")
-    public ResponseEntity<EpicDto> findById(@PathVariable Long id) {
-        Optional<Epic> found = epicRepository.findById(id);
+    @Transactional(readOnly = true)
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> findById(@PathVariable Long id) {
+        Optional<Long> version = epicRepository.findVersionById(id);
+
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Optional<ResponseEntity<byte[]>> notModified = VersionETags.notModified(version.get());
+
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+
+        Optional<byte[]> cached = serializedDtoCache.find(EpicDto.class, id, version.get());
+
+        if (cached.isPresent()) {
+            return new ResponseEntity<>(cached.get(), VersionETags.headers(version.get()), HttpStatus.OK);
+        }
+
+        Optional<Epic> found = epicRepository.findWithDetailsById(id);
 
         if (found.isPresent()) {
             Epic epic = found.get();
-            EpicDto epicDto = new EpicDto();
+            byte[] body = serializedDtoCache.put(EpicDto.class, id, epic.getVersion(), asDto(epic));
+            return new ResponseEntity<>(body, VersionETags.headers(epic.getVersion()), HttpStatus.OK);
+        }
+
+        return ResponseEntity.notFound().build();
+    }
 
-            epicDto.setId(epic.getId());
-            epicDto.setTitle(epic.getTitle());
-            epicDto.setDescription(epic.getDescription());
-            epicDto.setStatus(epic.getStatus().name());
+    @Transactional
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<EpicDto>> findAllById(@RequestParam List<Long> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
 
-            if (epic.getProject() != null) {
-                Project project = epic.getProject();
-                epicDto.setProjectId(project.getId());
-            }
+        List<EpicDto> dtos = new ArrayList<>();
 
-            Owner owner = epic.getOwner();
+        for (Epic epic : epicRepository.findWithDetailsByIdIn(ids)) {
+            dtos.add(asDto(epic));
+        }
 
-            if (owner != null) {
-                epicDto.setOwnerFirstName(owner.getFirstName());
-                epicDto.setOwnerLastName(owner.getLastName());
+        return ResponseEntity.ok(dtos);
+    }
 
-                PhoneNumber phoneNumber = owner.getPhoneNumber();
+    @Transactional(readOnly = true)
+    @GetMapping("/{id}/tree")
+    public ResponseEntity<EpicTreeDto> findTreeById(@PathVariable Long id) {
+        Optional<ToDoItemSummary> found = epicRepository.findSummaryById(id);
 
-                if (phoneNumber != null) {
-                    epicDto.setOwnerPhoneNumberPrefix(phoneNumber.getPrefix());
-                    epicDto.setOwnerPhoneNumberNumber(phoneNumber.getNumber());
-                }
+        if (found.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
 
-                EmailAddress emailAddress = owner.getEmailAddress();
+        EpicTreeDto epicTreeDto = new EpicTreeDto();
+        epicTreeDto.setId(found.get().getId());
+        epicTreeDto.setTitle(found.get().getTitle());
+        epicTreeDto.setStatus(found.get().getStatus().name());
 
-                if (emailAddress != null) {
-                    epicDto.setOwnerEmailAddress(emailAddress.getEmailAddress());
-                }
-            }
+        Map<Long, StoryTreeDto> stories = new HashMap<>();
 
-            List<WatcherDto> watchers = epic.getWatchers().stream().map(watcher -> {
-                WatcherDto watcherDto = new WatcherDto();
-                watcherDto.setFirstName(watcher.getFirstName());
-                watcherDto.setLastName(watcher.getLastName());
-                if (watcher.getEmailAddress() != null) {
-                    watcherDto.setEmailAddress(watcher.getEmailAddress().getEmailAddress());
-                }
-                if (watcher.getPhoneNumber() != null) {
-                    watcherDto.setPhonePrefix(watcher.getPhoneNumber().getPrefix());
-                    watcherDto.setPhoneNumber(watcher.getPhoneNumber().getNumber());
-                }
-                return watcherDto;
-            }).collect(Collectors.toList());
-            epicDto.setWatchers(watchers);
-            
-            if (epic.getAssignee() != null) {
-                AssigneeDto assigneeDto = new AssigneeDto();
-                assigneeDto.setFirstName(epic.getAssignee().getFirstName());
-                assigneeDto.setLastName(epic.getAssignee().getLastName());
-                assigneeDto.setTeamId(epic.getAssignee().getTeamId());
-                epicDto.setAssignee(assigneeDto);
+        for (ToDoItemSummary story : epicRepository.findStorySummariesByEpicId(id)) {
+            StoryTreeDto storyTreeDto = new StoryTreeDto();
+            storyTreeDto.setId(story.getId());
+            storyTreeDto.setTitle(story.getTitle());
+            storyTreeDto.setStatus(story.getStatus().name());
+            epicTreeDto.addStory(storyTreeDto);
+            stories.put(story.getId(), storyTreeDto);
+        }
+
+        for (ToDoItemSummary task : epicRepository.findTaskSummariesByEpicId(id)) {
+            TaskTreeDto taskTreeDto = new TaskTreeDto();
+            taskTreeDto.setId(task.getId());
+            taskTreeDto.setTitle(task.getTitle());
+            taskTreeDto.setStatus(task.getStatus().name());
+            stories.get(task.getParentId()).addTask(taskTreeDto);
+        }
+
+        return ResponseEntity.ok(epicTreeDto);
+    }
+
+    private EpicDto asDto(Epic epic) {
+        EpicDto epicDto = new EpicDto();
+
+        epicDto.setId(epic.getId());
+        epicDto.setTitle(epic.getTitle());
+        epicDto.setDescription(epic.getDescription());
+        epicDto.setStatus(epic.getStatus().name());
+
+        if (epic.getProject() != null) {
+            Project project = epic.getProject();
+            epicDto.setProjectId(project.getId());
+        }
+
+        Owner owner = epic.getOwner();
+
+        if (owner != null) {
+            epicDto.setOwnerFirstName(owner.getFirstName());
+            epicDto.setOwnerLastName(owner.getLastName());
+
+            PhoneNumber phoneNumber = owner.getPhoneNumber();
+
+            if (phoneNumber != null) {
+                epicDto.setOwnerPhoneNumberPrefix(phoneNumber.getPrefix());
+                epicDto.setOwnerPhoneNumberNumber(phoneNumber.getNumber());
             }
 
-            List<StakeholderDto> stakeholders = epic.getStakeholders().stream().map(stakeholder -> {
-                StakeholderDto stakeholderDto = new StakeholderDto();
-                stakeholderDto.setFirstName(stakeholder.getFirstName());
-                stakeholderDto.setLastName(stakeholder.getLastName());
-                if (stakeholder.getEmailAddress() != null) {
-                    stakeholderDto.setEmailAddress(stakeholder.getEmailAddress().getEmailAddress());
-                }
-                if (stakeholder.getPhoneNumber() != null) {
-                    stakeholderDto.setPhonePrefix(stakeholder.getPhoneNumber().getPrefix());
-                    stakeholderDto.setPhoneNumber(stakeholder.getPhoneNumber().getNumber());
-                }
-                return stakeholderDto;
-            }).collect(Collectors.toList());
-            epicDto.setStakeholders(stakeholders);
+            EmailAddress emailAddress = owner.getEmailAddress();
 
-            return ResponseEntity.ok(epicDto);
+            if (emailAddress != null) {
+                epicDto.setOwnerEmailAddress(emailAddress.getEmailAddress());
+            }
         }
 
-        return ResponseEntity.notFound().build();
+        List<WatcherDto> watchers = epic.getWatchers().stream().map(watcher -> {
+            WatcherDto watcherDto = new WatcherDto();
+            watcherDto.setFirstName(watcher.getFirstName());
+            watcherDto.setLastName(watcher.getLastName());
+            if (watcher.getEmailAddress() != null) {
+                watcherDto.setEmailAddress(watcher.getEmailAddress().getEmailAddress());
+            }
+            if (watcher.getPhoneNumber() != null) {
+                watcherDto.setPhonePrefix(watcher.getPhoneNumber().getPrefix());
+                watcherDto.setPhoneNumber(watcher.getPhoneNumber().getNumber());
+            }
+            return watcherDto;
+        }).collect(Collectors.toList());
+        epicDto.setWatchers(watchers);
+        
+        if (epic.getAssignee() != null) {
+            AssigneeDto assigneeDto = new AssigneeDto();
+            assigneeDto.setFirstName(epic.getAssignee().getFirstName());
+            assigneeDto.setLastName(epic.getAssignee().getLastName());
+            assigneeDto.setTeamId(epic.getAssignee().getTeamId());
+            epicDto.setAssignee(assigneeDto);
+        }
+
+        List<StakeholderDto> stakeholders = epic.getStakeholders().stream().map(stakeholder -> {
+            StakeholderDto stakeholderDto = new StakeholderDto();
+            stakeholderDto.setFirstName(stakeholder.getFirstName());
+            stakeholderDto.setLastName(stakeholder.getLastName());
+            if (stakeholder.getEmailAddress() != null) {
+                stakeholderDto.setEmailAddress(stakeholder.getEmailAddress().getEmailAddress());
+            }
+            if (stakeholder.getPhoneNumber() != null) {
+                stakeholderDto.setPhonePrefix(stakeholder.getPhoneNumber().getPrefix());
+                stakeholderDto.setPhoneNumber(stakeholder.getPhoneNumber().getNumber());
+            }
+            return stakeholderDto;
+        }).collect(Collectors.toList());
+        epicDto.setStakeholders(stakeholders);
+
+        return epicDto;
     }
 
     @PostMapping
@@ -152,7 +246,7 @@ public class EpicController {
         epic.setStatus(ToDoItemStatus.valueOf(dto.getStatus()));
 
         if (dto.getOwnerId() != null) {
-            Optional<User> found = userRepository.findById(dto.getOwnerId());
+            Optional<User> found = userLoader.findById(dto.getOwnerId());
 
             if (found.isEmpty()) {
                 return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
@@ -201,6 +295,10 @@ public class EpicController {
 
     @PutMapping("/{id}")
     public ResponseEntity<Void> update(@PathVariable long id, @RequestBody EpicDto dto) {
+        return optimisticUpdateRetry.update(Epic.class, () -> applyUpdate(id, dto));
+    }
+
+    private ResponseEntity<Void> applyUpdate(long id, EpicDto dto) {
         boolean changed = false;
         Epic epic;
 
@@ -243,10 +341,10 @@ public class EpicController {
 
         } else {
             if (dto.getOwnerId() != null) {
-                boolean userExists = userRepository.existsById(dto.getOwnerId());
+                Optional<User> foundUser = userLoader.findById(dto.getOwnerId());
 
-                if (userExists) {
-                    User user = userRepository.findById(dto.getOwnerId()).get();
+                if (foundUser.isPresent()) {
+                    User user = foundUser.get();
                     Owner owner = new Owner();
 
                     if (user.getPhoneNumber() != null) {
@@ -272,6 +370,7 @@ public class EpicController {
             }
         }
         epicRepository.save(epic);
+        serializedDtoCache.evict(EpicDto.class, epic.getId());
 
         if (changed) {
             toDoItemService.processEpic(epic.getId());
@@ -281,8 +380,10 @@ public class EpicController {
     }
 
     private Epic findById(long id) {
-        if (epicRepository.existsById(id)) {
-            return epicRepository.findById(id).get();
+        Optional<Epic> found = epicRepository.findById(id);
+
+        if (found.isPresent()) {
+            return found.get();
         }
 
         throw new EpicDoesNotExistException();
@@ -298,6 +399,7 @@ public class EpicController {
             }
 
             epicRepository.delete(found.get());
+            serializedDtoCache.evict(EpicDto.class, id);
 
             return ResponseEntity.ok().build();
         } catch (EpicDoesNotExistException exception) {
@@ -305,6 +407,18 @@ public class EpicController {
         }
     }
 
+    @DeleteMapping(value = "/{id}", params = "cascade=true")
+    public ResponseEntity<Void> deleteWithContent(@PathVariable long id) {
+        if (!epicRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        cascadeDeletion.deleteEpic(id);
+        serializedDtoCache.evict(EpicDto.class, id);
+
+        return ResponseEntity.ok().build();
+    }
+
     @PutMapping("/{id}/watcher")
     public ResponseEntity<Void> addWatcher(@PathVariable long id, @RequestBody WatcherDto dto) {
         try {
@@ -312,25 +426,10 @@ public class EpicController {
 
             try {
                 User user = findUserBy(dto.getId());
-                Watcher watcher = new Watcher();
-                watcher.setFirstName(user.getUserName().getFirstName());
-                watcher.setLastName(user.getUserName().getLastName());
-
-                if (user.getEmailAddress() != null) {
-                    EmailAddress emailAddress = new EmailAddress();
-                    emailAddress.setEmailAddress(user.getEmailAddress().getEmailAddress());
-                    watcher.setEmailAddress(emailAddress);
-                }
-
-                if (user.getPhoneNumber() != null) {
-                    PhoneNumber phoneNumber = new PhoneNumber();
-                    phoneNumber.setPrefix(user.getPhoneNumber().getPrefix());
-                    phoneNumber.setNumber(user.getPhoneNumber().getNumber());
-                    watcher.setPhoneNumber(phoneNumber);
-                }
-                epic.addWatcher(watcher);
+                epic.addWatcher(Participants.watcherOf(user));
 
                 epicRepository.save(epic);
+                serializedDtoCache.evict(EpicDto.class, epic.getId());
 
             } catch (UserNotFoundException exception) {
                 return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
@@ -349,27 +448,10 @@ public class EpicController {
             Epic epic = findEpicBy(epicId);
             User user = findUserBy(watcherId);
 
-            Watcher watcher = new Watcher();
-
-            if (user.getPhoneNumber() != null) {
-                PhoneNumber phoneNumber = new PhoneNumber();
-                phoneNumber.setPrefix(user.getPhoneNumber().getPrefix());
-                phoneNumber.setNumber(user.getPhoneNumber().getNumber());
-                watcher.setPhoneNumber(phoneNumber);
-            }
-
-            watcher.setFirstName(user.getUserName().getFirstName());
-            watcher.setLastName(user.getUserName().getLastName());
-
-            if (user.getEmailAddress() != null) {
-                EmailAddress emailAddress = new EmailAddress();
-                emailAddress.setEmailAddress(user.getEmailAddress().getEmailAddress());
-                watcher.setEmailAddress(emailAddress);
-            }
-
-            epic.removeWatcher(watcher);
+            epic.removeWatcher(Participants.watcherOf(user));
 
             epicRepository.save(epic);
+            serializedDtoCache.evict(EpicDto.class, epic.getId());
 
             return ResponseEntity.ok().build();
         } catch (EpicDoesNotExistException exception) {
@@ -386,25 +468,10 @@ public class EpicController {
 
             try {
                 User user = findUserBy(dto.getId());
-                Stakeholder stakeholder = new Stakeholder();
-                stakeholder.setFirstName(user.getUserName().getFirstName());
-                stakeholder.setLastName(user.getUserName().getLastName());
-
-                if (user.getEmailAddress() != null) {
-                    EmailAddress emailAddress = new EmailAddress();
-                    emailAddress.setEmailAddress(user.getEmailAddress().getEmailAddress());
-                    stakeholder.setEmailAddress(emailAddress);
-                }
-
-                if (user.getPhoneNumber() != null) {
-                    PhoneNumber phoneNumber = new PhoneNumber();
-                    phoneNumber.setPrefix(user.getPhoneNumber().getPrefix());
-                    phoneNumber.setNumber(user.getPhoneNumber().getNumber());
-                    stakeholder.setPhoneNumber(phoneNumber);
-                }
-                epic.addStakeholder(stakeholder);
+                epic.addStakeholder(Participants.stakeholderOf(user));
 
                 epicRepository.save(epic);
+                serializedDtoCache.evict(EpicDto.class, epic.getId());
 
             } catch (UserNotFoundException exception) {
                 return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
@@ -423,27 +490,98 @@ public class EpicController {
             Epic epic = findEpicBy(epicId);
             User user = findUserBy(stakeholderId);
 
-            Stakeholder stakeholder = new Stakeholder();
+            epic.removeStakeholder(Participants.stakeholderOf(user));
 
-            if (user.getPhoneNumber() != null) {
-                PhoneNumber phoneNumber = new PhoneNumber();
-                phoneNumber.setPrefix(user.getPhoneNumber().getPrefix());
-                phoneNumber.setNumber(user.getPhoneNumber().getNumber());
-                stakeholder.setPhoneNumber(phoneNumber);
-            }
+            epicRepository.save(epic);
+            serializedDtoCache.evict(EpicDto.class, epic.getId());
+
+            return ResponseEntity.ok().build();
+        } catch (EpicDoesNotExistException exception) {
+            return ResponseEntity.notFound().build();
+        } catch (UserNotFoundException exception) {
+            return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
+        }
+    }
 
-            stakeholder.setFirstName(user.getUserName().getFirstName());
-            stakeholder.setLastName(user.getUserName().getLastName());
+    @Transactional
+    @PutMapping("/{id}/watchers")
+    public ResponseEntity<Void> addWatchers(@PathVariable long id, @RequestBody List<Long> userIds) {
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
 
-            if (user.getEmailAddress() != null) {
-                EmailAddress emailAddress = new EmailAddress();
-                emailAddress.setEmailAddress(user.getEmailAddress().getEmailAddress());
-                stakeholder.setEmailAddress(emailAddress);
-            }
+        try {
+            Epic epic = findEpicBy(id);
+            epic.addWatchers(Participants.watchersOf(userLoader.getAllById(userIds)));
+
+            epicRepository.save(epic);
+            serializedDtoCache.evict(EpicDto.class, epic.getId());
+
+            return ResponseEntity.ok().build();
+        } catch (EpicDoesNotExistException exception) {
+            return ResponseEntity.notFound().build();
+        } catch (UserNotFoundException exception) {
+            return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
+        }
+    }
+
+    @Transactional
+    @DeleteMapping(value = "/{id}/watchers", params = "userIds")
+    public ResponseEntity<Void> removeWatchers(@PathVariable long id, @RequestParam List<Long> userIds) {
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            Epic epic = findEpicBy(id);
+            epic.removeWatchers(Participants.watchersOf(userLoader.getAllById(userIds)));
+
+            epicRepository.save(epic);
+            serializedDtoCache.evict(EpicDto.class, epic.getId());
+
+            return ResponseEntity.ok().build();
+        } catch (EpicDoesNotExistException exception) {
+            return ResponseEntity.notFound().build();
+        } catch (UserNotFoundException exception) {
+            return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
+        }
+    }
+
+    @Transactional
+    @PutMapping("/{id}/stakeholders")
+    public ResponseEntity<Void> addStakeholders(@PathVariable long id, @RequestBody List<Long> userIds) {
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            Epic epic = findEpicBy(id);
+            epic.addStakeholders(Participants.stakeholdersOf(userLoader.getAllById(userIds)));
+
+            epicRepository.save(epic);
+            serializedDtoCache.evict(EpicDto.class, epic.getId());
+
+            return ResponseEntity.ok().build();
+        } catch (EpicDoesNotExistException exception) {
+            return ResponseEntity.notFound().build();
+        } catch (UserNotFoundException exception) {
+            return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
+        }
+    }
 
-            epic.removeStakeholder(stakeholder);
+    @Transactional
+    @DeleteMapping(value = "/{id}/stakeholders", params = "userIds")
+    public ResponseEntity<Void> removeStakeholders(@PathVariable long id, @RequestParam List<Long> userIds) {
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            Epic epic = findEpicBy(id);
+            epic.removeStakeholders(Participants.stakeholdersOf(userLoader.getAllById(userIds)));
 
             epicRepository.save(epic);
+            serializedDtoCache.evict(EpicDto.class, epic.getId());
 
             return ResponseEntity.ok().build();
         } catch (EpicDoesNotExistException exception) {
@@ -469,6 +607,7 @@ public class EpicController {
                     assignee.setTeamId(dto.getTeamId());
                     epic.setAssignee(assignee);
                     epicRepository.save(epic);
+                    serializedDtoCache.evict(EpicDto.class, epic.getId());
                 } catch (TeamNotFoundException exception) {
                     return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
                 }
@@ -499,6 +638,7 @@ public class EpicController {
             epic.setAssignee(null);
 
             epicRepository.save(epic);
+            serializedDtoCache.evict(EpicDto.class, epic.getId());
 
             return ResponseEntity.ok().build();
         } catch (EpicDoesNotExistException exception) {
@@ -517,7 +657,7 @@ public class EpicController {
     }
 
     private User findUserBy(Long id) {
-        Optional<User> found = userRepository.findById(id);
+        Optional<User> found = userLoader.findById(id);
 
         if (found.isEmpty()) {
             throw new UserNotFoundException();
@@ -0,0 +1,47 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.smalaca.taskamanager.stream.ItemChangeBroadcaster;
+import com.smalaca.taskamanager.stream.ItemChangeFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/events")
+public class ItemChangeStreamController {
+    private final ItemChangeBroadcaster broadcaster;
+    private final long timeoutMillis;
+
+    public ItemChangeStreamController(ItemChangeBroadcaster broadcaster, @Value("${taskmanager.stream.timeout:30m}") Duration timeout) {
+        this.broadcaster = broadcaster;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(
+            @RequestParam(value = "projectId", required = false) Long projectId,
+            @RequestParam(value = "item", required = false) String item,
+            @RequestParam(value = "itemId", required = false) Long itemId) {
+        ItemChangeFilter filter = new ItemChangeFilter(projectId, item, itemId);
+
+        if (!filter.isValid()) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        ItemChangeBroadcaster.Subscription subscription = broadcaster.subscribe(filter, new SseItemChangeSink(emitter));
+        emitter.onCompletion(() -> broadcaster.unsubscribe(subscription));
+        emitter.onError(error -> broadcaster.unsubscribe(subscription));
+        emitter.onTimeout(emitter::complete);
+
+        return ResponseEntity.ok(emitter);
+    }
+}
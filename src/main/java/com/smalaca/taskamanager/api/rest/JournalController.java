@@ -0,0 +1,65 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smalaca.taskamanager.journal.EventJournal;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+
+import static com.smalaca.taskamanager.api.rest.NdJsonWriter.APPLICATION_NDJSON_VALUE;
+
+@RestController
+@RequestMapping("/journal")
+public class JournalController {
+    private static final int MAX_REPLAY_SIZE = 100_000;
+
+    private final EventJournal eventJournal;
+    private final ObjectMapper objectMapper;
+
+    public JournalController(EventJournal eventJournal, ObjectMapper objectMapper) {
+        this.eventJournal = eventJournal;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public void replay(
+            @RequestParam(value = "from", required = false) Long from,
+            @RequestParam(value = "since", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since,
+            @RequestParam(value = "limit", defaultValue = "1000") int limit,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (limit < 1 || limit > MAX_REPLAY_SIZE || from != null && since != null) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            return;
+        }
+
+        long offset = eventJournal.firstOffset();
+
+        if (from != null) {
+            offset = from;
+        } else if (since != null) {
+            offset = eventJournal.offsetAt(since);
+        }
+
+        NdJsonWriter writer = NdJsonWriter.streaming(objectMapper, request, response);
+
+        eventJournal.replay(offset, limit, entry -> {
+            try {
+                writer.write(entry);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+
+        writer.finish();
+    }
+}
@@ -0,0 +1,46 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+class NdJsonWriter {
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private static final int NEW_LINE = '\n';
+    private static final int FLUSH_EVERY = 100;
+
+    private final ObjectWriter writer;
+    private final OutputStream output;
+    private long written;
+
+    NdJsonWriter(ObjectMapper objectMapper, OutputStream output) {
+        this.writer = objectMapper.writer();
+        this.output = output;
+    }
+
+    static NdJsonWriter streaming(ObjectMapper objectMapper, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ShallowEtagHeaderFilter.disableContentCaching(request);
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        return new NdJsonWriter(objectMapper, response.getOutputStream());
+    }
+
+    void write(Object dto) throws IOException {
+        output.write(writer.writeValueAsBytes(dto));
+        output.write(NEW_LINE);
+        written++;
+
+        if (written == 1 || written % FLUSH_EVERY == 0) {
+            output.flush();
+        }
+    }
+
+    void finish() throws IOException {
+        output.flush();
+    }
+}
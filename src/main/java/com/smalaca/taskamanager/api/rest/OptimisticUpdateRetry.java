@@ -0,0 +1,125 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.smalaca.taskamanager.model.entities.Epic;
+import com.smalaca.taskamanager.model.entities.Story;
+import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.interfaces.ToDoItem;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@Component
+public class OptimisticUpdateRetry implements MeterBinder {
+    private static final List<Class<? extends ToDoItem>> ITEM_TYPES = List.of(Task.class, Story.class, Epic.class);
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long BASE_BACKOFF_MILLIS = 5;
+    private static final long MAX_BACKOFF_MILLIS = 100;
+
+    private final Map<Class<? extends ToDoItem>, Contention> contentions = new LinkedHashMap<>();
+    private final TransactionTemplate transactionTemplate;
+
+    public OptimisticUpdateRetry(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        ITEM_TYPES.forEach(type -> contentions.put(type, new Contention()));
+    }
+
+    public <T> ResponseEntity<T> update(Class<? extends ToDoItem> itemType, Supplier<ResponseEntity<T>> update) {
+        Contention contention = contentions.get(itemType);
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return inTransaction(update);
+            } catch (OptimisticLockingFailureException exception) {
+                contention.conflicts.increment();
+
+                if (attempt == MAX_ATTEMPTS || !backOff(attempt)) {
+                    return conflict(contention);
+                }
+
+                contention.retries.increment();
+            }
+        }
+    }
+
+    public long conflicts(Class<? extends ToDoItem> itemType) {
+        return contentions.get(itemType).conflicts.sum();
+    }
+
+    public long retries(Class<? extends ToDoItem> itemType) {
+        return contentions.get(itemType).retries.sum();
+    }
+
+    public long exhausted(Class<? extends ToDoItem> itemType) {
+        return contentions.get(itemType).exhausted.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        contentions.forEach((type, contention) -> {
+            String item = type.getSimpleName().toLowerCase(Locale.ROOT);
+
+            FunctionCounter.builder("todo.item.update.conflicts", contention.conflicts, LongAdder::sum)
+                    .description("Updates that lost an optimistic lock to a concurrent update")
+                    .tag("item", item)
+                    .register(registry);
+            FunctionCounter.builder("todo.item.update.retries", contention.retries, LongAdder::sum)
+                    .description("Updates repeated on fresh state after an optimistic lock conflict")
+                    .tag("item", item)
+                    .register(registry);
+            FunctionCounter.builder("todo.item.update.exhausted", contention.exhausted, LongAdder::sum)
+                    .description("Updates rejected with 409 Conflict after running out of retries")
+                    .tag("item", item)
+                    .register(registry);
+        });
+    }
+
+    private <T> ResponseEntity<T> inTransaction(Supplier<ResponseEntity<T>> update) {
+        return transactionTemplate.execute(status -> {
+            ResponseEntity<T> response = update.get();
+
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                status.setRollbackOnly();
+            }
+
+            return response;
+        });
+    }
+
+    private boolean backOff(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << attempt);
+
+        try {
+            TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+            return true;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private <T> ResponseEntity<T> conflict(Contention contention) {
+        contention.exhausted.increment();
+        return new ResponseEntity<>(HttpStatus.CONFLICT);
+    }
+
+    private static final class Contention {
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+    }
+}
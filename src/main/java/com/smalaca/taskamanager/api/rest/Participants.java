@@ -0,0 +1,84 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.smalaca.taskamanager.model.embedded.EmailAddress;
+import com.smalaca.taskamanager.model.embedded.Owner;
+import com.smalaca.taskamanager.model.embedded.PhoneNumber;
+import com.smalaca.taskamanager.model.embedded.Stakeholder;
+import com.smalaca.taskamanager.model.embedded.Watcher;
+import com.smalaca.taskamanager.model.entities.User;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+final class Participants {
+    private Participants() { }
+
+    static List<Watcher> watchersOf(Collection<User> users) {
+        List<Watcher> watchers = new ArrayList<>();
+
+        for (User user : users) {
+            watchers.add(watcherOf(user));
+        }
+
+        return watchers;
+    }
+
+    static Watcher watcherOf(User user) {
+        Watcher watcher = new Watcher();
+        watcher.setFirstName(user.getUserName().getFirstName());
+        watcher.setLastName(user.getUserName().getLastName());
+        watcher.setEmailAddress(emailAddressOf(user));
+        watcher.setPhoneNumber(phoneNumberOf(user));
+        return watcher;
+    }
+
+    static List<Stakeholder> stakeholdersOf(Collection<User> users) {
+        List<Stakeholder> stakeholders = new ArrayList<>();
+
+        for (User user : users) {
+            stakeholders.add(stakeholderOf(user));
+        }
+
+        return stakeholders;
+    }
+
+    static Stakeholder stakeholderOf(User user) {
+        Stakeholder stakeholder = new Stakeholder();
+        stakeholder.setFirstName(user.getUserName().getFirstName());
+        stakeholder.setLastName(user.getUserName().getLastName());
+        stakeholder.setEmailAddress(emailAddressOf(user));
+        stakeholder.setPhoneNumber(phoneNumberOf(user));
+        return stakeholder;
+    }
+
+    static Owner ownerOf(User user) {
+        Owner owner = new Owner();
+        owner.setFirstName(user.getUserName().getFirstName());
+        owner.setLastName(user.getUserName().getLastName());
+        owner.setEmailAddress(emailAddressOf(user));
+        owner.setPhoneNumber(phoneNumberOf(user));
+        return owner;
+    }
+
+    private static EmailAddress emailAddressOf(User user) {
+        if (user.getEmailAddress() == null) {
+            return null;
+        }
+
+        EmailAddress emailAddress = new EmailAddress();
+        emailAddress.setEmailAddress(user.getEmailAddress().getEmailAddress());
+        return emailAddress;
+    }
+
+    private static PhoneNumber phoneNumberOf(User user) {
+        if (user.getPhoneNumber() == null) {
+            return null;
+        }
+
+        PhoneNumber phoneNumber = new PhoneNumber();
+        phoneNumber.setNumber(user.getPhoneNumber().getNumber());
+        phoneNumber.setPrefix(user.getPhoneNumber().getPrefix());
+        return phoneNumber;
+    }
+}
@@ -8,6 +8,7 @@ import com.smalaca.taskamanager.model.entities.ProductOwner;
 import com.smalaca.taskamanager.model.entities.Project;
 import com.smalaca.taskamanager.repository.ProductOwnerRepository;
 import com.smalaca.taskamanager.repository.ProjectRepository;
+import com.smalaca.taskamanager.service.UniqueNameIndex;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -24,6 +25,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.Optional;
 
+import static com.smalaca.taskamanager.service.UniqueNameIndex.Kind.PRODUCT_OWNER;
 import static java.util.stream.Collectors.toList;
 
 @RestController
@@ -32,15 +34,24 @@ import static java.util.stream.Collectors.toList;
 public class ProductOwnerController {
     private final ProductOwnerRepository productOwnerRepository;
     private final ProjectRepository projectRepository;
+    private final UniqueNameIndex uniqueNameIndex;
 
-    public ProductOwnerController(ProductOwnerRepository productOwnerRepository, ProjectRepository projectRepository) {
+    public ProductOwnerController(
+            ProductOwnerRepository productOwnerRepository, ProjectRepository projectRepository, UniqueNameIndex uniqueNameIndex) {
         this.productOwnerRepository = productOwnerRepository;
         this.projectRepository = projectRepository;
+        this.uniqueNameIndex = uniqueNameIndex;
     }
 
     @GetMapping("/{id}")
     @Transactional
     public ResponseEntity<ProductOwnerDto> findById(@PathVariable Long id) {
+        Optional<ResponseEntity<ProductOwnerDto>> notModified = VersionETags.notModified(() -> productOwnerRepository.findVersionById(id));
+
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+
         try {
             ProductOwner productOwner = getProductOwnerById(id);
             ProductOwnerDto dto = new ProductOwnerDto();
@@ -59,7 +70,7 @@ public class ProductOwnerController {
             
             dto.setProjectIds(productOwner.getProjects().stream().map(Project::getId).collect(toList()));
 
-            return new ResponseEntity<>(dto, HttpStatus.OK);
+            return new ResponseEntity<>(dto, VersionETags.headers(productOwner.getVersion()), HttpStatus.OK);
         } catch (ProductOwnerNotFoundException exception) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
@@ -67,13 +78,14 @@ public class ProductOwnerController {
 
     @PostMapping
     public ResponseEntity<Void> create(@RequestBody ProductOwnerDto dto, UriComponentsBuilder uriComponentsBuilder) {
-        if (productOwnerRepository.findByFirstNameAndLastName(dto.getFirstName(), dto.getLastName()).isPresent()) {
+        if (exists(dto)) {
             return new ResponseEntity<>(HttpStatus.CONFLICT);
         } else {
             ProductOwner productOwner = new ProductOwner();
             productOwner.setFirstName(dto.getFirstName());
             productOwner.setLastName(dto.getLastName());
             ProductOwner saved = productOwnerRepository.save(productOwner);
+            uniqueNameIndex.put(PRODUCT_OWNER, dto.getFirstName(), dto.getLastName());
 
             HttpHeaders headers = new HttpHeaders();
             headers.setLocation(uriComponentsBuilder.path("/product-owner/{id}").buildAndExpand(saved.getId()).toUri());
@@ -81,6 +93,11 @@ public class ProductOwnerController {
         }
     }
 
+    private boolean exists(ProductOwnerDto dto) {
+        return uniqueNameIndex.mightContain(PRODUCT_OWNER, dto.getFirstName(), dto.getLastName())
+                && productOwnerRepository.findByFirstNameAndLastName(dto.getFirstName(), dto.getLastName()).isPresent();
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ProductOwnerDto> update(@PathVariable Long id, @RequestBody ProductOwnerDto dto) {
         ProductOwner productOwner;
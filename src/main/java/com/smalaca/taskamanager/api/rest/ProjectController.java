@@ -1,5 +1,6 @@
 package com.smalaca.taskamanager.api.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smalaca.taskamanager.dto.ProjectDto;
 import com.smalaca.taskamanager.exception.ProjectNotFoundException;
 import com.smalaca.taskamanager.exception.TeamNotFoundException;
@@ -7,7 +8,13 @@ import com.smalaca.taskamanager.model.entities.Project;
 import com.smalaca.taskamanager.model.entities.Team;
 import com.smalaca.taskamanager.model.enums.ProjectStatus;
 import com.smalaca.taskamanager.repository.ProjectRepository;
+import com.smalaca.taskamanager.repository.ProjectSummary;
 import com.smalaca.taskamanager.repository.TeamRepository;
+import com.smalaca.taskamanager.service.CascadeDeletion;
+import com.smalaca.taskamanager.service.ProjectRecipientIndex;
+import com.smalaca.taskamanager.service.UniqueNameIndex;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,23 +26,41 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.smalaca.taskamanager.api.rest.NdJsonWriter.APPLICATION_NDJSON_VALUE;
+import static com.smalaca.taskamanager.service.UniqueNameIndex.Kind.PROJECT;
 
 @RestController
 @RequestMapping("/project")
+@SuppressWarnings("checkstyle:ClassFanOutComplexity")
 public class ProjectController {
     private final ProjectRepository projectRepository;
     private final TeamRepository teamRepository;
-
-    public ProjectController(ProjectRepository projectRepository, TeamRepository teamRepository) {
+    private final ProjectRecipientIndex recipientIndex;
+    private final UniqueNameIndex uniqueNameIndex;
+    private final CascadeDeletion cascadeDeletion;
+    private final ObjectMapper objectMapper;
+
+    public ProjectController(
+            ProjectRepository projectRepository, TeamRepository teamRepository, ProjectRecipientIndex recipientIndex,
+            UniqueNameIndex uniqueNameIndex, CascadeDeletion cascadeDeletion, ObjectMapper objectMapper) {
         this.projectRepository = projectRepository;
         this.teamRepository = teamRepository;
+        this.recipientIndex = recipientIndex;
+        this.uniqueNameIndex = uniqueNameIndex;
+        this.objectMapper = objectMapper;
+        this.cascadeDeletion = cascadeDeletion;
     }
 
     @GetMapping
@@ -58,9 +83,38 @@ public class ProjectController {
         return new ResponseEntity<>(projectsDtos, HttpStatus.OK);
     }
 
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    @Transactional(readOnly = true)
+    public void exportAllProjects(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        NdJsonWriter writer = NdJsonWriter.streaming(objectMapper, request, response);
+
+        try (Stream<ProjectSummary> projects = projectRepository.streamAllSummaries()) {
+            Iterator<ProjectSummary> iterator = projects.iterator();
+
+            while (iterator.hasNext()) {
+                ProjectSummary project = iterator.next();
+                ProjectDto projectDto = new ProjectDto();
+                projectDto.setId(project.getId());
+                projectDto.setName(project.getName());
+                projectDto.setProjectStatus(project.getProjectStatus().name());
+                projectDto.setProductOwnerId(project.getProductOwnerId());
+
+                writer.write(projectDto);
+            }
+        }
+
+        writer.finish();
+    }
+
     @GetMapping(value = "/{id}")
     @Transactional
     public ResponseEntity<ProjectDto> getProject(@PathVariable("id") Long id) {
+        Optional<ResponseEntity<ProjectDto>> notModified = VersionETags.notModified(() -> projectRepository.findVersionById(id));
+
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+
         try {
             Project project = getProjectById(id);
 
@@ -81,7 +135,7 @@ public class ProjectController {
 
             projectDto.setTeamIds(ids);
 
-            return new ResponseEntity<>(projectDto, HttpStatus.OK);
+            return new ResponseEntity<>(projectDto, VersionETags.headers(project.getVersion()), HttpStatus.OK);
         } catch (ProjectNotFoundException exception) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
@@ -96,6 +150,7 @@ public class ProjectController {
             project.setName(projectDto.getName());
 
             Project saved = projectRepository.save(project);
+            uniqueNameIndex.put(PROJECT, projectDto.getName());
 
             HttpHeaders headers = new HttpHeaders();
             headers.setLocation(uriComponentsBuilder.path("/project/{id}").buildAndExpand(saved.getId()).toUri());
@@ -104,7 +159,7 @@ public class ProjectController {
     }
 
     private boolean exists(ProjectDto projectDto) {
-        return !projectRepository.findByName(projectDto.getName()).isEmpty();
+        return uniqueNameIndex.mightContain(PROJECT, projectDto.getName()) && !projectRepository.findByName(projectDto.getName()).isEmpty();
     }
 
     @PutMapping(value = "/{id}")
@@ -134,12 +189,30 @@ public class ProjectController {
     public ResponseEntity<Void> deleteProject(@PathVariable("id") Long id) {
         try {
             projectRepository.delete(getProjectById(id));
+            recipientIndex.forget(id);
             return new ResponseEntity<>(HttpStatus.OK);
         } catch (ProjectNotFoundException exception) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
     }
 
+    @DeleteMapping(value = "/{id}", params = "cascade=true")
+    public ResponseEntity<Void> deleteProjectWithContent(@PathVariable("id") Long id, @RequestParam(defaultValue = "false") boolean async) {
+        if (!projectRepository.existsById(id)) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        recipientIndex.forget(id);
+
+        if (async) {
+            cascadeDeletion.deleteProjectLater(id);
+            return new ResponseEntity<>(HttpStatus.ACCEPTED);
+        }
+
+        cascadeDeletion.deleteProject(id);
+        return new ResponseEntity<>(HttpStatus.OK);
+    }
+
 
     @PutMapping("/{projectId}/teams/{teamId}")
     @Transactional
@@ -155,6 +228,7 @@ public class ProjectController {
 
                 projectRepository.save(project);
                 teamRepository.save(team);
+                recipientIndex.teamAdded(project, team);
 
                 return new ResponseEntity<>(HttpStatus.OK);
             } catch (TeamNotFoundException exception) {
@@ -180,6 +254,7 @@ public class ProjectController {
 
                 projectRepository.save(project);
                 teamRepository.save(team);
+                recipientIndex.teamRemoved(project, team);
 
                 return new ResponseEntity<>(HttpStatus.OK);
             } catch (TeamNotFoundException exception) {
@@ -0,0 +1,67 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+public class SerializedDtoCache implements MeterBinder {
+    private static final long MAXIMUM_WEIGHT = 64L * 1024 * 1024;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(10);
+
+    private final ObjectWriter writer;
+    private final Cache<Key, Entry> cache = Caffeine.newBuilder()
+            .maximumWeight(MAXIMUM_WEIGHT)
+            .weigher((Key key, Entry entry) -> entry.json().length)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .recordStats()
+            .build();
+
+    public SerializedDtoCache(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writer();
+    }
+
+    public Optional<byte[]> find(Class<?> type, Long id, Long version) {
+        Entry entry = cache.getIfPresent(new Key(type, id));
+
+        if (entry != null && Objects.equals(entry.version(), version)) {
+            return Optional.of(entry.json());
+        }
+
+        return Optional.empty();
+    }
+
+    public byte[] put(Class<?> type, Long id, Long version, Object dto) {
+        try {
+            byte[] json = writer.writeValueAsBytes(dto);
+            cache.put(new Key(type, id), new Entry(version, json));
+            return json;
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public void evict(Class<?> type, Long id) {
+        cache.invalidate(new Key(type, id));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "serialized-dto");
+    }
+
+    private record Key(Class<?> type, Long id) { }
+
+    private record Entry(Long version, byte[] json) { }
+}
@@ -1,14 +1,19 @@
 package com.smalaca.taskamanager.api.rest;
 
+import com.smalaca.taskamanager.dto.BoardItemDto;
+import com.smalaca.taskamanager.dto.SprintBoardDto;
 import com.smalaca.taskamanager.dto.SprintDto;
 import com.smalaca.taskamanager.model.entities.Project;
 import com.smalaca.taskamanager.model.entities.Sprint;
 import com.smalaca.taskamanager.model.entities.Story;
 import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
 import com.smalaca.taskamanager.repository.ProjectRepository;
 import com.smalaca.taskamanager.repository.SprintRepository;
 import com.smalaca.taskamanager.repository.StoryRepository;
 import com.smalaca.taskamanager.repository.TaskRepository;
+import com.smalaca.taskamanager.repository.ToDoItemSummary;
+import com.smalaca.taskamanager.service.UniqueNameIndex;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,27 +26,43 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static com.smalaca.taskamanager.service.UniqueNameIndex.Kind.SPRINT;
+
 @RestController
 @RequestMapping("/sprint")
+@SuppressWarnings("checkstyle:ClassFanOutComplexity")
 public class SprintController {
     private final SprintRepository sprintRepository;
     private final TaskRepository taskRepository;
     private final StoryRepository storyRepository;
     private final ProjectRepository projectRepository;
+    private final UniqueNameIndex uniqueNameIndex;
 
     public SprintController(
-            SprintRepository sprintRepository, TaskRepository taskRepository, StoryRepository storyRepository, ProjectRepository projectRepository) {
+            SprintRepository sprintRepository, TaskRepository taskRepository, StoryRepository storyRepository, ProjectRepository projectRepository,
+            UniqueNameIndex uniqueNameIndex) {
         this.sprintRepository = sprintRepository;
         this.taskRepository = taskRepository;
         this.storyRepository = storyRepository;
         this.projectRepository = projectRepository;
+        this.uniqueNameIndex = uniqueNameIndex;
     }
 
     @GetMapping("/{id}")
     @Transactional
     public ResponseEntity<SprintDto> findById(@PathVariable Long id) {
+        Optional<ResponseEntity<SprintDto>> notModified = VersionETags.notModified(() -> sprintRepository.findVersionById(id));
+
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+
         Optional<Sprint> found = sprintRepository.findById(id);
 
         if (found.isPresent()) {
@@ -50,15 +71,50 @@ public class SprintController {
             dto.setId(sprint.getId());
             dto.setName(sprint.getName());
             dto.setProjectId(sprint.getProject().getId());
+            return new ResponseEntity<>(dto, VersionETags.headers(sprint.getVersion()), HttpStatus.OK);
+        } else {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @GetMapping("/{id}/board")
+    @Transactional(readOnly = true)
+    public ResponseEntity<SprintBoardDto> findBoardById(@PathVariable Long id) {
+        Optional<Sprint> found = sprintRepository.findById(id);
+
+        if (found.isPresent()) {
+            Sprint sprint = found.get();
+            SprintBoardDto dto = new SprintBoardDto();
+            dto.setId(sprint.getId());
+            dto.setName(sprint.getName());
+            dto.setTasks(groupedByStatus(sprintRepository.findTaskSummariesBySprintId(id)));
+            dto.setStories(groupedByStatus(sprintRepository.findStorySummariesBySprintId(id)));
             return new ResponseEntity<>(dto, HttpStatus.OK);
         } else {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
     }
 
+    private Map<String, List<BoardItemDto>> groupedByStatus(List<ToDoItemSummary> summaries) {
+        Map<String, List<BoardItemDto>> grouped = new LinkedHashMap<>();
+
+        for (ToDoItemStatus status : ToDoItemStatus.values()) {
+            grouped.put(status.name(), new ArrayList<>());
+        }
+
+        for (ToDoItemSummary summary : summaries) {
+            BoardItemDto item = new BoardItemDto();
+            item.setId(summary.getId());
+            item.setTitle(summary.getTitle());
+            grouped.get(summary.getStatus().name()).add(item);
+        }
+
+        return grouped;
+    }
+
     @PostMapping
     public ResponseEntity<Long> create(@RequestBody SprintDto dto) {
-        if (sprintRepository.findByNameAndProjectId(dto.getName(), dto.getProjectId()).isPresent()) {
+        if (exists(dto)) {
             return new ResponseEntity<>(HttpStatus.CONFLICT);
         } else {
             Sprint sprint = new Sprint();
@@ -75,10 +131,16 @@ public class SprintController {
             project.addSprint(sprint);
             projectRepository.save(project);
             Long id = sprintRepository.save(sprint).getId();
+            uniqueNameIndex.put(SPRINT, dto.getName(), dto.getProjectId());
             return new ResponseEntity<>(id, HttpStatus.CREATED);
         }
     }
 
+    private boolean exists(SprintDto dto) {
+        return uniqueNameIndex.mightContain(SPRINT, dto.getName(), dto.getProjectId())
+                && sprintRepository.findByNameAndProjectId(dto.getName(), dto.getProjectId()).isPresent();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         Optional<Sprint> found = sprintRepository.findById(id);
@@ -0,0 +1,41 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.smalaca.taskamanager.stream.ItemChange;
+import com.smalaca.taskamanager.stream.ItemChangeSink;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+class SseItemChangeSink implements ItemChangeSink {
+    private static final String HEARTBEAT = "heartbeat";
+
+    private final SseEmitter emitter;
+
+    SseItemChangeSink(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void send(ItemChange change) throws IOException {
+        send(SseEmitter.event().name(change.event()).data(change, MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void heartbeat() throws IOException {
+        send(SseEmitter.event().comment(HEARTBEAT));
+    }
+
+    @Override
+    public void close() {
+        emitter.complete();
+    }
+
+    private void send(SseEmitter.SseEventBuilder event) throws IOException {
+        try {
+            emitter.send(event);
+        } catch (IllegalStateException exception) {
+            throw new IOException(exception);
+        }
+    }
+}
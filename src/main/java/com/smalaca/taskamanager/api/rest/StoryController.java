@@ -13,9 +13,7 @@ import com.smalaca.taskamanager.model.embedded.Assignee;
 import com.smalaca.taskamanager.model.embedded.EmailAddress;
 import com.smalaca.taskamanager.model.embedded.Owner;
 import com.smalaca.taskamanager.model.embedded.PhoneNumber;
-import com.smalaca.taskamanager.model.embedded.Stakeholder;
 import com.smalaca.taskamanager.model.embedded.UserName;
-import com.smalaca.taskamanager.model.embedded.Watcher;
 import com.smalaca.taskamanager.model.entities.Epic;
 import com.smalaca.taskamanager.model.entities.Story;
 import com.smalaca.taskamanager.model.entities.Team;
@@ -24,9 +22,11 @@ import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
 import com.smalaca.taskamanager.repository.EpicRepository;
 import com.smalaca.taskamanager.repository.StoryRepository;
 import com.smalaca.taskamanager.repository.TeamRepository;
-import com.smalaca.taskamanager.repository.UserRepository;
+import com.smalaca.taskamanager.service.CascadeDeletion;
 import com.smalaca.taskamanager.service.ToDoItemService;
+import com.smalaca.taskamanager.service.UserLoader;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -36,117 +36,169 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/story")
-@SuppressWarnings({"checkstyle:ClassFanOutComplexity", "checkstyle:NestedTryDepth", "checkstyle:NestedIfDepth", "PMD.CollapsibleIfStatements"})
+@SuppressWarnings({
+    "checkstyle:ClassFanOutComplexity", "checkstyle:MethodCount", "checkstyle:NestedTryDepth", "checkstyle:NestedIfDepth",
+    "PMD.CollapsibleIfStatements"})
 public class StoryController {
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final StoryRepository storyRepository;
-    private final UserRepository userRepository;
+    private final UserLoader userLoader;
     private final TeamRepository teamRepository;
     private final EpicRepository epicRepository;
     private final ToDoItemService toDoItemService;
+    private final SerializedDtoCache serializedDtoCache;
+    private final OptimisticUpdateRetry optimisticUpdateRetry;
+    private final CascadeDeletion cascadeDeletion;
 
     public StoryController(
-            StoryRepository storyRepository, UserRepository userRepository, TeamRepository teamRepository,
-            EpicRepository epicRepository, ToDoItemService toDoItemService) {
+            StoryRepository storyRepository, UserLoader userLoader, TeamRepository teamRepository,
+            EpicRepository epicRepository, ToDoItemService toDoItemService,
+            SerializedDtoCache serializedDtoCache, CascadeDeletion cascadeDeletion, OptimisticUpdateRetry optimisticUpdateRetry) {
         this.storyRepository = storyRepository;
-        this.userRepository = userRepository;
+        this.userLoader = userLoader;
         this.teamRepository = teamRepository;
         this.epicRepository = epicRepository;
         this.toDoItemService = toDoItemService;
+        this.serializedDtoCache = serializedDtoCache;
+        this.optimisticUpdateRetry = optimisticUpdateRetry;
+        this.cascadeDeletion = cascadeDeletion;
     }
 
-    @Transactional
-    @GetMapping("/{id}")
-    public ResponseEntity<StoryDto> findById(@PathVariable Long id) {
-        Optional<Story> found = storyRepository.findById(id);
+    @Transactional(readOnly = true)
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> findById(@PathVariable Long id) {
+        Optional<Long> version = storyRepository.findVersionById(id);
+
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Optional<ResponseEntity<byte[]>> notModified = VersionETags.notModified(version.get());
+
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+
+        Optional<byte[]> cached = serializedDtoCache.find(StoryDto.class, id, version.get());
+
+        if (cached.isPresent()) {
+            return new ResponseEntity<>(cached.get(), VersionETags.headers(version.get()), HttpStatus.OK);
+        }
+
+        Optional<Story> found = storyRepository.findWithDetailsById(id);
 
         if (found.isPresent()) {
             Story story = found.get();
-            StoryDto storyDto = new StoryDto();
+            byte[] body = serializedDtoCache.put(StoryDto.class, id, story.getVersion(), asDto(story));
+            return new ResponseEntity<>(body, VersionETags.headers(story.getVersion()), HttpStatus.OK);
+        }
 
-            storyDto.setId(story.getId());
-            storyDto.setTitle(story.getTitle());
-            storyDto.setDescription(story.getDescription());
-            storyDto.setStatus(story.getStatus().name());
+        return ResponseEntity.notFound().build();
+    }
 
-            if (story.getEpic() != null) {
-                Epic project = story.getEpic();
-                storyDto.setEpicId(project.getId());
-            }
+    @Transactional
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<StoryDto>> findAllById(@RequestParam List<Long> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
 
-            Owner owner = story.getOwner();
+        List<StoryDto> dtos = new ArrayList<>();
 
-            if (owner != null) {
-                storyDto.setOwnerFirstName(owner.getFirstName());
-                storyDto.setOwnerLastName(owner.getLastName());
+        for (Story story : storyRepository.findWithDetailsByIdIn(ids)) {
+            dtos.add(asDto(story));
+        }
 
-                PhoneNumber phoneNumber = owner.getPhoneNumber();
+        return ResponseEntity.ok(dtos);
+    }
 
-                if (phoneNumber != null) {
-                    storyDto.setOwnerPhoneNumberPrefix(phoneNumber.getPrefix());
-                    storyDto.setOwnerPhoneNumberNumber(phoneNumber.getNumber());
-                }
+    private StoryDto asDto(Story story) {
+        StoryDto storyDto = new StoryDto();
 
-                EmailAddress emailAddress = owner.getEmailAddress();
+        storyDto.setId(story.getId());
+        storyDto.setTitle(story.getTitle());
+        storyDto.setDescription(story.getDescription());
+        storyDto.setStatus(story.getStatus().name());
 
-                if (emailAddress != null) {
-                    storyDto.setOwnerEmailAddress(emailAddress.getEmailAddress());
-                }
-            }
+        if (story.getEpic() != null) {
+            Epic project = story.getEpic();
+            storyDto.setEpicId(project.getId());
+        }
 
-            List<WatcherDto> watchers = story.getWatchers().stream().map(watcher -> {
-                WatcherDto watcherDto = new WatcherDto();
-                if (watcher.getEmailAddress() != null) {
-                    EmailAddress emailAddress = watcher.getEmailAddress();
-                    watcherDto.setEmailAddress(emailAddress.getEmailAddress());
-                }
-                watcherDto.setFirstName(watcher.getFirstName());
-                watcherDto.setLastName(watcher.getLastName());
-                if (watcher.getPhoneNumber() != null) {
-                    PhoneNumber phoneNumber = watcher.getPhoneNumber();
-                    watcherDto.setPhonePrefix(phoneNumber.getPrefix());
-                    watcherDto.setPhoneNumber(phoneNumber.getNumber());
-                }
-                return watcherDto;
-            }).collect(Collectors.toList());
-            storyDto.setWatchers(watchers);
-            
-            if (story.getAssignee() != null) {
-                AssigneeDto assigneeDto = new AssigneeDto();
-                assigneeDto.setFirstName(story.getAssignee().getFirstName());
-                assigneeDto.setLastName(story.getAssignee().getLastName());
-                assigneeDto.setTeamId(story.getAssignee().getTeamId());
-                storyDto.setAssignee(assigneeDto);
+        Owner owner = story.getOwner();
+
+        if (owner != null) {
+            storyDto.setOwnerFirstName(owner.getFirstName());
+            storyDto.setOwnerLastName(owner.getLastName());
+
+            PhoneNumber phoneNumber = owner.getPhoneNumber();
+
+            if (phoneNumber != null) {
+                storyDto.setOwnerPhoneNumberPrefix(phoneNumber.getPrefix());
+                storyDto.setOwnerPhoneNumberNumber(phoneNumber.getNumber());
             }
 
-            List<StakeholderDto> stakeholders = story.getStakeholders().stream().map(stakeholder -> {
-                StakeholderDto stakeholderDto = new StakeholderDto();
-                if (stakeholder.getEmailAddress() != null) {
-                    EmailAddress emailAddress = stakeholder.getEmailAddress();
-                    stakeholderDto.setEmailAddress(emailAddress.getEmailAddress());
-                }
-                stakeholderDto.setFirstName(stakeholder.getFirstName());
-                stakeholderDto.setLastName(stakeholder.getLastName());
-                if (stakeholder.getPhoneNumber() != null) {
-                    PhoneNumber phoneNumber = stakeholder.getPhoneNumber();
-                    stakeholderDto.setPhonePrefix(phoneNumber.getPrefix());
-                    stakeholderDto.setPhoneNumber(phoneNumber.getNumber());
-                }
-                return stakeholderDto;
-            }).collect(Collectors.toList());
-            storyDto.setStakeholders(stakeholders);
+            EmailAddress emailAddress = owner.getEmailAddress();
 
-            return ResponseEntity.ok(storyDto);
+            if (emailAddress != null) {
+                storyDto.setOwnerEmailAddress(emailAddress.getEmailAddress());
+            }
         }
 
-        return ResponseEntity.notFound().build();
+        List<WatcherDto> watchers = story.getWatchers().stream().map(watcher -> {
+            WatcherDto watcherDto = new WatcherDto();
+            if (watcher.getEmailAddress() != null) {
+                EmailAddress emailAddress = watcher.getEmailAddress();
+                watcherDto.setEmailAddress(emailAddress.getEmailAddress());
+            }
+            watcherDto.setFirstName(watcher.getFirstName());
+            watcherDto.setLastName(watcher.getLastName());
+            if (watcher.getPhoneNumber() != null) {
+                PhoneNumber phoneNumber = watcher.getPhoneNumber();
+                watcherDto.setPhonePrefix(phoneNumber.getPrefix());
+                watcherDto.setPhoneNumber(phoneNumber.getNumber());
+            }
+            return watcherDto;
+        }).collect(Collectors.toList());
+        storyDto.setWatchers(watchers);
+        
+        if (story.getAssignee() != null) {
+            AssigneeDto assigneeDto = new AssigneeDto();
+            assigneeDto.setFirstName(story.getAssignee().getFirstName());
+            assigneeDto.setLastName(story.getAssignee().getLastName());
+            assigneeDto.setTeamId(story.getAssignee().getTeamId());
+            storyDto.setAssignee(assigneeDto);
+        }
+
+        List<StakeholderDto> stakeholders = story.getStakeholders().stream().map(stakeholder -> {
+            StakeholderDto stakeholderDto = new StakeholderDto();
+            if (stakeholder.getEmailAddress() != null) {
+                EmailAddress emailAddress = stakeholder.getEmailAddress();
+                stakeholderDto.setEmailAddress(emailAddress.getEmailAddress());
+            }
+            stakeholderDto.setFirstName(stakeholder.getFirstName());
+            stakeholderDto.setLastName(stakeholder.getLastName());
+            if (stakeholder.getPhoneNumber() != null) {
+                PhoneNumber phoneNumber = stakeholder.getPhoneNumber();
+                stakeholderDto.setPhonePrefix(phoneNumber.getPrefix());
+                stakeholderDto.setPhoneNumber(phoneNumber.getNumber());
+            }
+            return stakeholderDto;
+        }).collect(Collectors.toList());
+        storyDto.setStakeholders(stakeholders);
+
+        return storyDto;
     }
 
     @PostMapping
@@ -157,7 +209,7 @@ public class StoryController {
         story.setStatus(ToDoItemStatus.valueOf(dto.getStatus()));
 
         if (dto.getOwnerId() != null) {
-            Optional<User> found = userRepository.findById(dto.getOwnerId());
+            Optional<User> found = userLoader.findById(dto.getOwnerId());
 
             if (found.isEmpty()) {
                 return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
@@ -207,6 +259,10 @@ public class StoryController {
 
     @PutMapping("/{id}")
     public ResponseEntity<Void> update(@PathVariable long id, @RequestBody StoryDto dto) {
+        return optimisticUpdateRetry.update(Story.class, () -> applyUpdate(id, dto));
+    }
+
+    private ResponseEntity<Void> applyUpdate(long id, StoryDto dto) {
         boolean runService = false;
         Story story;
 
@@ -242,10 +298,10 @@ public class StoryController {
 
         } else {
             if (dto.getOwnerId() != null) {
-                boolean userExists = userRepository.existsById(dto.getOwnerId());
+                Optional<User> foundUser = userLoader.findById(dto.getOwnerId());
 
-                if (userExists) {
-                    User user = userRepository.findById(dto.getOwnerId()).get();
+                if (foundUser.isPresent()) {
+                    User user = foundUser.get();
                     Owner owner = new Owner();
 
                     if (user.getPhoneNumber() != null) {
@@ -282,6 +338,8 @@ public class StoryController {
         }
 
         storyRepository.save(story);
+        serializedDtoCache.evict(StoryDto.class, story.getId());
+
         if (runService) {
             toDoItemService.processStory(story.getId());
         }
@@ -290,8 +348,10 @@ public class StoryController {
     }
 
     private Story findById(long id) {
-        if (storyRepository.existsById(id)) {
-            return storyRepository.findById(id).get();
+        Optional<Story> found = storyRepository.findById(id);
+
+        if (found.isPresent()) {
+            return found.get();
         }
 
         throw new StoryDoesNotExistException();
@@ -307,6 +367,7 @@ public class StoryController {
             }
 
             storyRepository.delete(found.get());
+            serializedDtoCache.evict(StoryDto.class, id);
 
             return ResponseEntity.ok().build();
         } catch (StoryDoesNotExistException exception) {
@@ -314,6 +375,18 @@ public class StoryController {
         }
     }
 
+    @DeleteMapping(value = "/{id}", params = "cascade=true")
+    public ResponseEntity<Void> deleteWithContent(@PathVariable long id) {
+        if (!storyRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        cascadeDeletion.deleteStory(id);
+        serializedDtoCache.evict(StoryDto.class, id);
+
+        return ResponseEntity.ok().build();
+    }
+
     @PutMapping("/{id}/watcher")
     public ResponseEntity<Void> addWatcher(@PathVariable long id, @RequestBody WatcherDto dto) {
         try {
@@ -321,28 +394,10 @@ public class StoryController {
 
             try {
                 User user = findUserBy(dto.getId());
-                Watcher watcher = new Watcher();
-                watcher.setLastName(user.getUserName().getLastName());
-                watcher.setFirstName(user.getUserName().getFirstName());
-
-                EmailAddress userEmailAddress = user.getEmailAddress();
-                PhoneNumber userPhoneNumber = user.getPhoneNumber();
-
-                if (userPhoneNumber != null) {
-                    PhoneNumber phoneNumber = new PhoneNumber();
-                    phoneNumber.setNumber(userPhoneNumber.getNumber());
-                    phoneNumber.setPrefix(userPhoneNumber.getPrefix());
-                    watcher.setPhoneNumber(phoneNumber);
-                }
-
-                if (userEmailAddress != null) {
-                    EmailAddress emailAddress = new EmailAddress();
-                    emailAddress.setEmailAddress(userEmailAddress.getEmailAddress());
-                    watcher.setEmailAddress(emailAddress);
-                }
-                story.addWatcher(watcher);
+                story.addWatcher(Participants.watcherOf(user));
 
                 storyRepository.save(story);
+                serializedDtoCache.evict(StoryDto.class, story.getId());
 
             } catch (UserNotFoundException exception) {
                 return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
@@ -361,25 +416,10 @@ public class StoryController {
             Story story = findStoryBy(storyId);
             User user = findUserBy(watcherId);
 
-            Watcher watcher = new Watcher();
-
-            if (user.getPhoneNumber() != null) {
-                watcher.setPhoneNumber(new PhoneNumber());
-                watcher.getPhoneNumber().setPrefix(user.getPhoneNumber().getPrefix());
-                watcher.getPhoneNumber().setNumber(user.getPhoneNumber().getNumber());
-            }
-
-            watcher.setFirstName(user.getUserName().getFirstName());
-            watcher.setLastName(user.getUserName().getLastName());
-
-            if (user.getEmailAddress() != null) {
-                watcher.setEmailAddress(new EmailAddress());
-                watcher.getEmailAddress().setEmailAddress(user.getEmailAddress().getEmailAddress());
-            }
-
-            story.removeWatcher(watcher);
+            story.removeWatcher(Participants.watcherOf(user));
 
             storyRepository.save(story);
+            serializedDtoCache.evict(StoryDto.class, story.getId());
 
             return ResponseEntity.ok().build();
         } catch (StoryDoesNotExistException exception) {
@@ -396,26 +436,10 @@ public class StoryController {
 
             try {
                 User user = findUserBy(dto.getId());
-                Stakeholder stakeholder = new Stakeholder();
-                stakeholder.setLastName(user.getUserName().getLastName());
-                stakeholder.setFirstName(user.getUserName().getFirstName());
-
-                if (user.getPhoneNumber() != null) {
-                    PhoneNumber phoneNumber = new PhoneNumber();
-                    phoneNumber.setPrefix(user.getPhoneNumber().getPrefix());
-                    phoneNumber.setNumber(user.getPhoneNumber().getNumber());
-                    stakeholder.setPhoneNumber(phoneNumber);
-                }
-
-                if (user.getEmailAddress() != null) {
-                    EmailAddress emailAddress = new EmailAddress();
-                    emailAddress.setEmailAddress(user.getEmailAddress().getEmailAddress());
-                    stakeholder.setEmailAddress(emailAddress);
-                }
-
-                story.addStakeholder(stakeholder);
+                story.addStakeholder(Participants.stakeholderOf(user));
 
                 storyRepository.save(story);
+                serializedDtoCache.evict(StoryDto.class, story.getId());
 
             } catch (UserNotFoundException exception) {
                 return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
@@ -434,28 +458,98 @@ public class StoryController {
             Story story = findStoryBy(storyId);
             User user = findUserBy(stakeholderId);
 
-            Stakeholder stakeholder = new Stakeholder();
+            story.removeStakeholder(Participants.stakeholderOf(user));
 
-            if (user.getPhoneNumber() != null) {
-                PhoneNumber phoneNumber = new PhoneNumber();
-                phoneNumber.setNumber(user.getPhoneNumber().getNumber());
-                phoneNumber.setPrefix(user.getPhoneNumber().getPrefix());
-                stakeholder.setPhoneNumber(phoneNumber);
-            }
+            storyRepository.save(story);
+            serializedDtoCache.evict(StoryDto.class, story.getId());
 
-            UserName userName = user.getUserName();
-            stakeholder.setLastName(userName.getLastName());
-            stakeholder.setFirstName(userName.getFirstName());
+            return ResponseEntity.ok().build();
+        } catch (StoryDoesNotExistException exception) {
+            return ResponseEntity.notFound().build();
+        } catch (UserNotFoundException exception) {
+            return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
+        }
+    }
 
-            if (user.getEmailAddress() != null) {
-                EmailAddress emailAddress = new EmailAddress();
-                emailAddress.setEmailAddress(user.getEmailAddress().getEmailAddress());
-                stakeholder.setEmailAddress(emailAddress);
-            }
+    @Transactional
+    @PutMapping("/{id}/watchers")
+    public ResponseEntity<Void> addWatchers(@PathVariable long id, @RequestBody List<Long> userIds) {
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            Story story = findStoryBy(id);
+            story.addWatchers(Participants.watchersOf(userLoader.getAllById(userIds)));
+
+            storyRepository.save(story);
+            serializedDtoCache.evict(StoryDto.class, story.getId());
+
+            return ResponseEntity.ok().build();
+        } catch (StoryDoesNotExistException exception) {
+            return ResponseEntity.notFound().build();
+        } catch (UserNotFoundException exception) {
+            return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
+        }
+    }
 
-            story.removeStakeholder(stakeholder);
+    @Transactional
+    @DeleteMapping(value = "/{id}/watchers", params = "userIds")
+    public ResponseEntity<Void> removeWatchers(@PathVariable long id, @RequestParam List<Long> userIds) {
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            Story story = findStoryBy(id);
+            story.removeWatchers(Participants.watchersOf(userLoader.getAllById(userIds)));
+
+            storyRepository.save(story);
+            serializedDtoCache.evict(StoryDto.class, story.getId());
+
+            return ResponseEntity.ok().build();
+        } catch (StoryDoesNotExistException exception) {
+            return ResponseEntity.notFound().build();
+        } catch (UserNotFoundException exception) {
+            return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
+        }
+    }
+
+    @Transactional
+    @PutMapping("/{id}/stakeholders")
+    public ResponseEntity<Void> addStakeholders(@PathVariable long id, @RequestBody List<Long> userIds) {
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            Story story = findStoryBy(id);
+            story.addStakeholders(Participants.stakeholdersOf(userLoader.getAllById(userIds)));
+
+            storyRepository.save(story);
+            serializedDtoCache.evict(StoryDto.class, story.getId());
+
+            return ResponseEntity.ok().build();
+        } catch (StoryDoesNotExistException exception) {
+            return ResponseEntity.notFound().build();
+        } catch (UserNotFoundException exception) {
+            return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
+        }
+    }
+
+    @Transactional
+    @DeleteMapping(value = "/{id}/stakeholders", params = "userIds")
+    public ResponseEntity<Void> removeStakeholders(@PathVariable long id, @RequestParam List<Long> userIds) {
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            Story story = findStoryBy(id);
+            story.removeStakeholders(Participants.stakeholdersOf(userLoader.getAllById(userIds)));
 
             storyRepository.save(story);
+            serializedDtoCache.evict(StoryDto.class, story.getId());
 
             return ResponseEntity.ok().build();
         } catch (StoryDoesNotExistException exception) {
@@ -481,6 +575,7 @@ public class StoryController {
                     assignee.setTeamId(dto.getTeamId());
                     story.setAssignee(assignee);
                     storyRepository.save(story);
+                    serializedDtoCache.evict(StoryDto.class, story.getId());
                 } catch (TeamNotFoundException exception) {
                     return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
                 }
@@ -511,6 +606,7 @@ public class StoryController {
             story.setAssignee(null);
 
             storyRepository.save(story);
+            serializedDtoCache.evict(StoryDto.class, story.getId());
 
             return ResponseEntity.ok().build();
         } catch (StoryDoesNotExistException exception) {
@@ -529,7 +625,7 @@ public class StoryController {
     }
 
     private User findUserBy(Long id) {
-        Optional<User> found = userRepository.findById(id);
+        Optional<User> found = userLoader.findById(id);
 
         if (found.isEmpty()) {
             throw new UserNotFoundException();
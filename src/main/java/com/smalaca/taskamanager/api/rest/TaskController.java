@@ -13,8 +13,6 @@ import com.smalaca.taskamanager.model.embedded.Assignee;
 import com.smalaca.taskamanager.model.embedded.EmailAddress;
 import com.smalaca.taskamanager.model.embedded.Owner;
 import com.smalaca.taskamanager.model.embedded.PhoneNumber;
-import com.smalaca.taskamanager.model.embedded.Stakeholder;
-import com.smalaca.taskamanager.model.embedded.Watcher;
 import com.smalaca.taskamanager.model.entities.Story;
 import com.smalaca.taskamanager.model.entities.Task;
 import com.smalaca.taskamanager.model.entities.Team;
@@ -23,9 +21,11 @@ import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
 import com.smalaca.taskamanager.repository.StoryRepository;
 import com.smalaca.taskamanager.repository.TaskRepository;
 import com.smalaca.taskamanager.repository.TeamRepository;
-import com.smalaca.taskamanager.repository.UserRepository;
 import com.smalaca.taskamanager.service.ToDoItemService;
+import com.smalaca.taskamanager.service.UserLoader;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -35,113 +35,176 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import jakarta.persistence.EntityManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/task")
-@SuppressWarnings({"checkstyle:ClassFanOutComplexity", "checkstyle:NestedTryDepth", "checkstyle:NestedIfDepth", "PMD.CollapsibleIfStatements"})
+@SuppressWarnings({
+    "checkstyle:ClassFanOutComplexity", "checkstyle:MethodCount", "checkstyle:NestedTryDepth", "checkstyle:NestedIfDepth",
+    "PMD.CollapsibleIfStatements"})
 public class TaskController {
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int MAX_CREATE_BATCH_SIZE = 50_000;
+
     private final TaskRepository taskRepository;
-    private final UserRepository userRepository;
+    private final UserLoader userLoader;
     private final TeamRepository teamRepository;
     private final StoryRepository storyRepository;
     private final ToDoItemService toDoItemService;
+    private final SerializedDtoCache serializedDtoCache;
+    private final OptimisticUpdateRetry optimisticUpdateRetry;
+    private final EntityManager entityManager;
+    private final int createFlushSize;
 
+    @SuppressWarnings("checkstyle:ParameterNumber")
     public TaskController(
-            TaskRepository taskRepository, UserRepository userRepository, TeamRepository teamRepository,
-            StoryRepository storyRepository, ToDoItemService toDoItemService) {
+            TaskRepository taskRepository, UserLoader userLoader, TeamRepository teamRepository,
+            StoryRepository storyRepository, ToDoItemService toDoItemService,
+            SerializedDtoCache serializedDtoCache, OptimisticUpdateRetry optimisticUpdateRetry, EntityManager entityManager,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int createFlushSize) {
         this.taskRepository = taskRepository;
-        this.userRepository = userRepository;
+        this.userLoader = userLoader;
         this.teamRepository = teamRepository;
         this.storyRepository = storyRepository;
         this.toDoItemService = toDoItemService;
+        this.serializedDtoCache = serializedDtoCache;
+        this.optimisticUpdateRetry = optimisticUpdateRetry;
+        this.entityManager = entityManager;
+        this.createFlushSize = createFlushSize;
     }
 
-    @Transactional
-    @GetMapping("/{id}")
-    public ResponseEntity<TaskDto> findById(@PathVariable Long id) {
-        Optional<Task> found = taskRepository.findById(id);
+    @Transactional(readOnly = true)
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> findById(@PathVariable Long id) {
+        Optional<Long> version = taskRepository.findVersionById(id);
+
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Optional<ResponseEntity<byte[]>> notModified = VersionETags.notModified(version.get());
+
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+
+        Optional<byte[]> cached = serializedDtoCache.find(TaskDto.class, id, version.get());
+
+        if (cached.isPresent()) {
+            return new ResponseEntity<>(cached.get(), VersionETags.headers(version.get()), HttpStatus.OK);
+        }
+
+        Optional<Task> found = taskRepository.findWithDetailsById(id);
 
         if (found.isPresent()) {
             Task task = found.get();
-            TaskDto dto = new TaskDto();
+            byte[] body = serializedDtoCache.put(TaskDto.class, id, task.getVersion(), asDto(task));
+            return new ResponseEntity<>(body, VersionETags.headers(task.getVersion()), HttpStatus.OK);
+        }
+
+        return ResponseEntity.notFound().build();
+    }
 
-            dto.setId(task.getId());
-            dto.setDescription(task.getDescription());
-            dto.setTitle(task.getTitle());
-            dto.setStatus(task.getStatus().name());
+    @Transactional
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<TaskDto>> findAllById(@RequestParam List<Long> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
 
-            if (task.getStory() != null) {
-                Story project = task.getStory();
-                dto.setStoryId(project.getId());
-            }
+        List<TaskDto> dtos = new ArrayList<>();
 
-            Owner owner = task.getOwner();
+        for (Task task : taskRepository.findWithDetailsByIdIn(ids)) {
+            dtos.add(asDto(task));
+        }
 
-            if (owner != null) {
-                dto.setOwnerLastName(owner.getLastName());
-                dto.setOwnerFirstName(owner.getFirstName());
+        return ResponseEntity.ok(dtos);
+    }
 
-                PhoneNumber phoneNumber = owner.getPhoneNumber();
+    private TaskDto asDto(Task task) {
+        TaskDto dto = new TaskDto();
 
-                if (phoneNumber != null) {
-                    dto.setOwnerPhoneNumberNumber(phoneNumber.getNumber());
-                    dto.setOwnerPhoneNumberPrefix(phoneNumber.getPrefix());
-                }
+        dto.setId(task.getId());
+        dto.setDescription(task.getDescription());
+        dto.setTitle(task.getTitle());
+        dto.setStatus(task.getStatus().name());
 
-                EmailAddress emailAddress = owner.getEmailAddress();
+        if (task.getStory() != null) {
+            Story project = task.getStory();
+            dto.setStoryId(project.getId());
+        }
 
-                if (emailAddress != null) {
-                    dto.setOwnerEmailAddress(emailAddress.getEmailAddress());
-                }
-            }
+        Owner owner = task.getOwner();
 
-            List<WatcherDto> watchers = task.getWatchers().stream().map(watcher -> {
-                WatcherDto wDto = new WatcherDto();
-                wDto.setLastName(watcher.getLastName());
-                wDto.setFirstName(watcher.getFirstName());
-                if (watcher.getEmailAddress() != null) {
-                    wDto.setEmailAddress(watcher.getEmailAddress().getEmailAddress());
-                }
-                if (watcher.getPhoneNumber() != null) {
-                    wDto.setPhoneNumber(watcher.getPhoneNumber().getNumber());
-                    wDto.setPhonePrefix(watcher.getPhoneNumber().getPrefix());
-                }
-                return wDto;
-            }).collect(Collectors.toList());
-            dto.setWatchers(watchers);
-            
-            if (task.getAssignee() != null) {
-                AssigneeDto aDto = new AssigneeDto();
-                aDto.setTeamId(task.getAssignee().getTeamId());
-                aDto.setLastName(task.getAssignee().getLastName());
-                aDto.setFirstName(task.getAssignee().getFirstName());
-                dto.setAssignee(aDto);
+        if (owner != null) {
+            dto.setOwnerLastName(owner.getLastName());
+            dto.setOwnerFirstName(owner.getFirstName());
+
+            PhoneNumber phoneNumber = owner.getPhoneNumber();
+
+            if (phoneNumber != null) {
+                dto.setOwnerPhoneNumberNumber(phoneNumber.getNumber());
+                dto.setOwnerPhoneNumberPrefix(phoneNumber.getPrefix());
             }
 
-            List<StakeholderDto> stakeholders = task.getStakeholders().stream().map(stakeholder -> {
-                StakeholderDto sDto = new StakeholderDto();
-                sDto.setLastName(stakeholder.getLastName());
-                sDto.setFirstName(stakeholder.getFirstName());
-                if (stakeholder.getEmailAddress() != null) {
-                    sDto.setEmailAddress(stakeholder.getEmailAddress().getEmailAddress());
-                }
-                if (stakeholder.getPhoneNumber() != null) {
-                    sDto.setPhoneNumber(stakeholder.getPhoneNumber().getNumber());
-                    sDto.setPhonePrefix(stakeholder.getPhoneNumber().getPrefix());
-                }
-                return sDto;
-            }).collect(Collectors.toList());
-            dto.setStakeholders(stakeholders);
+            EmailAddress emailAddress = owner.getEmailAddress();
 
-            return ResponseEntity.ok(dto);
+            if (emailAddress != null) {
+                dto.setOwnerEmailAddress(emailAddress.getEmailAddress());
+            }
         }
 
-        return ResponseEntity.notFound().build();
+        List<WatcherDto> watchers = task.getWatchers().stream().map(watcher -> {
+            WatcherDto wDto = new WatcherDto();
+            wDto.setLastName(watcher.getLastName());
+            wDto.setFirstName(watcher.getFirstName());
+            if (watcher.getEmailAddress() != null) {
+                wDto.setEmailAddress(watcher.getEmailAddress().getEmailAddress());
+            }
+            if (watcher.getPhoneNumber() != null) {
+                wDto.setPhoneNumber(watcher.getPhoneNumber().getNumber());
+                wDto.setPhonePrefix(watcher.getPhoneNumber().getPrefix());
+            }
+            return wDto;
+        }).collect(Collectors.toList());
+        dto.setWatchers(watchers);
+        
+        if (task.getAssignee() != null) {
+            AssigneeDto aDto = new AssigneeDto();
+            aDto.setTeamId(task.getAssignee().getTeamId());
+            aDto.setLastName(task.getAssignee().getLastName());
+            aDto.setFirstName(task.getAssignee().getFirstName());
+            dto.setAssignee(aDto);
+        }
+
+        List<StakeholderDto> stakeholders = task.getStakeholders().stream().map(stakeholder -> {
+            StakeholderDto sDto = new StakeholderDto();
+            sDto.setLastName(stakeholder.getLastName());
+            sDto.setFirstName(stakeholder.getFirstName());
+            if (stakeholder.getEmailAddress() != null) {
+                sDto.setEmailAddress(stakeholder.getEmailAddress().getEmailAddress());
+            }
+            if (stakeholder.getPhoneNumber() != null) {
+                sDto.setPhoneNumber(stakeholder.getPhoneNumber().getNumber());
+                sDto.setPhonePrefix(stakeholder.getPhoneNumber().getPrefix());
+            }
+            return sDto;
+        }).collect(Collectors.toList());
+        dto.setStakeholders(stakeholders);
+
+        return dto;
     }
 
     @PostMapping
@@ -152,7 +215,7 @@ public class TaskController {
         t.setStatus(ToDoItemStatus.valueOf(dto.getStatus()));
 
         if (dto.getOwnerId() != null) {
-            Optional<User> found = userRepository.findById(dto.getOwnerId());
+            Optional<User> found = userLoader.findById(dto.getOwnerId());
 
             if (found.isEmpty()) {
                 return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
@@ -201,8 +264,79 @@ public class TaskController {
         return ResponseEntity.ok(saved.getId());
     }
 
+    @Transactional
+    @PostMapping("/batch")
+    public ResponseEntity<List<Long>> createAll(@RequestBody List<TaskDto> dtos) {
+        if (dtos.size() > MAX_CREATE_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Set<Long> ownerIds = new HashSet<>();
+        Set<Long> storyIds = new HashSet<>();
+
+        for (TaskDto dto : dtos) {
+            if (dto.getOwnerId() != null) {
+                ownerIds.add(dto.getOwnerId());
+            }
+
+            if (dto.getStoryId() != null) {
+                storyIds.add(dto.getStoryId());
+            }
+        }
+
+        Map<Long, User> owners = userLoader.findAllById(ownerIds);
+
+        if (owners.size() != ownerIds.size() || storyRepository.countByIdIn(storyIds) != storyIds.size()) {
+            return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
+        }
+
+        List<Long> ids = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+
+        for (TaskDto dto : dtos) {
+            Task task = new Task();
+            task.setTitle(dto.getTitle());
+            task.setDescription(dto.getDescription());
+            task.setStatus(ToDoItemStatus.valueOf(dto.getStatus()));
+
+            if (dto.getOwnerId() != null) {
+                task.setOwner(Participants.ownerOf(owners.get(dto.getOwnerId())));
+            }
+
+            if (dto.getStoryId() != null) {
+                task.setStory(entityManager.getReference(Story.class, dto.getStoryId()));
+            }
+
+            tasks.add(task);
+
+            if (tasks.size() == createFlushSize) {
+                saveAll(tasks, ids);
+                tasks = new ArrayList<>();
+            }
+        }
+
+        if (!tasks.isEmpty()) {
+            saveAll(tasks, ids);
+        }
+
+        return ResponseEntity.ok(ids);
+    }
+
+    private void saveAll(List<Task> tasks, List<Long> ids) {
+        List<Long> saved = new ArrayList<>();
+        taskRepository.saveAll(tasks).forEach(task -> saved.add(task.getId()));
+        entityManager.flush();
+        taskRepository.addToStories(saved);
+        entityManager.clear();
+        ids.addAll(saved);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Void> update(@PathVariable long id, @RequestBody TaskDto dto) {
+        return optimisticUpdateRetry.update(Task.class, () -> applyUpdate(id, dto));
+    }
+
+    private ResponseEntity<Void> applyUpdate(long id, TaskDto dto) {
         Task task;
 
         try {
@@ -245,10 +379,10 @@ public class TaskController {
 
         } else {
             if (dto.getOwnerId() != null) {
-                boolean userExists = userRepository.existsById(dto.getOwnerId());
+                Optional<User> foundUser = userLoader.findById(dto.getOwnerId());
 
-                if (userExists) {
-                    User user = userRepository.findById(dto.getOwnerId()).get();
+                if (foundUser.isPresent()) {
+                    User user = foundUser.get();
                     Owner ownr = new Owner();
 
                     if (user.getPhoneNumber() != null) {
@@ -274,6 +408,7 @@ public class TaskController {
             }
         }
         taskRepository.save(task);
+        serializedDtoCache.evict(TaskDto.class, task.getId());
         if (service) {
             toDoItemService.processTask(task.getId());
         }
@@ -281,9 +416,43 @@ public class TaskController {
         return ResponseEntity.ok().build();
     }
 
+    @Transactional
+    @PutMapping("/status/{status}")
+    public ResponseEntity<Void> updateStatuses(@PathVariable String status, @RequestBody List<Long> ids) {
+        if (ids.size() > MAX_BATCH_SIZE || Arrays.stream(ToDoItemStatus.values()).noneMatch(value -> value.name().equals(status))) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        ToDoItemStatus newStatus = ToDoItemStatus.valueOf(status);
+        Set<Long> uniqueIds = new HashSet<>(ids);
+        List<Task> changed = new ArrayList<>();
+        int found = 0;
+
+        for (Task task : taskRepository.findAllById(uniqueIds)) {
+            found++;
+
+            if (newStatus != task.getStatus()) {
+                task.setStatus(newStatus);
+                changed.add(task);
+            }
+        }
+
+        if (found != uniqueIds.size()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        taskRepository.saveAll(changed);
+        changed.forEach(task -> serializedDtoCache.evict(TaskDto.class, task.getId()));
+        toDoItemService.processTasks(changed);
+
+        return ResponseEntity.ok().build();
+    }
+
     private Task findById(long id) {
-        if (taskRepository.existsById(id)) {
-            return taskRepository.findById(id).get();
+        Optional<Task> found = taskRepository.findById(id);
+
+        if (found.isPresent()) {
+            return found.get();
         }
 
         throw new TaskDoesNotExistException();
@@ -299,6 +468,7 @@ public class TaskController {
             }
 
             taskRepository.delete(found.get());
+            serializedDtoCache.evict(TaskDto.class, id);
 
             return ResponseEntity.ok().build();
         } catch (TaskDoesNotExistException exception) {
@@ -313,25 +483,10 @@ public class TaskController {
 
             try {
                 User entity2 = findUserBy(dto.getId());
-                Watcher entity3 = new Watcher();
-                entity3.setFirstName(entity2.getUserName().getFirstName());
-                entity3.setLastName(entity2.getUserName().getLastName());
-
-                if (entity2.getEmailAddress() != null) {
-                    EmailAddress entity4 = new EmailAddress();
-                    entity4.setEmailAddress(entity2.getEmailAddress().getEmailAddress());
-                    entity3.setEmailAddress(entity4);
-                }
-
-                if (entity2.getPhoneNumber() != null) {
-                    PhoneNumber entity5 = new PhoneNumber();
-                    entity5.setNumber(entity2.getPhoneNumber().getNumber());
-                    entity5.setPrefix(entity2.getPhoneNumber().getPrefix());
-                    entity3.setPhoneNumber(entity5);
-                }
-                entity1.addWatcher(entity3);
+                entity1.addWatcher(Participants.watcherOf(entity2));
 
                 taskRepository.save(entity1);
+                serializedDtoCache.evict(TaskDto.class, entity1.getId());
 
             } catch (UserNotFoundException exception) {
                 return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
@@ -350,27 +505,10 @@ public class TaskController {
             Task task = findTaskBy(taskId);
             User user = findUserBy(watcherId);
 
-            Watcher watcher = new Watcher();
-
-            if (user.getPhoneNumber() != null) {
-                PhoneNumber no = new PhoneNumber();
-                no.setNumber(user.getPhoneNumber().getNumber());
-                no.setPrefix(user.getPhoneNumber().getPrefix());
-                watcher.setPhoneNumber(no);
-            }
-
-            watcher.setLastName(user.getUserName().getLastName());
-            watcher.setFirstName(user.getUserName().getFirstName());
-
-            if (user.getEmailAddress() != null) {
-                EmailAddress add = new EmailAddress();
-                add.setEmailAddress(user.getEmailAddress().getEmailAddress());
-                watcher.setEmailAddress(add);
-            }
-
-            task.removeWatcher(watcher);
+            task.removeWatcher(Participants.watcherOf(user));
 
             taskRepository.save(task);
+            serializedDtoCache.evict(TaskDto.class, task.getId());
 
             return ResponseEntity.ok().build();
         } catch (TaskDoesNotExistException exception) {
@@ -387,25 +525,10 @@ public class TaskController {
 
             try {
                 User user = findUserBy(dto.getId());
-                Stakeholder stakeholder = new Stakeholder();
-                stakeholder.setLastName(user.getUserName().getLastName());
-                stakeholder.setFirstName(user.getUserName().getFirstName());
-
-                if (user.getEmailAddress() != null) {
-                    EmailAddress address = new EmailAddress();
-                    address.setEmailAddress(user.getEmailAddress().getEmailAddress());
-                    stakeholder.setEmailAddress(address);
-                }
-
-                if (user.getPhoneNumber() != null) {
-                    PhoneNumber phNo = new PhoneNumber();
-                    phNo.setNumber(user.getPhoneNumber().getNumber());
-                    phNo.setPrefix(user.getPhoneNumber().getPrefix());
-                    stakeholder.setPhoneNumber(phNo);
-                }
-                task.addStakeholder(stakeholder);
+                task.addStakeholder(Participants.stakeholderOf(user));
 
                 taskRepository.save(task);
+                serializedDtoCache.evict(TaskDto.class, task.getId());
 
             } catch (UserNotFoundException exception) {
                 return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
@@ -424,27 +547,98 @@ public class TaskController {
             Task task = findTaskBy(taskId);
             User user = findUserBy(stakeholderId);
 
-            Stakeholder stkh = new Stakeholder();
+            task.removeStakeholder(Participants.stakeholderOf(user));
 
-            if (user.getPhoneNumber() != null) {
-                PhoneNumber phoneNumber = new PhoneNumber();
-                phoneNumber.setNumber(user.getPhoneNumber().getNumber());
-                phoneNumber.setPrefix(user.getPhoneNumber().getPrefix());
-                stkh.setPhoneNumber(phoneNumber);
-            }
+            taskRepository.save(task);
+            serializedDtoCache.evict(TaskDto.class, task.getId());
 
-            stkh.setLastName(user.getUserName().getLastName());
-            stkh.setFirstName(user.getUserName().getFirstName());
+            return ResponseEntity.ok().build();
+        } catch (TaskDoesNotExistException exception) {
+            return ResponseEntity.notFound().build();
+        } catch (UserNotFoundException exception) {
+            return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
+        }
+    }
 
-            if (user.getEmailAddress() != null) {
-                EmailAddress emailAddress = new EmailAddress();
-                emailAddress.setEmailAddress(user.getEmailAddress().getEmailAddress());
-                stkh.setEmailAddress(emailAddress);
-            }
+    @Transactional
+    @PutMapping("/{id}/watchers")
+    public ResponseEntity<Void> addWatchers(@PathVariable long id, @RequestBody List<Long> userIds) {
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            Task task = findTaskBy(id);
+            task.addWatchers(Participants.watchersOf(userLoader.getAllById(userIds)));
+
+            taskRepository.save(task);
+            serializedDtoCache.evict(TaskDto.class, task.getId());
+
+            return ResponseEntity.ok().build();
+        } catch (TaskDoesNotExistException exception) {
+            return ResponseEntity.notFound().build();
+        } catch (UserNotFoundException exception) {
+            return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
+        }
+    }
+
+    @Transactional
+    @DeleteMapping(value = "/{id}/watchers", params = "userIds")
+    public ResponseEntity<Void> removeWatchers(@PathVariable long id, @RequestParam List<Long> userIds) {
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            Task task = findTaskBy(id);
+            task.removeWatchers(Participants.watchersOf(userLoader.getAllById(userIds)));
+
+            taskRepository.save(task);
+            serializedDtoCache.evict(TaskDto.class, task.getId());
+
+            return ResponseEntity.ok().build();
+        } catch (TaskDoesNotExistException exception) {
+            return ResponseEntity.notFound().build();
+        } catch (UserNotFoundException exception) {
+            return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
+        }
+    }
 
-            task.removeStakeholder(stkh);
+    @Transactional
+    @PutMapping("/{id}/stakeholders")
+    public ResponseEntity<Void> addStakeholders(@PathVariable long id, @RequestBody List<Long> userIds) {
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            Task task = findTaskBy(id);
+            task.addStakeholders(Participants.stakeholdersOf(userLoader.getAllById(userIds)));
+
+            taskRepository.save(task);
+            serializedDtoCache.evict(TaskDto.class, task.getId());
+
+            return ResponseEntity.ok().build();
+        } catch (TaskDoesNotExistException exception) {
+            return ResponseEntity.notFound().build();
+        } catch (UserNotFoundException exception) {
+            return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
+        }
+    }
+
+    @Transactional
+    @DeleteMapping(value = "/{id}/stakeholders", params = "userIds")
+    public ResponseEntity<Void> removeStakeholders(@PathVariable long id, @RequestParam List<Long> userIds) {
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            Task task = findTaskBy(id);
+            task.removeStakeholders(Participants.stakeholdersOf(userLoader.getAllById(userIds)));
 
             taskRepository.save(task);
+            serializedDtoCache.evict(TaskDto.class, task.getId());
 
             return ResponseEntity.ok().build();
         } catch (TaskDoesNotExistException exception) {
@@ -470,6 +664,7 @@ public class TaskController {
                     asgn.setTeamId(dto.getTeamId());
                     task.setAssignee(asgn);
                     taskRepository.save(task);
+                    serializedDtoCache.evict(TaskDto.class, task.getId());
                 } catch (TeamNotFoundException exception) {
                     return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
                 }
@@ -500,6 +695,7 @@ public class TaskController {
             task.setAssignee(null);
 
             taskRepository.save(task);
+            serializedDtoCache.evict(TaskDto.class, task.getId());
 
             return ResponseEntity.ok().build();
         } catch (TaskDoesNotExistException exception) {
@@ -518,7 +714,7 @@ public class TaskController {
     }
 
     private User findUserBy(Long id) {
-        Optional<User> found = userRepository.findById(id);
+        Optional<User> found = userLoader.findById(id);
 
         if (found.isEmpty()) {
             throw new UserNotFoundException();
@@ -1,6 +1,7 @@
 package com.smalaca.taskamanager.api.rest;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Iterables;
 import com.smalaca.taskamanager.dto.TeamDto;
 import com.smalaca.taskamanager.dto.TeamMembersDto;
@@ -9,7 +10,12 @@ import com.smalaca.taskamanager.model.embedded.Codename;
 import com.smalaca.taskamanager.model.entities.Team;
 import com.smalaca.taskamanager.model.entities.User;
 import com.smalaca.taskamanager.repository.TeamRepository;
+import com.smalaca.taskamanager.repository.TeamSummary;
 import com.smalaca.taskamanager.repository.UserRepository;
+import com.smalaca.taskamanager.service.ProjectRecipientIndex;
+import com.smalaca.taskamanager.service.UniqueNameIndex;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -24,10 +30,15 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static com.smalaca.taskamanager.api.rest.NdJsonWriter.APPLICATION_NDJSON_VALUE;
+import static com.smalaca.taskamanager.service.UniqueNameIndex.Kind.TEAM;
 import static java.util.stream.Collectors.toList;
 
 @RestController
@@ -36,10 +47,18 @@ import static java.util.stream.Collectors.toList;
 public class TeamController {
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
+    private final ProjectRecipientIndex recipientIndex;
+    private final UniqueNameIndex uniqueNameIndex;
+    private final ObjectMapper objectMapper;
 
-    public TeamController(TeamRepository teamRepository, UserRepository userRepository) {
+    public TeamController(
+            TeamRepository teamRepository, UserRepository userRepository, ProjectRecipientIndex recipientIndex, UniqueNameIndex uniqueNameIndex,
+            ObjectMapper objectMapper) {
         this.teamRepository = teamRepository;
         this.userRepository = userRepository;
+        this.recipientIndex = recipientIndex;
+        this.uniqueNameIndex = uniqueNameIndex;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
@@ -64,9 +83,39 @@ public class TeamController {
         return new ResponseEntity<>(teams, HttpStatus.OK);
     }
 
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    @Transactional(readOnly = true)
+    public void exportAll(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        NdJsonWriter writer = NdJsonWriter.streaming(objectMapper, request, response);
+
+        try (Stream<TeamSummary> teams = teamRepository.streamAllSummaries()) {
+            Iterator<TeamSummary> iterator = teams.iterator();
+
+            while (iterator.hasNext()) {
+                TeamSummary team = iterator.next();
+                TeamDto dto = new TeamDto();
+                dto.setId(team.getId());
+                dto.setName(team.getName());
+                dto.setCodenameShort(team.getCodenameShort());
+                dto.setCodenameFull(team.getCodenameFull());
+                dto.setDescription(team.getDescription());
+
+                writer.write(dto);
+            }
+        }
+
+        writer.finish();
+    }
+
     @GetMapping("/{id}")
     @Transactional
     public ResponseEntity<TeamDto> findById(@PathVariable Long id) {
+        Optional<ResponseEntity<TeamDto>> notModified = VersionETags.notModified(() -> teamRepository.findVersionById(id));
+
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+
         try {
             Team team = getTeamById(id);
             TeamDto dto = new TeamDto();
@@ -81,7 +130,7 @@ public class TeamController {
             dto.setDescription(team.getDescription());
             dto.setUserIds(team.getMembers().stream().map(User::getId).collect(toList()));
 
-            return new ResponseEntity<>(dto, HttpStatus.OK);
+            return new ResponseEntity<>(dto, VersionETags.headers(team.getVersion()), HttpStatus.OK);
         } catch (TeamNotFoundException exception) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
@@ -89,12 +138,13 @@ public class TeamController {
 
     @PostMapping
     public ResponseEntity<Void> createTeam(@RequestBody TeamDto teamDto, UriComponentsBuilder uriComponentsBuilder) {
-        if (teamRepository.findByName(teamDto.getName()).isPresent()) {
+        if (uniqueNameIndex.mightContain(TEAM, teamDto.getName()) && teamRepository.findByName(teamDto.getName()).isPresent()) {
             return new ResponseEntity<>(HttpStatus.CONFLICT);
         } else {
             Team team = new Team();
             team.setName(teamDto.getName());
             Team saved = teamRepository.save(team);
+            uniqueNameIndex.put(TEAM, teamDto.getName());
 
             HttpHeaders headers = new HttpHeaders();
             headers.setLocation(uriComponentsBuilder.path("/team/{id}").buildAndExpand(saved.getId()).toUri());
@@ -128,6 +178,7 @@ public class TeamController {
         }
 
         Team updated = teamRepository.save(team);
+        uniqueNameIndex.put(TEAM, updated.getName());
 
         TeamDto dto = new TeamDto();
         dto.setId(updated.getId());
@@ -160,6 +211,7 @@ public class TeamController {
 
             teamRepository.save(team);
             userRepository.saveAll(users);
+            recipientIndex.membersAdded(team, users);
 
             return new ResponseEntity<>(HttpStatus.OK);
 
@@ -184,6 +236,7 @@ public class TeamController {
 
             teamRepository.save(team);
             userRepository.saveAll(users);
+            recipientIndex.membersRemoved(team, users);
 
             return new ResponseEntity<>(HttpStatus.OK);
 
@@ -207,6 +260,11 @@ public class TeamController {
         }
 
         teamRepository.delete(team);
+
+        if (team.getProject() != null) {
+            recipientIndex.teamRemoved(team.getProject(), team);
+        }
+
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
@@ -8,7 +8,10 @@ import com.smalaca.taskamanager.model.embedded.UserName;
 import com.smalaca.taskamanager.model.entities.User;
 import com.smalaca.taskamanager.model.enums.TeamRole;
 import com.smalaca.taskamanager.repository.UserRepository;
+import com.smalaca.taskamanager.service.ProjectRecipientIndex;
+import com.smalaca.taskamanager.service.UniqueNameIndex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +22,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -26,15 +30,23 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import static com.smalaca.taskamanager.service.UniqueNameIndex.Kind.USER;
+
 @RestController
 @RequestMapping("/user")
 @SuppressWarnings("checkstyle:ClassFanOutComplexity")
 public class UserController {
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final UserRepository userRepository;
+    private final ProjectRecipientIndex recipientIndex;
+    private final UniqueNameIndex uniqueNameIndex;
 
     @Autowired
-    public UserController(UserRepository userRepository) {
+    public UserController(UserRepository userRepository, ProjectRecipientIndex recipientIndex, UniqueNameIndex uniqueNameIndex) {
         this.userRepository = userRepository;
+        this.recipientIndex = recipientIndex;
+        this.uniqueNameIndex = uniqueNameIndex;
     }
 
     @GetMapping
@@ -42,64 +54,76 @@ public class UserController {
         List<UserDto> usersDtos = new ArrayList<>();
 
         for (User user : userRepository.findAll()) {
-            UserDto userDto = new UserDto();
-            userDto.setId(user.getId());
-            userDto.setFirstName(user.getUserName().getFirstName());
-            userDto.setLastName(user.getUserName().getLastName());
-            userDto.setLogin(user.getLogin());
-            userDto.setPassword(user.getPassword());
+            usersDtos.add(asDto(user));
+        }
 
-            TeamRole teamRole = user.getTeamRole();
-            if (teamRole != null) {
-                userDto.setTeamRole(teamRole.name());
-            }
+        return new ResponseEntity<>(usersDtos, HttpStatus.OK);
+    }
 
-            PhoneNumber phoneNumber = user.getPhoneNumber();
-            if (phoneNumber != null) {
-                userDto.setPhonePrefix(phoneNumber.getPrefix());
-                userDto.setPhoneNumber(phoneNumber.getNumber());
-            }
+    @GetMapping(params = "limit")
+    public ResponseEntity<List<UserDto>> getUsersPage(
+            @RequestParam("limit") int limit, @RequestParam(value = "after", defaultValue = "0") Long after,
+            UriComponentsBuilder uriComponentsBuilder) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
 
-            EmailAddress emailAddress = user.getEmailAddress();
-            if (emailAddress != null) {
-                userDto.setEmailAddress(emailAddress.getEmailAddress());
-            }
+        List<UserDto> usersDtos = new ArrayList<>();
 
-            usersDtos.add(userDto);
+        for (User user : userRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit))) {
+            usersDtos.add(asDto(user));
         }
 
-        return new ResponseEntity<>(usersDtos, HttpStatus.OK);
+        HttpHeaders headers = new HttpHeaders();
+
+        if (usersDtos.size() == limit) {
+            Long last = usersDtos.get(usersDtos.size() - 1).getId();
+            String next = uriComponentsBuilder.path("/user").queryParam("limit", limit).queryParam("after", last).toUriString();
+            headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+
+        return new ResponseEntity<>(usersDtos, headers, HttpStatus.OK);
+    }
+
+    private UserDto asDto(User user) {
+        UserDto userDto = new UserDto();
+        userDto.setId(user.getId());
+        userDto.setFirstName(user.getUserName().getFirstName());
+        userDto.setLastName(user.getUserName().getLastName());
+        userDto.setLogin(user.getLogin());
+        userDto.setPassword(user.getPassword());
+
+        TeamRole teamRole = user.getTeamRole();
+        if (teamRole != null) {
+            userDto.setTeamRole(teamRole.name());
+        }
+
+        PhoneNumber phoneNumber = user.getPhoneNumber();
+        if (phoneNumber != null) {
+            userDto.setPhonePrefix(phoneNumber.getPrefix());
+            userDto.setPhoneNumber(phoneNumber.getNumber());
+        }
+
+        EmailAddress emailAddress = user.getEmailAddress();
+        if (emailAddress != null) {
+            userDto.setEmailAddress(emailAddress.getEmailAddress());
+        }
+
+        return userDto;
     }
 
     @GetMapping(value = "/{id}")
     public ResponseEntity<UserDto> getUser(@PathVariable("id") Long id) {
+        Optional<ResponseEntity<UserDto>> notModified = VersionETags.notModified(() -> userRepository.findVersionById(id));
+
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+
         try {
             User user = getUserById(id);
 
-            UserDto userDto = new UserDto();
-            userDto.setId(user.getId());
-            userDto.setFirstName(user.getUserName().getFirstName());
-            userDto.setLastName(user.getUserName().getLastName());
-            userDto.setLogin(user.getLogin());
-            userDto.setPassword(user.getPassword());
-
-            TeamRole teamRole = user.getTeamRole();
-            if (teamRole != null) {
-                userDto.setTeamRole(teamRole.name());
-            }
-
-            PhoneNumber phoneNumber = user.getPhoneNumber();
-            if (phoneNumber != null) {
-                userDto.setPhonePrefix(phoneNumber.getPrefix());
-                userDto.setPhoneNumber(phoneNumber.getNumber());
-            }
-
-            EmailAddress emailAddress = user.getEmailAddress();
-            if (emailAddress != null) {
-                userDto.setEmailAddress(emailAddress.getEmailAddress());
-            }
-
-            return new ResponseEntity<>(userDto, HttpStatus.OK);
+            return new ResponseEntity<>(asDto(user), VersionETags.headers(user.getVersion()), HttpStatus.OK);
         } catch (UserNotFoundException exception) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
@@ -120,6 +144,7 @@ public class UserController {
             user.setPassword(userDto.getPassword());
 
             User saved = userRepository.save(user);
+            uniqueNameIndex.put(USER, userDto.getFirstName(), userDto.getLastName());
 
             HttpHeaders headers = new HttpHeaders();
             headers.setLocation(uriComponentsBuilder.path("/user/{id}").buildAndExpand(saved.getId()).toUri());
@@ -128,7 +153,8 @@ public class UserController {
     }
 
     private boolean exists(UserDto userDto) {
-        return !userRepository.findByUserNameFirstNameAndUserNameLastName(userDto.getFirstName(), userDto.getLastName()).isEmpty();
+        return uniqueNameIndex.mightContain(USER, userDto.getFirstName(), userDto.getLastName())
+                && !userRepository.findByUserNameFirstNameAndUserNameLastName(userDto.getFirstName(), userDto.getLastName()).isEmpty();
     }
 
     @PutMapping(value = "/{id}")
@@ -167,31 +193,9 @@ public class UserController {
         }
         
         User updated = userRepository.save(user);
+        recipientIndex.contactChanged(updated);
 
-        UserDto response = new UserDto();
-        response.setId(updated.getId());
-        response.setFirstName(updated.getUserName().getFirstName());
-        response.setLastName(updated.getUserName().getLastName());
-        response.setLogin(updated.getLogin());
-        response.setPassword(updated.getPassword());
-
-        TeamRole teamRole = updated.getTeamRole();
-        if (teamRole != null) {
-            response.setTeamRole(teamRole.name());
-        }
-
-        PhoneNumber phoneNumber = updated.getPhoneNumber();
-        if (phoneNumber != null) {
-            response.setPhonePrefix(phoneNumber.getPrefix());
-            response.setPhoneNumber(phoneNumber.getNumber());
-        }
-
-        EmailAddress emailAddress = updated.getEmailAddress();
-        if (emailAddress != null) {
-            response.setEmailAddress(emailAddress.getEmailAddress());
-        }
-
-        return new ResponseEntity<>(response, HttpStatus.OK);
+        return new ResponseEntity<>(asDto(updated), HttpStatus.OK);
     }
 
     @DeleteMapping(value = "/{id}")
@@ -205,6 +209,7 @@ public class UserController {
         }
 
         userRepository.delete(user);
+        recipientIndex.userRemoved(user);
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
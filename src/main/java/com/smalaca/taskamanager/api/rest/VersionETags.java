@@ -0,0 +1,87 @@
+package com.smalaca.taskamanager.api.rest;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+final class VersionETags {
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private VersionETags() { }
+
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    static HttpHeaders headers(Long version) {
+        HttpHeaders headers = new HttpHeaders();
+
+        if (version != null) {
+            headers.setETag(of(version));
+        }
+
+        return headers;
+    }
+
+    static <T> Optional<ResponseEntity<T>> notModified(Supplier<Optional<Long>> versionLookup) {
+        if (ifNoneMatch().isEmpty()) {
+            return Optional.empty();
+        }
+
+        return versionLookup.get().flatMap(VersionETags::notModified);
+    }
+
+    static <T> Optional<ResponseEntity<T>> notModified(Long version) {
+        Optional<String> ifNoneMatch = ifNoneMatch();
+
+        if (ifNoneMatch.isPresent() && matches(ifNoneMatch.get(), version)) {
+            return Optional.of(new ResponseEntity<>(headers(version), HttpStatus.NOT_MODIFIED));
+        }
+
+        return Optional.empty();
+    }
+
+    private static boolean matches(String ifNoneMatch, Long version) {
+        String expected = of(version);
+
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+
+            if (candidate.startsWith(WEAK_PREFIX)) {
+                candidate = candidate.substring(WEAK_PREFIX.length());
+            }
+
+            if (ANY.equals(candidate) || expected.equals(candidate)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static Optional<String> ifNoneMatch() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return Optional.empty();
+        }
+
+        HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+        String values = String.join(",", Collections.list(request.getHeaders(HttpHeaders.IF_NONE_MATCH)));
+
+        if (values.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(values);
+    }
+}
@@ -0,0 +1,43 @@
+package com.smalaca.taskamanager.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class EpicTreeDto {
+    private Long id;
+    private String title;
+    private String status;
+    private List<StoryTreeDto> stories = new ArrayList<>();
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public List<StoryTreeDto> getStories() {
+        return stories;
+    }
+
+    public void addStory(StoryTreeDto story) {
+        stories.add(story);
+    }
+}
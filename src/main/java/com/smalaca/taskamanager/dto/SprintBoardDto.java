@@ -0,0 +1,43 @@
+package com.smalaca.taskamanager.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class SprintBoardDto {
+    private Long id;
+    private String name;
+    private Map<String, List<BoardItemDto>> tasks;
+    private Map<String, List<BoardItemDto>> stories;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Map<String, List<BoardItemDto>> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(Map<String, List<BoardItemDto>> tasks) {
+        this.tasks = tasks;
+    }
+
+    public Map<String, List<BoardItemDto>> getStories() {
+        return stories;
+    }
+
+    public void setStories(Map<String, List<BoardItemDto>> stories) {
+        this.stories = stories;
+    }
+}
@@ -0,0 +1,43 @@
+package com.smalaca.taskamanager.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class StoryTreeDto {
+    private Long id;
+    private String title;
+    private String status;
+    private List<TaskTreeDto> tasks = new ArrayList<>();
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public List<TaskTreeDto> getTasks() {
+        return tasks;
+    }
+
+    public void addTask(TaskTreeDto task) {
+        tasks.add(task);
+    }
+}
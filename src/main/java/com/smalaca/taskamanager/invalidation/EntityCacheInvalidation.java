@@ -0,0 +1,96 @@
+package com.smalaca.taskamanager.invalidation;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+public class EntityCacheInvalidation implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+    public static final String REGION = "entity";
+    private static final String SEPARATOR = "#";
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final InvalidationBus invalidationBus;
+
+    public EntityCacheInvalidation(EntityManagerFactory entityManagerFactory, InvalidationBus invalidationBus) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.invalidationBus = invalidationBus;
+
+        EventListenerRegistry listeners = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        listeners.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        listeners.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        invalidationBus.subscribe(REGION, this::evict);
+        invalidationBus.onLoss(() -> sessionFactory.getCache().evictAllRegions());
+    }
+
+    public static String key(String entityName, Object id) {
+        return entityName + SEPARATOR + id;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) { }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) { }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) { }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    private void publish(EntityPersister persister, Object id) {
+        if (persister.canWriteToCache()) {
+            invalidationBus.publish(REGION, key(persister.getEntityName(), id));
+        }
+    }
+
+    private void evict(Set<String> keys) {
+        Cache cache = sessionFactory.getCache();
+
+        for (String key : keys) {
+            int separator = key.lastIndexOf(SEPARATOR);
+            String entityName = key.substring(0, separator);
+            Long id = Long.valueOf(key.substring(separator + 1));
+
+            cache.evictEntityData(entityName, id);
+            sessionFactory.getMappingMetamodel().forEachCollectionDescriptor(collection -> {
+                if (collection.hasCache() && collection.getOwnerEntityPersister().getEntityName().equals(entityName)) {
+                    cache.evictCollectionData(collection.getRole(), id);
+                }
+            });
+        }
+
+        cache.evictQueryRegions();
+    }
+}
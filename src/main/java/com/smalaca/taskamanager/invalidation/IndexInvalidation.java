@@ -0,0 +1,34 @@
+package com.smalaca.taskamanager.invalidation;
+
+import com.smalaca.taskamanager.model.entities.Project;
+import com.smalaca.taskamanager.model.entities.Team;
+import com.smalaca.taskamanager.model.entities.User;
+import com.smalaca.taskamanager.service.ProjectRecipientIndex;
+import com.smalaca.taskamanager.service.UniqueNameIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+public class IndexInvalidation {
+    private static final Set<String> RECIPIENT_SOURCES = Set.of(Project.class.getName(), Team.class.getName(), User.class.getName());
+
+    private final ProjectRecipientIndex recipientIndex;
+
+    public IndexInvalidation(ProjectRecipientIndex recipientIndex, UniqueNameIndex uniqueNameIndex, InvalidationBus invalidationBus) {
+        this.recipientIndex = recipientIndex;
+
+        uniqueNameIndex.bypassWhen(invalidationBus::hasPeers);
+        invalidationBus.subscribe(EntityCacheInvalidation.REGION, this::clearRecipients);
+        invalidationBus.onLoss(recipientIndex::clear);
+    }
+
+    private void clearRecipients(Set<String> keys) {
+        for (String key : keys) {
+            if (RECIPIENT_SOURCES.contains(key.substring(0, key.lastIndexOf('#')))) {
+                recipientIndex.clear();
+                return;
+            }
+        }
+    }
+}
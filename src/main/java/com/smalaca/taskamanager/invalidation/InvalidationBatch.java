@@ -0,0 +1,5 @@
+package com.smalaca.taskamanager.invalidation;
+
+import java.util.List;
+
+public record InvalidationBatch(String origin, List<InvalidationKey> keys) { }
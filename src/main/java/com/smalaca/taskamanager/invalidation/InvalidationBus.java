@@ -0,0 +1,176 @@
+package com.smalaca.taskamanager.invalidation;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+public class InvalidationBus implements MeterBinder, AutoCloseable {
+    private final String nodeId = UUID.randomUUID().toString();
+    private final InvalidationTransport transport;
+    private final int maxBatchSize;
+    private final Set<InvalidationKey> pending = new LinkedHashSet<>();
+    private final Map<String, List<Consumer<Set<String>>>> subscribers = new ConcurrentHashMap<>();
+    private final List<Runnable> lossListeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "invalidation-bus");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final LongAdder published = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder losses = new LongAdder();
+
+    public InvalidationBus(InvalidationTransport transport, Duration flushInterval, int maxBatchSize) {
+        this.transport = transport;
+        this.maxBatchSize = maxBatchSize;
+        transport.onReceive(this::receive);
+        transport.onLoss(this::lost);
+        flusher.scheduleWithFixedDelay(this::flush, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void publish(String region, String key) {
+        published.increment();
+        boolean batchFull;
+
+        synchronized (pending) {
+            if (!pending.add(new InvalidationKey(region, key))) {
+                coalesced.increment();
+            }
+
+            batchFull = pending.size() >= maxBatchSize;
+        }
+
+        if (batchFull) {
+            flusher.execute(this::flush);
+        }
+    }
+
+    public void subscribe(String region, Consumer<Set<String>> subscriber) {
+        subscribers.computeIfAbsent(region, name -> new CopyOnWriteArrayList<>()).add(subscriber);
+    }
+
+    public void onLoss(Runnable listener) {
+        lossListeners.add(listener);
+    }
+
+    public boolean hasPeers() {
+        return transport.hasPeers();
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public void flush() {
+        List<InvalidationKey> keys;
+
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            keys = new ArrayList<>(pending);
+            pending.clear();
+        }
+
+        for (int from = 0; from < keys.size(); from += maxBatchSize) {
+            List<InvalidationKey> batch = keys.subList(from, Math.min(from + maxBatchSize, keys.size()));
+
+            try {
+                transport.send(new InvalidationBatch(nodeId, List.copyOf(batch)));
+                sent.add(batch.size());
+            } catch (RuntimeException exception) {
+                failures.increment();
+                requeue(batch);
+            }
+        }
+    }
+
+    private void requeue(List<InvalidationKey> keys) {
+        synchronized (pending) {
+            pending.addAll(keys);
+        }
+    }
+
+    @Override
+    public void close() {
+        flusher.shutdown();
+        flush();
+        transport.close();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("invalidation.bus.published", published, LongAdder::sum)
+                .description("Invalidation keys published by this node")
+                .register(registry);
+        FunctionCounter.builder("invalidation.bus.coalesced", coalesced, LongAdder::sum)
+                .description("Invalidation keys merged into a key already waiting to be sent")
+                .register(registry);
+        FunctionCounter.builder("invalidation.bus.sent", sent, LongAdder::sum)
+                .description("Invalidation keys sent to other nodes")
+                .register(registry);
+        FunctionCounter.builder("invalidation.bus.received", received, LongAdder::sum)
+                .description("Invalidation keys received from other nodes")
+                .register(registry);
+        FunctionCounter.builder("invalidation.bus.failures", failures, LongAdder::sum)
+                .description("Invalidation batches that failed to be sent or applied")
+                .register(registry);
+        FunctionCounter.builder("invalidation.bus.losses", losses, LongAdder::sum)
+                .description("Invalidation batches from other nodes detected as lost")
+                .register(registry);
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void receive(InvalidationBatch batch) {
+        if (nodeId.equals(batch.origin())) {
+            return;
+        }
+
+        received.add(batch.keys().size());
+        Map<String, Set<String>> keysByRegion = new LinkedHashMap<>();
+
+        for (InvalidationKey key : batch.keys()) {
+            keysByRegion.computeIfAbsent(key.region(), region -> new LinkedHashSet<>()).add(key.key());
+        }
+
+        keysByRegion.forEach((region, keys) -> {
+            for (Consumer<Set<String>> subscriber : subscribers.getOrDefault(region, List.of())) {
+                try {
+                    subscriber.accept(keys);
+                } catch (RuntimeException exception) {
+                    failures.increment();
+                }
+            }
+        });
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void lost() {
+        losses.increment();
+
+        for (Runnable listener : lossListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException exception) {
+                failures.increment();
+            }
+        }
+    }
+}
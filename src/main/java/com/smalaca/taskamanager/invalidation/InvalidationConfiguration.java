@@ -0,0 +1,46 @@
+package com.smalaca.taskamanager.invalidation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Arrays;
+
+@Configuration
+public class InvalidationConfiguration {
+    private static final String TRANSPORT = "taskmanager.invalidation.transport";
+
+    @Bean(destroyMethod = "close")
+    public InvalidationBus invalidationBus(
+            InvalidationTransport transport,
+            @Value("${taskmanager.invalidation.flush-interval:50ms}") Duration flushInterval,
+            @Value("${taskmanager.invalidation.max-batch-size:500}") int maxBatchSize) {
+        return new InvalidationBus(transport, flushInterval, maxBatchSize);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = TRANSPORT, havingValue = "loopback", matchIfMissing = true)
+    public InvalidationTransport loopbackInvalidationTransport() {
+        return new LoopbackInvalidationTransport.Group().join();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = TRANSPORT, havingValue = "udp")
+    public InvalidationTransport udpInvalidationTransport(
+            @Value("${taskmanager.invalidation.udp.address:0.0.0.0:47800}") String address,
+            @Value("${taskmanager.invalidation.udp.peers:}") String peers) {
+        return new UdpInvalidationTransport(socketAddress(address), Arrays.stream(peers.split(","))
+                .map(String::trim)
+                .filter(peer -> !peer.isEmpty())
+                .map(this::socketAddress)
+                .toList());
+    }
+
+    private InetSocketAddress socketAddress(String hostAndPort) {
+        int separator = hostAndPort.lastIndexOf(':');
+        return new InetSocketAddress(hostAndPort.substring(0, separator), Integer.parseInt(hostAndPort.substring(separator + 1)));
+    }
+}
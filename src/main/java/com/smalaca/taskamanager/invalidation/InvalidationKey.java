@@ -0,0 +1,3 @@
+package com.smalaca.taskamanager.invalidation;
+
+public record InvalidationKey(String region, String key) { }
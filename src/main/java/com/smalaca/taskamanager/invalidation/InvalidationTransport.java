@@ -0,0 +1,16 @@
+package com.smalaca.taskamanager.invalidation;
+
+import java.util.function.Consumer;
+
+public interface InvalidationTransport extends AutoCloseable {
+    void send(InvalidationBatch batch);
+
+    void onReceive(Consumer<InvalidationBatch> receiver);
+
+    default void onLoss(Runnable listener) { }
+
+    boolean hasPeers();
+
+    @Override
+    void close();
+}
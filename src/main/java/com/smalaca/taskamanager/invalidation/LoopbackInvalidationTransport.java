@@ -0,0 +1,47 @@
+package com.smalaca.taskamanager.invalidation;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+public final class LoopbackInvalidationTransport implements InvalidationTransport {
+    private final Set<LoopbackInvalidationTransport> group;
+    private volatile Consumer<InvalidationBatch> receiver = batch -> { };
+
+    private LoopbackInvalidationTransport(Set<LoopbackInvalidationTransport> group) {
+        this.group = group;
+        this.group.add(this);
+    }
+
+    @Override
+    public void send(InvalidationBatch batch) {
+        for (LoopbackInvalidationTransport member : group) {
+            if (member != this) {
+                member.receiver.accept(batch);
+            }
+        }
+    }
+
+    @Override
+    public boolean hasPeers() {
+        return group.size() > 1;
+    }
+
+    @Override
+    public void onReceive(Consumer<InvalidationBatch> receiver) {
+        this.receiver = receiver;
+    }
+
+    @Override
+    public void close() {
+        group.remove(this);
+    }
+
+    public static final class Group {
+        private final Set<LoopbackInvalidationTransport> members = ConcurrentHashMap.newKeySet();
+
+        public LoopbackInvalidationTransport join() {
+            return new LoopbackInvalidationTransport(members);
+        }
+    }
+}
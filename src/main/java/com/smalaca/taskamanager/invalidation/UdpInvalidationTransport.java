@@ -0,0 +1,180 @@
+package com.smalaca.taskamanager.invalidation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+public class UdpInvalidationTransport implements InvalidationTransport {
+    private static final int MAX_PAYLOAD_SIZE = 8 * 1024;
+    private static final int MAX_DATAGRAM_SIZE = 64 * 1024;
+
+    private final DatagramSocket socket;
+    private final List<InetSocketAddress> peers;
+    private final Thread listener;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Long> lastSequences = new HashMap<>();
+    private volatile Consumer<InvalidationBatch> receiver = batch -> { };
+    private volatile Runnable lossListener = () -> { };
+
+    public UdpInvalidationTransport(InetSocketAddress address, List<InetSocketAddress> peers) {
+        try {
+            this.socket = new DatagramSocket(address);
+        } catch (SocketException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        this.peers = List.copyOf(peers);
+        this.listener = new Thread(this::listen, "invalidation-udp-" + socket.getLocalPort());
+        this.listener.setDaemon(true);
+        this.listener.start();
+    }
+
+    public int port() {
+        return socket.getLocalPort();
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public void send(InvalidationBatch batch) {
+        IOException failure = null;
+
+        for (byte[] payload : payloadsOf(batch)) {
+            for (InetSocketAddress peer : peers) {
+                try {
+                    socket.send(new DatagramPacket(payload, payload.length, peer));
+                } catch (IOException | RuntimeException exception) {
+                    if (failure == null) {
+                        failure = new IOException("Failed to send invalidation batch to some peers");
+                    }
+
+                    failure.addSuppressed(exception);
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        }
+    }
+
+    @Override
+    public boolean hasPeers() {
+        return !peers.isEmpty();
+    }
+
+    @Override
+    public void onReceive(Consumer<InvalidationBatch> receiver) {
+        this.receiver = receiver;
+    }
+
+    @Override
+    public void onLoss(Runnable listener) {
+        this.lossListener = listener;
+    }
+
+    @Override
+    public void close() {
+        socket.close();
+    }
+
+    private void listen() {
+        byte[] buffer = new byte[MAX_DATAGRAM_SIZE];
+
+        while (!socket.isClosed()) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+
+            try {
+                socket.receive(packet);
+                receiver.accept(batchOf(packet));
+            } catch (IOException exception) {
+                if (socket.isClosed()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private List<byte[]> payloadsOf(InvalidationBatch batch) {
+        List<byte[]> payloads = new ArrayList<>();
+        List<InvalidationKey> keys = new ArrayList<>();
+        int size = 0;
+
+        for (InvalidationKey key : batch.keys()) {
+            int keySize = key.region().length() + key.key().length();
+
+            if (!keys.isEmpty() && size + keySize > MAX_PAYLOAD_SIZE) {
+                payloads.add(payloadOf(batch.origin(), keys));
+                keys = new ArrayList<>();
+                size = 0;
+            }
+
+            keys.add(key);
+            size += keySize;
+        }
+
+        if (!keys.isEmpty()) {
+            payloads.add(payloadOf(batch.origin(), keys));
+        }
+
+        return payloads;
+    }
+
+    private byte[] payloadOf(String origin, List<InvalidationKey> keys) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeUTF(origin);
+            output.writeLong(sequence.incrementAndGet());
+            output.writeInt(keys.size());
+
+            for (InvalidationKey key : keys) {
+                output.writeUTF(key.region());
+                output.writeUTF(key.key());
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    private void detectLoss(String origin, long received) {
+        Long last = lastSequences.get(origin);
+
+        if (last == null || received > last) {
+            lastSequences.put(origin, received);
+        }
+
+        if (last != null && received > last + 1) {
+            lossListener.run();
+        }
+    }
+
+    private InvalidationBatch batchOf(DatagramPacket packet) throws IOException {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(packet.getData(), packet.getOffset(), packet.getLength()))) {
+            String origin = input.readUTF();
+            detectLoss(origin, input.readLong());
+            int size = input.readInt();
+            List<InvalidationKey> keys = new ArrayList<>();
+
+            for (int i = 0; i < size; i++) {
+                keys.add(new InvalidationKey(input.readUTF(), input.readUTF()));
+            }
+
+            return new InvalidationBatch(origin, keys);
+        }
+    }
+}
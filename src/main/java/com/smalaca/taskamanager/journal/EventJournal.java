@@ -0,0 +1,249 @@
+package com.smalaca.taskamanager.journal;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class EventJournal implements MeterBinder, AutoCloseable {
+    static final int RECORD_SIZE = Byte.BYTES + Long.BYTES + Long.BYTES;
+
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String SEGMENT_NAME = "%020d" + SEGMENT_SUFFIX;
+    private static final String LOCK_FILE = "writer.lock";
+    private static final int TIMESTAMP = Byte.BYTES;
+    private static final int ITEM_ID = TIMESTAMP + Long.BYTES;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int retainedSegments;
+    private final Clock clock;
+    private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private FileChannel lockChannel;
+    private Segment active;
+    private int activeRecords;
+    private long lastTimestamp;
+    private volatile long nextOffset;
+
+    public EventJournal(Path directory, int segmentSize, int retainedSegments, Clock clock) {
+        if (segmentSize < RECORD_SIZE || retainedSegments < 1) {
+            throw new IllegalArgumentException("Journal needs room for at least one record and one segment");
+        }
+
+        this.directory = directory;
+        this.segmentSize = segmentSize - segmentSize % RECORD_SIZE;
+        this.retainedSegments = retainedSegments;
+        this.clock = clock;
+        recover();
+    }
+
+    public synchronized long append(JournalEventType type, long itemId) {
+        if (activeRecords == active.capacity()) {
+            roll();
+        }
+
+        long timestamp = Math.max(lastTimestamp, clock.millis());
+        int position = activeRecords * RECORD_SIZE;
+        active.buffer().putLong(position + TIMESTAMP, timestamp);
+        active.buffer().putLong(position + ITEM_ID, itemId);
+        active.buffer().put(position, type.code());
+
+        lastTimestamp = timestamp;
+        activeRecords++;
+        return nextOffset++;
+    }
+
+    public long firstOffset() {
+        return segments.firstKey();
+    }
+
+    public long nextOffset() {
+        return nextOffset;
+    }
+
+    public long offsetAt(Instant instant) {
+        long timestamp = instant.toEpochMilli();
+        long low = firstOffset();
+        long high = nextOffset;
+
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            Map.Entry<Long, Segment> segment = segments.floorEntry(middle);
+
+            if (segment == null) {
+                low = Math.max(middle + 1, firstOffset());
+            } else if (timestampAt(segment, middle) < timestamp) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    public void replay(long fromOffset, int limit, Consumer<JournalEntry> consumer) {
+        long offset = Math.max(fromOffset, firstOffset());
+        long end = Math.min(nextOffset, offset + limit);
+
+        while (offset < end) {
+            Map.Entry<Long, Segment> segment = segments.floorEntry(offset);
+
+            if (segment == null) {
+                offset = firstOffset();
+            } else {
+                int position = (int) (offset - segment.getKey()) * RECORD_SIZE;
+                MappedByteBuffer buffer = segment.getValue().buffer();
+                consumer.accept(new JournalEntry(
+                        offset, JournalEventType.of(buffer.get(position)), buffer.getLong(position + TIMESTAMP), buffer.getLong(position + ITEM_ID)));
+                offset++;
+            }
+        }
+    }
+
+    public int segments() {
+        return segments.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        segments.values().forEach(segment -> segment.buffer().force());
+
+        try {
+            lockChannel.close();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("journal.appends", this, EventJournal::nextOffset)
+                .description("Events appended to the journal since it was created")
+                .register(registry);
+        Gauge.builder("journal.segments", this, EventJournal::segments)
+                .description("Segment files currently kept by the journal")
+                .register(registry);
+    }
+
+    private static long timestampAt(Map.Entry<Long, Segment> segment, long offset) {
+        return segment.getValue().buffer().getLong((int) (offset - segment.getKey()) * RECORD_SIZE + TIMESTAMP);
+    }
+
+    private void recover() {
+        try {
+            Files.createDirectories(directory);
+            lock();
+
+            for (Path path : existingSegments()) {
+                String name = path.getFileName().toString();
+                long baseOffset = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+                segments.put(baseOffset, Segment.map(path, Files.size(path) - Files.size(path) % RECORD_SIZE));
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        if (segments.isEmpty()) {
+            nextOffset = 0;
+            roll();
+        } else {
+            active = segments.lastEntry().getValue();
+            activeRecords = active.writtenRecords();
+            nextOffset = segments.lastKey() + activeRecords;
+
+            if (activeRecords > 0) {
+                lastTimestamp = timestampAt(segments.lastEntry(), nextOffset - 1);
+            }
+        }
+    }
+
+    private void lock() throws IOException {
+        lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+        try {
+            if (lockChannel.tryLock() != null) {
+                return;
+            }
+        } catch (OverlappingFileLockException exception) {
+            lockChannel.close();
+            throw new IllegalStateException("Journal in " + directory + " is already open by another writer", exception);
+        }
+
+        lockChannel.close();
+        throw new IllegalStateException("Journal in " + directory + " is already open by another writer");
+    }
+
+    private List<Path> existingSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private void roll() {
+        Path path = directory.resolve(String.format(SEGMENT_NAME, nextOffset));
+
+        try {
+            if (active != null) {
+                active.buffer().force();
+            }
+
+            active = Segment.map(path, segmentSize);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        segments.put(nextOffset, active);
+        activeRecords = 0;
+
+        while (segments.size() > retainedSegments) {
+            delete(segments.pollFirstEntry().getKey());
+        }
+    }
+
+    private void delete(long baseOffset) {
+        try {
+            Files.deleteIfExists(directory.resolve(String.format(SEGMENT_NAME, baseOffset)));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private record Segment(MappedByteBuffer buffer, int capacity) {
+        private static Segment map(Path path, long size) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                return new Segment(channel.map(FileChannel.MapMode.READ_WRITE, 0, size), (int) (size / RECORD_SIZE));
+            }
+        }
+
+        private int writtenRecords() {
+            int records = 0;
+
+            while (records < capacity && buffer.get(records * RECORD_SIZE) != 0) {
+                records++;
+            }
+
+            return records;
+        }
+    }
+}
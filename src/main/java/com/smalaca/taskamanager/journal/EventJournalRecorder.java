@@ -0,0 +1,69 @@
+package com.smalaca.taskamanager.journal;
+
+import com.smalaca.taskamanager.events.EpicReadyToPrioritize;
+import com.smalaca.taskamanager.events.StoryApprovedEvent;
+import com.smalaca.taskamanager.events.StoryDoneEvent;
+import com.smalaca.taskamanager.events.TaskApprovedEvent;
+import com.smalaca.taskamanager.events.ToDoItemReleasedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.event.EventListener;
+
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.smalaca.taskamanager.journal.JournalEventType.EPIC_READY_TO_PRIORITIZE;
+import static com.smalaca.taskamanager.journal.JournalEventType.STORY_APPROVED;
+import static com.smalaca.taskamanager.journal.JournalEventType.STORY_DONE;
+import static com.smalaca.taskamanager.journal.JournalEventType.TASK_APPROVED;
+import static com.smalaca.taskamanager.journal.JournalEventType.TODO_ITEM_RELEASED;
+
+public class EventJournalRecorder implements MeterBinder {
+    private final EventJournal journal;
+    private final LongAdder failures = new LongAdder();
+
+    public EventJournalRecorder(EventJournal journal) {
+        this.journal = journal;
+    }
+
+    @EventListener
+    public void record(StoryDoneEvent event) {
+        append(STORY_DONE, event.getStoryId());
+    }
+
+    @EventListener
+    public void record(StoryApprovedEvent event) {
+        append(STORY_APPROVED, event.getStoryId());
+    }
+
+    @EventListener
+    public void record(TaskApprovedEvent event) {
+        append(TASK_APPROVED, event.getTaskId());
+    }
+
+    @EventListener
+    public void record(EpicReadyToPrioritize event) {
+        append(EPIC_READY_TO_PRIORITIZE, event.getEpicId());
+    }
+
+    @EventListener
+    public void record(ToDoItemReleasedEvent event) {
+        append(TODO_ITEM_RELEASED, event.getToDoItemId());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("journal.append.failures", failures, LongAdder::sum)
+                .description("Events that could not be appended because a new segment could not be created")
+                .register(registry);
+    }
+
+    private void append(JournalEventType type, long itemId) {
+        try {
+            journal.append(type, itemId);
+        } catch (UncheckedIOException exception) {
+            failures.increment();
+        }
+    }
+}
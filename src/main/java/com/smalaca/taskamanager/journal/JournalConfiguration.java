@@ -0,0 +1,25 @@
+package com.smalaca.taskamanager.journal;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Clock;
+
+@Configuration
+public class JournalConfiguration {
+    @Bean(destroyMethod = "close")
+    public EventJournal eventJournal(
+            @Value("${taskmanager.journal.directory:journal}") Path directory,
+            @Value("${taskmanager.journal.segment-size:16MB}") DataSize segmentSize,
+            @Value("${taskmanager.journal.retained-segments:64}") int retainedSegments) {
+        return new EventJournal(directory, Math.toIntExact(segmentSize.toBytes()), retainedSegments, Clock.systemUTC());
+    }
+
+    @Bean
+    public EventJournalRecorder eventJournalRecorder(EventJournal eventJournal) {
+        return new EventJournalRecorder(eventJournal);
+    }
+}
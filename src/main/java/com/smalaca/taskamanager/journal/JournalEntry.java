@@ -0,0 +1,3 @@
+package com.smalaca.taskamanager.journal;
+
+public record JournalEntry(long offset, JournalEventType type, long timestamp, long itemId) { }
@@ -0,0 +1,35 @@
+package com.smalaca.taskamanager.journal;
+
+public enum JournalEventType {
+    STORY_DONE(1),
+    STORY_APPROVED(2),
+    TASK_APPROVED(3),
+    EPIC_READY_TO_PRIORITIZE(4),
+    TODO_ITEM_RELEASED(5);
+
+    private static final JournalEventType[] BY_CODE = new JournalEventType[values().length + 1];
+
+    static {
+        for (JournalEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final byte code;
+
+    JournalEventType(int code) {
+        this.code = (byte) code;
+    }
+
+    byte code() {
+        return code;
+    }
+
+    static JournalEventType of(byte code) {
+        if (code <= 0 || code >= BY_CODE.length) {
+            throw new IllegalStateException("Unknown journal event type: " + code);
+        }
+
+        return BY_CODE[code];
+    }
+}
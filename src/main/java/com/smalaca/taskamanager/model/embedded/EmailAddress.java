@@ -17,6 +17,12 @@ public class EmailAddress {
         return emailAddress;
     }
 
+    public EmailAddress copy() {
+        EmailAddress copy = new EmailAddress();
+        copy.emailAddress = emailAddress;
+        return copy;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,50 @@
+package com.smalaca.taskamanager.model.embedded;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+final class ParticipantKey {
+    private static final String NULL_PART = "-";
+    private static final String DIGEST = "SHA-256";
+
+    private ParticipantKey() { }
+
+    static String of(String firstName, String lastName, EmailAddress emailAddress, PhoneNumber phoneNumber) {
+        StringBuilder key = new StringBuilder();
+        append(key, firstName);
+        append(key, lastName);
+
+        if (emailAddress == null) {
+            key.append(NULL_PART);
+        } else {
+            append(key, emailAddress.getEmailAddress());
+        }
+
+        if (phoneNumber == null) {
+            key.append(NULL_PART);
+        } else {
+            append(key, phoneNumber.getPrefix());
+            append(key, phoneNumber.getNumber());
+        }
+
+        return digest(key.toString());
+    }
+
+    private static void append(StringBuilder key, String part) {
+        if (part == null) {
+            key.append(NULL_PART);
+        } else {
+            key.append(part.length()).append(':').append(part);
+        }
+    }
+
+    private static String digest(String key) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(DIGEST).digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
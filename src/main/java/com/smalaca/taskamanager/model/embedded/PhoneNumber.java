@@ -30,6 +30,13 @@ public class PhoneNumber {
         this.number = number;
     }
 
+    public PhoneNumber copy() {
+        PhoneNumber copy = new PhoneNumber();
+        copy.prefix = prefix;
+        copy.number = number;
+        return copy;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -45,6 +45,26 @@ public class Stakeholder {
         return emailAddress;
     }
 
+    public Stakeholder copy() {
+        Stakeholder copy = new Stakeholder();
+        copy.firstName = firstName;
+        copy.lastName = lastName;
+
+        if (emailAddress != null) {
+            copy.emailAddress = emailAddress.copy();
+        }
+
+        if (phoneNumber != null) {
+            copy.phoneNumber = phoneNumber.copy();
+        }
+
+        return copy;
+    }
+
+    public String key() {
+        return ParticipantKey.of(firstName, lastName, emailAddress, phoneNumber);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
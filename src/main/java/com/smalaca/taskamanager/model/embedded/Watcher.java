@@ -47,6 +47,26 @@ public class Watcher {
         return emailAddress;
     }
 
+    public Watcher copy() {
+        Watcher copy = new Watcher();
+        copy.firstName = firstName;
+        copy.lastName = lastName;
+
+        if (emailAddress != null) {
+            copy.emailAddress = emailAddress.copy();
+        }
+
+        if (phoneNumber != null) {
+            copy.phoneNumber = phoneNumber.copy();
+        }
+
+        return copy;
+    }
+
+    public String key() {
+        return ParticipantKey.of(firstName, lastName, emailAddress, phoneNumber);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -6,6 +6,8 @@ import com.smalaca.taskamanager.model.embedded.Stakeholder;
 import com.smalaca.taskamanager.model.embedded.Watcher;
 import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
 import com.smalaca.taskamanager.model.interfaces.ToDoItem;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Embedded;
@@ -13,19 +15,32 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapKeyColumn;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Version;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.TO_BE_DEFINED;
 
 @Entity
+@NamedEntityGraph(name = "Epic.details", attributeNodes = @NamedAttributeNode("watchers"))
 @SuppressWarnings("MethodCount")
 public class Epic implements ToDoItem {
+    private static final int KEY_LENGTH = 64;
+
     @Id
     @GeneratedValue
     private Long id;
 
+    @Version
+    private Long version;
+
     private String title;
 
     private String description;
@@ -39,10 +54,14 @@ public class Epic implements ToDoItem {
     private Project project;
 
     @ElementCollection
-    private List<Watcher> watchers = new ArrayList<>();
+    @Fetch(FetchMode.SUBSELECT)
+    @MapKeyColumn(name = "watcher_key", length = KEY_LENGTH)
+    private Map<String, Watcher> watchers = new LinkedHashMap<>();
 
     @ElementCollection
-    private List<Stakeholder> stakeholders = new ArrayList<>();
+    @Fetch(FetchMode.SUBSELECT)
+    @MapKeyColumn(name = "stakeholder_key", length = KEY_LENGTH)
+    private Map<String, Stakeholder> stakeholders = new LinkedHashMap<>();
 
     @Embedded
     private Assignee assignee;
@@ -55,6 +74,10 @@ public class Epic implements ToDoItem {
         return id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public String getTitle() {
         return title;
     }
@@ -99,28 +122,43 @@ public class Epic implements ToDoItem {
     }
 
     @Override
-    public List<Watcher> getWatchers() {
-        return watchers;
+    public Collection<Watcher> getWatchers() {
+        return watchers.values().stream().map(Watcher::copy).toList();
     }
 
     public void addWatcher(Watcher watcher) {
-        watchers.add(watcher);
+        watchers.putIfAbsent(watcher.key(), watcher.copy());
+    }
+
+    public void addWatchers(Collection<Watcher> watchers) {
+        watchers.forEach(this::addWatcher);
+    }
+
+    public void removeWatchers(Collection<Watcher> watchers) {
+        watchers.forEach(watcher -> this.watchers.remove(watcher.key()));
     }
 
     public void removeWatcher(Watcher watcher) {
-        if (!watchers.contains(watcher)) {
+        if (watchers.remove(watcher.key()) == null) {
             throw new RuntimeException();
         }
-        watchers.remove(watcher);
     }
 
     @Override
-    public List<Stakeholder> getStakeholders() {
-        return stakeholders;
+    public Collection<Stakeholder> getStakeholders() {
+        return stakeholders.values().stream().map(Stakeholder::copy).toList();
     }
 
     public void addStakeholder(Stakeholder stakeholder) {
-        stakeholders.add(stakeholder);
+        stakeholders.putIfAbsent(stakeholder.key(), stakeholder.copy());
+    }
+
+    public void addStakeholders(Collection<Stakeholder> stakeholders) {
+        stakeholders.forEach(this::addStakeholder);
+    }
+
+    public void removeStakeholders(Collection<Stakeholder> stakeholders) {
+        stakeholders.forEach(stakeholder -> this.stakeholders.remove(stakeholder.key()));
     }
 
     @Override
@@ -129,10 +167,9 @@ public class Epic implements ToDoItem {
     }
 
     public void removeStakeholder(Stakeholder stakeholder) {
-        if (!stakeholders.contains(stakeholder)) {
+        if (stakeholders.remove(stakeholder.key()) == null) {
             throw new RuntimeException();
         }
-        stakeholders.remove(stakeholder);
     }
 
     @Override
@@ -2,21 +2,30 @@ package com.smalaca.taskamanager.model.entities;
 
 import com.smalaca.taskamanager.model.embedded.EmailAddress;
 import com.smalaca.taskamanager.model.embedded.PhoneNumber;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Version;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product-owner")
 public class ProductOwner {
     @Id
     @GeneratedValue
     private Long id;
 
+    @Version
+    private Long version;
+
     private String firstName;
     private String lastName;
 
@@ -33,6 +42,10 @@ public class ProductOwner {
         return id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public String getFirstName() {
         return firstName;
     }
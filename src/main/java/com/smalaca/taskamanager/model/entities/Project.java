@@ -3,23 +3,32 @@ package com.smalaca.taskamanager.model.entities;
 import com.smalaca.taskamanager.model.enums.ProjectStatus;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Version;
 import java.util.ArrayList;
 import java.util.List;
 
 import static com.smalaca.taskamanager.model.enums.ProjectStatus.IDEA;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project")
 public class Project {
     @Id
     @GeneratedValue
     private Long id;
 
+    @Version
+    private Long version;
+
     private String name;
 
     private ProjectStatus projectStatus = IDEA;
@@ -28,6 +37,7 @@ public class Project {
     private ProductOwner productOwner;
 
     @OneToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project-teams")
     private List<Team> teams = new ArrayList<>();
     
     @OneToMany
@@ -40,6 +50,10 @@ public class Project {
         return id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public String getName() {
         return name;
     }
@@ -1,19 +1,32 @@
 package com.smalaca.taskamanager.model.entities;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Version;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "sprint")
 public class Sprint {
     @Id
     @GeneratedValue
     private Long id;
+
+    @Version
+    private Long version;
+
     private String name;
 
     @ManyToOne
@@ -23,12 +36,17 @@ public class Sprint {
     private List<Task> tasks = new ArrayList<>();
 
     @ManyToMany
+    @JoinTable(indexes = @Index(name = "idx_sprint_stories_sprint", columnList = "sprint_id, stories_id"))
     private List<Story> stories = new ArrayList<>();
 
     public Long getId() {
         return id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public String getName() {
         return name;
     }
@@ -6,25 +6,45 @@ import com.smalaca.taskamanager.model.embedded.Stakeholder;
 import com.smalaca.taskamanager.model.embedded.Watcher;
 import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
 import com.smalaca.taskamanager.model.interfaces.ToDoItem;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
-import java.util.ArrayList;
-import java.util.List;
+import jakarta.persistence.MapKeyColumn;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.TO_BE_DEFINED;
 
 @Entity
-@SuppressWarnings("MethodCount")
+@Table(indexes = @Index(name = "idx_task_current_sprint_status", columnList = "current_sprint_id, status"))
+@NamedEntityGraph(name = "Task.details", attributeNodes = @NamedAttributeNode("watchers"))
+@SuppressWarnings({"MethodCount", "checkstyle:ClassFanOutComplexity"})
 public class Task implements ToDoItem {
+    private static final int ID_ALLOCATION_SIZE = 500;
+    private static final int KEY_LENGTH = 64;
+
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
+    @Version
+    private Long version;
+
     private String title;
 
     private String description;
@@ -38,10 +58,14 @@ public class Task implements ToDoItem {
     private Story story;
 
     @ElementCollection
-    private List<Watcher> watchers = new ArrayList<>();
+    @Fetch(FetchMode.SUBSELECT)
+    @MapKeyColumn(name = "watcher_key", length = KEY_LENGTH)
+    private Map<String, Watcher> watchers = new LinkedHashMap<>();
 
     @ElementCollection
-    private List<Stakeholder> stakeholders = new ArrayList<>();
+    @Fetch(FetchMode.SUBSELECT)
+    @MapKeyColumn(name = "stakeholder_key", length = KEY_LENGTH)
+    private Map<String, Stakeholder> stakeholders = new LinkedHashMap<>();
 
     @Embedded
     private Assignee assignee;
@@ -66,6 +90,10 @@ public class Task implements ToDoItem {
         return id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     @Override
     public ToDoItemStatus getStatus() {
         return status;
@@ -93,16 +121,32 @@ public class Task implements ToDoItem {
     }
 
     public void addStakeholder(Stakeholder stakeholder) {
-        stakeholders.add(stakeholder);
+        stakeholders.putIfAbsent(stakeholder.key(), stakeholder.copy());
+    }
+
+    public void addStakeholders(Collection<Stakeholder> stakeholders) {
+        stakeholders.forEach(this::addStakeholder);
+    }
+
+    public void removeStakeholders(Collection<Stakeholder> stakeholders) {
+        stakeholders.forEach(stakeholder -> this.stakeholders.remove(stakeholder.key()));
     }
 
     public void addWatcher(Watcher watcher) {
-        watchers.add(watcher);
+        watchers.putIfAbsent(watcher.key(), watcher.copy());
+    }
+
+    public void addWatchers(Collection<Watcher> watchers) {
+        watchers.forEach(this::addWatcher);
+    }
+
+    public void removeWatchers(Collection<Watcher> watchers) {
+        watchers.forEach(watcher -> this.watchers.remove(watcher.key()));
     }
 
     @Override
-    public List<Watcher> getWatchers() {
-        return watchers;
+    public Collection<Watcher> getWatchers() {
+        return watchers.values().stream().map(Watcher::copy).toList();
     }
 
     public Story getStory() {
@@ -110,10 +154,9 @@ public class Task implements ToDoItem {
     }
 
     public void removeStakeholder(Stakeholder stakeholder) {
-        if (!stakeholders.contains(stakeholder)) {
+        if (stakeholders.remove(stakeholder.key()) == null) {
             throw new RuntimeException();
         }
-        stakeholders.remove(stakeholder);
     }
 
     public void setAssignee(Assignee assignee) {
@@ -121,15 +164,14 @@ public class Task implements ToDoItem {
     }
 
     @Override
-    public List<Stakeholder> getStakeholders() {
-        return stakeholders;
+    public Collection<Stakeholder> getStakeholders() {
+        return stakeholders.values().stream().map(Stakeholder::copy).toList();
     }
 
     public void removeWatcher(Watcher watcher) {
-        if (!watchers.contains(watcher)) {
+        if (watchers.remove(watcher.key()) == null) {
             throw new RuntimeException();
         }
-        watchers.remove(watcher);
     }
 
     @Override
@@ -3,22 +3,31 @@ package com.smalaca.taskamanager.model.entities;
 import com.smalaca.taskamanager.model.embedded.Codename;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "team")
 public class Team {
     @Id
     @GeneratedValue
     private Long id;
 
+    @Version
+    private Long version;
+
     private String name;
 
     @Embedded
@@ -27,6 +36,7 @@ public class Team {
     private String description;
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "team-members")
     private List<User> members = new ArrayList<>();
 
     @ManyToOne
@@ -40,6 +50,10 @@ public class Team {
         return id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public void setName(String name) {
         this.name = name;
     }
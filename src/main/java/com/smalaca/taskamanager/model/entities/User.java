@@ -6,7 +6,10 @@ import com.smalaca.taskamanager.model.embedded.UserName;
 import com.smalaca.taskamanager.model.enums.TeamRole;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -15,16 +18,23 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Table(name = "USERS")
 @SuppressWarnings("MethodCount")
 public class User {
     @Id
     @GeneratedValue
     private Long id;
+
+    @Version
+    private Long version;
+
     private String login;
     private String password;
 
@@ -95,6 +105,10 @@ public class User {
         return id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public void setTeams(List<Team> teams) {
         this.teams = new ArrayList<>(teams);
     }
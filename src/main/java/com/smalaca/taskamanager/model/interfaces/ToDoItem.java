@@ -7,14 +7,14 @@ import com.smalaca.taskamanager.model.embedded.Watcher;
 import com.smalaca.taskamanager.model.entities.Project;
 import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
 
-import java.util.List;
+import java.util.Collection;
 
 public interface ToDoItem {
     ToDoItemStatus getStatus();
 
     Project getProject();
 
-    List<Watcher> getWatchers();
+    Collection<Watcher> getWatchers();
 
     Owner getOwner();
 
@@ -22,7 +22,7 @@ public interface ToDoItem {
 
     Assignee getAssignee();
 
-    List<Stakeholder> getStakeholders();
+    Collection<Stakeholder> getStakeholders();
 
     Long getId();
 }
@@ -17,7 +17,14 @@ import com.smalaca.taskamanager.service.SprintBacklogService;
 import com.smalaca.taskamanager.service.StoryService;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DONE;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.IN_PROGRESS;
 
 @Component
 public class ToDoItemProcessor {
@@ -64,6 +71,28 @@ public class ToDoItemProcessor {
         }
     }
 
+    public void processForAll(Collection<Task> tasks) {
+        Map<Story, List<Task>> progressByStory = new LinkedHashMap<>();
+
+        for (Task task : tasks) {
+            if (task.getStory() != null && (IN_PROGRESS.equals(task.getStatus()) || DONE.equals(task.getStatus()))) {
+                progressByStory.computeIfAbsent(task.getStory(), story -> new ArrayList<>()).add(task);
+            } else {
+                processFor(task);
+            }
+        }
+
+        progressByStory.forEach((story, storyTasks) -> {
+            storyService.updateProgressOf(story, storyTasks);
+
+            if (DONE.equals(story.getStatus()) && storyTasks.stream().anyMatch(task -> DONE.equals(task.getStatus()))) {
+                StoryDoneEvent event = new StoryDoneEvent();
+                event.setStoryId(story.getId());
+                eventsRegistry.publish(event);
+            }
+        });
+    }
+
     private void processDefined(ToDoItem toDoItem) {
         if (toDoItem instanceof Story) {
             Story story = (Story) toDoItem;
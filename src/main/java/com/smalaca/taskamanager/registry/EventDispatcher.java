@@ -0,0 +1,8 @@
+package com.smalaca.taskamanager.registry;
+
+public interface EventDispatcher extends AutoCloseable {
+    void dispatch(Object event);
+
+    @Override
+    default void close() { }
+}
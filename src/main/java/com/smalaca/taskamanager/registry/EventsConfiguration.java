@@ -0,0 +1,79 @@
+package com.smalaca.taskamanager.registry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smalaca.taskamanager.repository.OutboxEventRepository;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class EventsConfiguration {
+    private static final String DISPATCH = "taskmanager.events.dispatch";
+
+    @Bean
+    @ConditionalOnProperty(name = DISPATCH, havingValue = "sync")
+    public EventDispatcher synchronousEventDispatcher(ApplicationEventPublisher publisher) {
+        return new SynchronousEventDispatcher(publisher);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = DISPATCH, havingValue = "async")
+    public QueuedEventDispatcher queuedEventDispatcher(
+            ApplicationEventPublisher publisher,
+            @Value("${taskmanager.events.queue-capacity:1024}") int capacity,
+            @Value("${taskmanager.events.workers:2}") int workers,
+            @Value("${taskmanager.events.overflow:caller-runs}") String overflow) {
+        return new QueuedEventDispatcher(publisher, capacity, workers, OverflowPolicy.from(overflow));
+    }
+
+    @Bean(name = AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+    @ConditionalOnProperty(name = DISPATCH, havingValue = "ring")
+    public ListenerResolvingEventMulticaster applicationEventMulticaster(BeanFactory beanFactory) {
+        return new ListenerResolvingEventMulticaster(beanFactory);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = DISPATCH, havingValue = "ring")
+    public ResolvedEventListeners resolvedEventListeners(ListenerResolvingEventMulticaster multicaster) {
+        return new ResolvedEventListeners(multicaster, EventsRegistry.EVENT_TYPES);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = DISPATCH, havingValue = "ring")
+    public RingBufferEventDispatcher ringBufferEventDispatcher(
+            ResolvedEventListeners listeners, @Value("${taskmanager.events.ring.capacity:8192}") int capacity) {
+        return new RingBufferEventDispatcher(capacity, List.of(listeners::deliver));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = DISPATCH, havingValue = "outbox", matchIfMissing = true)
+    public EventDispatcher outboxEventDispatcher(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        return new OutboxEventDispatcher(outboxEventRepository, objectMapper, Clock.systemUTC());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = DISPATCH, havingValue = "outbox", matchIfMissing = true)
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public OutboxRelay outboxRelay(
+            OutboxEventRepository outboxEventRepository, PlatformTransactionManager transactionManager, ApplicationEventPublisher publisher,
+            ObjectMapper objectMapper,
+            @Value("${taskmanager.events.outbox.relay-interval:200ms}") Duration relayInterval,
+            @Value("${taskmanager.events.outbox.batch-size:500}") int batchSize,
+            @Value("${taskmanager.events.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${taskmanager.events.outbox.retry-backoff:1s}") Duration retryBackoff,
+            @Value("${taskmanager.events.outbox.max-retry-backoff:5m}") Duration maxRetryBackoff,
+            @Value("${taskmanager.events.outbox.claim-lease:1m}") Duration claimLease) {
+        return new OutboxRelay(
+                outboxEventRepository, transactionManager, new SynchronousEventDispatcher(publisher), objectMapper, Clock.systemUTC(),
+                relayInterval, batchSize, new OutboxRetryPolicy(maxAttempts, retryBackoff, maxRetryBackoff), claimLease);
+    }
+}
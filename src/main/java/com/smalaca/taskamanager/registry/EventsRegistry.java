@@ -5,34 +5,38 @@ import com.smalaca.taskamanager.events.StoryApprovedEvent;
 import com.smalaca.taskamanager.events.StoryDoneEvent;
 import com.smalaca.taskamanager.events.TaskApprovedEvent;
 import com.smalaca.taskamanager.events.ToDoItemReleasedEvent;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class EventsRegistry {
-    private final ApplicationEventPublisher publisher;
+    static final List<Class<?>> EVENT_TYPES = List.of(
+            StoryDoneEvent.class, StoryApprovedEvent.class, TaskApprovedEvent.class, EpicReadyToPrioritize.class, ToDoItemReleasedEvent.class);
+
+    private final EventDispatcher dispatcher;
 
-    public EventsRegistry(ApplicationEventPublisher publisher) {
-        this.publisher = publisher;
+    public EventsRegistry(EventDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
     }
 
     public void publish(StoryDoneEvent event) {
-        publisher.publishEvent(event);
+        dispatcher.dispatch(event);
     }
 
     public void publish(StoryApprovedEvent event) {
-        publisher.publishEvent(event);
+        dispatcher.dispatch(event);
     }
 
     public void publish(TaskApprovedEvent event) {
-        publisher.publishEvent(event);
+        dispatcher.dispatch(event);
     }
 
     public void publish(EpicReadyToPrioritize event) {
-        publisher.publishEvent(event);
+        dispatcher.dispatch(event);
     }
 
     public void publish(ToDoItemReleasedEvent event) {
-        publisher.publishEvent(event);
+        dispatcher.dispatch(event);
     }
 }
@@ -0,0 +1,29 @@
+package com.smalaca.taskamanager.registry;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.core.ResolvableType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ListenerResolvingEventMulticaster extends SimpleApplicationEventMulticaster {
+    public ListenerResolvingEventMulticaster(BeanFactory beanFactory) {
+        super(beanFactory);
+    }
+
+    public List<ApplicationListener<?>> listenersOf(Class<?> payloadType, Class<?> sourceType) {
+        ResolvableType eventType = ResolvableType.forClassWithGenerics(PayloadApplicationEvent.class, payloadType);
+        List<ApplicationListener<?>> listeners = new ArrayList<>();
+
+        for (ApplicationListener<?> listener : getApplicationListeners()) {
+            if (supportsEvent(listener, eventType, sourceType)) {
+                listeners.add(listener);
+            }
+        }
+
+        return listeners;
+    }
+}
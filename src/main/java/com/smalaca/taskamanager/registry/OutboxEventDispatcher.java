@@ -0,0 +1,40 @@
+package com.smalaca.taskamanager.registry;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smalaca.taskamanager.model.entities.OutboxEvent;
+import com.smalaca.taskamanager.repository.OutboxEventRepository;
+
+import java.io.UncheckedIOException;
+import java.time.Clock;
+
+public class OutboxEventDispatcher implements EventDispatcher {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    public OutboxEventDispatcher(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper, Clock clock) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @Override
+    public void dispatch(Object event) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setType(event.getClass().getSimpleName());
+        outboxEvent.setPayload(payloadOf(event));
+        outboxEvent.setCreatedAt(clock.instant());
+        outboxEvent.setNextAttemptAt(outboxEvent.getCreatedAt());
+
+        outboxEventRepository.save(outboxEvent);
+    }
+
+    private String payloadOf(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
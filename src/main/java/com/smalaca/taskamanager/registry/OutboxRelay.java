@@ -0,0 +1,199 @@
+package com.smalaca.taskamanager.registry;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smalaca.taskamanager.events.EpicReadyToPrioritize;
+import com.smalaca.taskamanager.events.StoryApprovedEvent;
+import com.smalaca.taskamanager.events.StoryDoneEvent;
+import com.smalaca.taskamanager.events.TaskApprovedEvent;
+import com.smalaca.taskamanager.events.ToDoItemReleasedEvent;
+import com.smalaca.taskamanager.model.entities.OutboxEvent;
+import com.smalaca.taskamanager.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class OutboxRelay implements MeterBinder, AutoCloseable {
+    private static final List<Class<?>> EVENT_TYPES = List.of(
+            StoryDoneEvent.class, StoryApprovedEvent.class, TaskApprovedEvent.class, EpicReadyToPrioritize.class, ToDoItemReleasedEvent.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EventDispatcher delivery;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final int batchSize;
+    private final OutboxRetryPolicy retryPolicy;
+    private final Duration claimLease;
+    private final Map<String, Relayed> relayed = new LinkedHashMap<>();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder parked = new LongAdder();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository, PlatformTransactionManager transactionManager, EventDispatcher delivery,
+            ObjectMapper objectMapper, Clock clock, Duration interval, int batchSize, OutboxRetryPolicy retryPolicy, Duration claimLease) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.delivery = delivery;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.retryPolicy = retryPolicy;
+        this.claimLease = claimLease;
+        EVENT_TYPES.forEach(type -> relayed.put(type.getSimpleName(), new Relayed(type)));
+        scheduler.scheduleWithFixedDelay(this::drain, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public int relay() {
+        String claimToken = UUID.randomUUID().toString();
+        List<OutboxEvent> claimed = Objects.requireNonNullElse(transactionTemplate.execute(status -> claim(claimToken)), List.of());
+
+        if (!claimed.isEmpty()) {
+            deliver(claimed);
+        }
+
+        return claimed.size();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        relayed.forEach((type, relayedType) -> FunctionTimer.builder("outbox.relay.lag", relayedType,
+                        counters -> counters.count.sum(), counters -> counters.lagNanos.sum(), TimeUnit.NANOSECONDS)
+                .description("Time events of this type spent in the outbox before being delivered")
+                .tag("type", type)
+                .register(registry));
+        FunctionCounter.builder("outbox.relay.failures", failures, LongAdder::sum)
+                .description("Failed deliveries; the event stays in the outbox and is retried later")
+                .register(registry);
+        FunctionCounter.builder("outbox.relay.parked", parked, LongAdder::sum)
+                .description("Outbox rows parked after their last allowed delivery attempt failed")
+                .register(registry);
+        FunctionCounter.builder("outbox.relay.discarded", discarded, LongAdder::sum)
+                .description("Outbox rows removed because their type or payload could not be read")
+                .register(registry);
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void drain() {
+        try {
+            int relayedCount;
+
+            do {
+                relayedCount = relay();
+            } while (relayedCount == batchSize);
+        } catch (RuntimeException exception) {
+            failures.increment();
+        }
+    }
+
+    private List<OutboxEvent> claim(String claimToken) {
+        Instant now = clock.instant();
+        List<Long> due = outboxEventRepository.findDueIds(now, PageRequest.of(0, batchSize));
+
+        if (due.isEmpty() || outboxEventRepository.claim(due, claimToken, now, now.plus(claimLease)) == 0) {
+            return List.of();
+        }
+
+        return outboxEventRepository.findAllByClaimTokenOrderByIdAsc(claimToken);
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void deliver(List<OutboxEvent> claimed) {
+        List<Long> done = new ArrayList<>();
+        List<OutboxEvent> failed = new ArrayList<>();
+
+        for (OutboxEvent outboxEvent : claimed) {
+            Relayed relayedType = relayed.get(outboxEvent.getType());
+            Object event = eventOf(outboxEvent, relayedType);
+
+            if (event == null) {
+                discarded.increment();
+            } else {
+                try {
+                    delivery.dispatch(event);
+                } catch (RuntimeException exception) {
+                    failures.increment();
+                    retryLater(outboxEvent);
+                    failed.add(outboxEvent);
+                    continue;
+                }
+
+                relayedType.count.increment();
+                relayedType.lagNanos.add(Duration.between(outboxEvent.getCreatedAt(), clock.instant()).toNanos());
+            }
+
+            done.add(outboxEvent.getId());
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!done.isEmpty()) {
+                outboxEventRepository.deleteAllByIdIn(done);
+            }
+
+            outboxEventRepository.saveAll(failed);
+        });
+    }
+
+    private void retryLater(OutboxEvent outboxEvent) {
+        outboxEvent.setAttempts(outboxEvent.getAttempts() + 1);
+
+        if (retryPolicy.exhausted(outboxEvent.getAttempts())) {
+            outboxEvent.setParked(true);
+            parked.increment();
+        } else {
+            outboxEvent.setNextAttemptAt(retryPolicy.nextAttemptAt(clock.instant(), outboxEvent.getAttempts()));
+        }
+    }
+
+    private Object eventOf(OutboxEvent outboxEvent, Relayed relayedType) {
+        if (relayedType == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(outboxEvent.getPayload(), relayedType.type);
+        } catch (JsonProcessingException exception) {
+            return null;
+        }
+    }
+
+    private static final class Relayed {
+        private final Class<?> type;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder lagNanos = new LongAdder();
+
+        private Relayed(Class<?> type) {
+            this.type = type;
+        }
+    }
+}
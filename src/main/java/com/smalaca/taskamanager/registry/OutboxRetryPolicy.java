@@ -0,0 +1,22 @@
+package com.smalaca.taskamanager.registry;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public record OutboxRetryPolicy(int maxAttempts, Duration backoff, Duration maxBackoff) {
+    private static final int MAX_SHIFT = 30;
+
+    boolean exhausted(int attempts) {
+        return attempts >= maxAttempts;
+    }
+
+    Instant nextAttemptAt(Instant now, int attempts) {
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempts - 1, MAX_SHIFT));
+
+        if (delay.compareTo(maxBackoff) > 0) {
+            return now.plus(maxBackoff);
+        }
+
+        return now.plus(delay);
+    }
+}
@@ -0,0 +1,11 @@
+package com.smalaca.taskamanager.registry;
+
+import java.util.Locale;
+
+public enum OverflowPolicy {
+    BLOCK, DROP_OLDEST, CALLER_RUNS;
+
+    public static OverflowPolicy from(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+}
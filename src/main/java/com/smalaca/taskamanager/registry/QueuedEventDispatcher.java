@@ -0,0 +1,187 @@
+package com.smalaca.taskamanager.registry;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class QueuedEventDispatcher implements EventDispatcher, MeterBinder {
+    private static final long POLL_INTERVAL_MILLIS = 100;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final ApplicationEventPublisher publisher;
+    private final OverflowPolicy overflowPolicy;
+    private final BlockingQueue<Envelope> queue;
+    private final ExecutorService workers;
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder latencyNanos = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final LongAdder afterClose = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile boolean running = true;
+
+    public QueuedEventDispatcher(ApplicationEventPublisher publisher, int capacity, int workerCount, OverflowPolicy overflowPolicy) {
+        this.publisher = publisher;
+        this.overflowPolicy = overflowPolicy;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "events-dispatch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::work);
+        }
+    }
+
+    @Override
+    public void dispatch(Object event) {
+        dispatched.increment();
+        Envelope envelope = new Envelope(event, System.nanoTime());
+
+        if (!running) {
+            runAfterClose(envelope);
+        } else if (overflowPolicy == OverflowPolicy.BLOCK) {
+            enqueueOrWait(envelope);
+        } else if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+            enqueueDroppingOldest(envelope);
+        } else if (!queue.offer(envelope)) {
+            runOnCaller(envelope);
+        }
+
+        if (!running) {
+            drainAfterClose();
+        }
+    }
+
+    public int depth() {
+        return queue.size();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        workers.shutdown();
+
+        try {
+            workers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+
+        drainAfterClose();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("events.dispatch.queue.depth", queue, BlockingQueue::size)
+                .description("Events waiting for a dispatch worker")
+                .register(registry);
+        FunctionCounter.builder("events.dispatch.dispatched", dispatched, LongAdder::sum)
+                .description("Events handed to the dispatcher")
+                .register(registry);
+        FunctionTimer.builder("events.dispatch.latency", this, dispatcher -> dispatcher.delivered.sum(),
+                        dispatcher -> dispatcher.latencyNanos.sum(), TimeUnit.NANOSECONDS)
+                .description("Time from dispatch until every listener has handled the event")
+                .register(registry);
+        FunctionCounter.builder("events.dispatch.dropped", dropped, LongAdder::sum)
+                .description("Oldest queued events dropped to make room for new ones")
+                .register(registry);
+        FunctionCounter.builder("events.dispatch.caller.runs", callerRuns, LongAdder::sum)
+                .description("Events delivered on the publishing thread because the queue was full")
+                .register(registry);
+        FunctionCounter.builder("events.dispatch.after.close", afterClose, LongAdder::sum)
+                .description("Events delivered on a calling thread because the dispatcher was closed")
+                .register(registry);
+        FunctionCounter.builder("events.dispatch.failures", failures, LongAdder::sum)
+                .description("Events whose listeners failed on a dispatch worker")
+                .register(registry);
+    }
+
+    private void enqueueOrWait(Envelope envelope) {
+        try {
+            queue.put(envelope);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            runOnCaller(envelope);
+        }
+    }
+
+    private void enqueueDroppingOldest(Envelope envelope) {
+        while (!queue.offer(envelope)) {
+            if (queue.poll() != null) {
+                dropped.increment();
+            }
+        }
+    }
+
+    private void runOnCaller(Envelope envelope) {
+        callerRuns.increment();
+        publisher.publishEvent(envelope.event());
+        delivered(envelope);
+    }
+
+    private void runAfterClose(Envelope envelope) {
+        afterClose.increment();
+        publisher.publishEvent(envelope.event());
+        delivered(envelope);
+    }
+
+    private void drainAfterClose() {
+        Envelope envelope = queue.poll();
+
+        while (envelope != null) {
+            afterClose.increment();
+            deliver(envelope);
+            envelope = queue.poll();
+        }
+    }
+
+    private void work() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Envelope envelope = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+
+                if (envelope != null) {
+                    deliver(envelope);
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void deliver(Envelope envelope) {
+        try {
+            publisher.publishEvent(envelope.event());
+        } catch (RuntimeException exception) {
+            failures.increment();
+        }
+
+        delivered(envelope);
+    }
+
+    private void delivered(Envelope envelope) {
+        latencyNanos.add(System.nanoTime() - envelope.dispatchedAt());
+        delivered.increment();
+    }
+
+    private record Envelope(Object event, long dispatchedAt) { }
+}
@@ -0,0 +1,60 @@
+package com.smalaca.taskamanager.registry;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ResolvedEventListeners implements ApplicationListener<ContextRefreshedEvent>, ApplicationContextAware {
+    private final ListenerResolvingEventMulticaster multicaster;
+    private final Collection<Class<?>> eventTypes;
+    private ApplicationContext context;
+    private volatile Map<Class<?>, List<ApplicationListener<?>>> listeners = Map.of();
+
+    public ResolvedEventListeners(ListenerResolvingEventMulticaster multicaster, Collection<Class<?>> eventTypes) {
+        this.multicaster = multicaster;
+        this.eventTypes = List.copyOf(eventTypes);
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (event.getApplicationContext() != context) {
+            return;
+        }
+
+        Map<Class<?>, List<ApplicationListener<?>>> resolved = new HashMap<>();
+
+        for (Class<?> eventType : eventTypes) {
+            resolved.put(eventType, List.copyOf(multicaster.listenersOf(eventType, context.getClass())));
+        }
+
+        listeners = Map.copyOf(resolved);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void deliver(Object event) {
+        PayloadApplicationEvent<Object> applicationEvent = new PayloadApplicationEvent<>(context, event);
+        List<ApplicationListener<?>> targets = listeners.get(event.getClass());
+
+        if (targets == null) {
+            multicaster.multicastEvent(applicationEvent);
+            return;
+        }
+
+        for (ApplicationListener<?> target : targets) {
+            ((ApplicationListener<ApplicationEvent>) target).onApplicationEvent(applicationEvent);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.smalaca.taskamanager.registry;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public class RingBufferEventDispatcher implements EventDispatcher, MeterBinder {
+    private static final int SPINS_BEFORE_PARKING = 100;
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long PRODUCER_PARK_NANOS = 1000;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+    private static final long SEALED = Long.MIN_VALUE;
+
+    private final int capacity;
+    private final int mask;
+    private final Object[] slots;
+    private final AtomicLongArray published;
+    private final AtomicIntegerArray pendingConsumers;
+    private final AtomicLong next = new AtomicLong();
+    private final List<Consumer> consumers = new ArrayList<>();
+    private final LongAdder producerWaits = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile boolean abandoned;
+
+    public RingBufferEventDispatcher(int capacity, List<EventDispatcher> handlers) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring buffer capacity has to be a power of two: " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.slots = new Object[capacity];
+        this.published = new AtomicLongArray(capacity);
+        this.pendingConsumers = new AtomicIntegerArray(capacity);
+
+        for (int index = 0; index < capacity; index++) {
+            published.set(index, -1);
+        }
+
+        for (EventDispatcher handler : handlers) {
+            consumers.add(new Consumer(handler, "events-ring-" + (consumers.size() + 1)));
+        }
+
+        consumers.forEach(consumer -> consumer.thread.start());
+    }
+
+    @Override
+    public void dispatch(Object event) {
+        long sequence = claim();
+
+        if (sequence == SEALED || !awaitFreeSlot(sequence)) {
+            consumers.forEach(consumer -> deliver(consumer, event));
+            return;
+        }
+
+        int index = (int) sequence & mask;
+
+        if (!consumers.isEmpty()) {
+            slots[index] = event;
+            pendingConsumers.set(index, consumers.size());
+        }
+
+        published.set(index, sequence);
+
+        for (Consumer consumer : consumers) {
+            if (consumer.waiting) {
+                LockSupport.unpark(consumer.thread);
+            }
+        }
+    }
+
+    public int remaining() {
+        return (int) Math.max(0, capacity - (claimed() - 1 - consumed()));
+    }
+
+    @Override
+    public void close() {
+        next.getAndUpdate(sequence -> sequence | SEALED);
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MILLIS;
+
+        for (Consumer consumer : consumers) {
+            LockSupport.unpark(consumer.thread);
+
+            try {
+                consumer.thread.join(Math.max(1, deadline - System.currentTimeMillis()));
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        abandoned = true;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("events.ring.remaining", this, RingBufferEventDispatcher::remaining)
+                .description("Free slots left before publishers have to wait for the slowest consumer")
+                .register(registry);
+        FunctionCounter.builder("events.ring.published", this, RingBufferEventDispatcher::claimed)
+                .description("Events published to the ring buffer")
+                .register(registry);
+        FunctionCounter.builder("events.ring.batches", batches, LongAdder::sum)
+                .description("Batches of consecutive events taken by consumers")
+                .register(registry);
+        FunctionCounter.builder("events.ring.delivered", delivered, LongAdder::sum)
+                .description("Events handed to consumers, counted once per consumer")
+                .register(registry);
+        FunctionCounter.builder("events.ring.producer.waits", producerWaits, LongAdder::sum)
+                .description("Publishes that waited for the slowest consumer to free a slot")
+                .register(registry);
+        FunctionCounter.builder("events.ring.failures", failures, LongAdder::sum)
+                .description("Events whose handler failed on a consumer thread")
+                .register(registry);
+    }
+
+    private long claim() {
+        while (true) {
+            long sequence = next.get();
+
+            if (sequence < 0) {
+                return SEALED;
+            }
+
+            if (next.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    private long claimed() {
+        return next.get() & ~SEALED;
+    }
+
+    private boolean drained(long sequence) {
+        long claim = next.get();
+        return claim < 0 && sequence >= (claim & ~SEALED) - 1;
+    }
+
+    private boolean awaitFreeSlot(long sequence) {
+        long wrapPoint = sequence - capacity;
+
+        if (wrapPoint > consumed()) {
+            producerWaits.increment();
+
+            while (wrapPoint > consumed()) {
+                if (abandoned) {
+                    return false;
+                }
+
+                LockSupport.parkNanos(PRODUCER_PARK_NANOS);
+            }
+        }
+
+        return true;
+    }
+
+    private long consumed() {
+        if (consumers.isEmpty()) {
+            return claimed() - 1;
+        }
+
+        long minimum = Long.MAX_VALUE;
+
+        for (Consumer consumer : consumers) {
+            minimum = Math.min(minimum, consumer.sequence.get());
+        }
+
+        return minimum;
+    }
+
+    private long highestPublished(long from) {
+        long sequence = from;
+
+        while (published.get((int) sequence & mask) == sequence) {
+            sequence++;
+        }
+
+        return sequence - 1;
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void deliver(Consumer consumer, Object event) {
+        try {
+            consumer.handler.dispatch(event);
+        } catch (RuntimeException exception) {
+            failures.increment();
+        }
+    }
+
+    private final class Consumer {
+        private final EventDispatcher handler;
+        private final AtomicLong sequence = new AtomicLong(-1);
+        private final Thread thread;
+        private volatile boolean waiting;
+
+        private Consumer(EventDispatcher handler, String name) {
+            this.handler = handler;
+            this.thread = new Thread(this::consume, name);
+            thread.setDaemon(true);
+        }
+
+        private void consume() {
+            int idle = 0;
+
+            while (!abandoned && !drained(sequence.get())) {
+                long from = sequence.get() + 1;
+                long to = highestPublished(from);
+
+                if (to >= from) {
+                    for (long current = from; current <= to; current++) {
+                        take((int) current & mask);
+                    }
+
+                    sequence.set(to);
+                    batches.increment();
+                    delivered.add(to - from + 1);
+                    idle = 0;
+                } else if (idle < SPINS_BEFORE_PARKING) {
+                    idle++;
+                    Thread.onSpinWait();
+                } else {
+                    park(from);
+                }
+            }
+        }
+
+        private void take(int index) {
+            deliver(this, slots[index]);
+
+            if (pendingConsumers.decrementAndGet(index) == 0) {
+                slots[index] = null;
+            }
+        }
+
+        private void park(long from) {
+            waiting = true;
+
+            if (!abandoned && published.get((int) from & mask) != from) {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+
+            waiting = false;
+        }
+    }
+}
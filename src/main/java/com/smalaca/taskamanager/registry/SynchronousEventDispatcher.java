@@ -0,0 +1,16 @@
+package com.smalaca.taskamanager.registry;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+public class SynchronousEventDispatcher implements EventDispatcher {
+    private final ApplicationEventPublisher publisher;
+
+    public SynchronousEventDispatcher(ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public void dispatch(Object event) {
+        publisher.publishEvent(event);
+    }
+}
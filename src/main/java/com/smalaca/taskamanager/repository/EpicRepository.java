@@ -1,9 +1,35 @@
 package com.smalaca.taskamanager.repository;
 
 import com.smalaca.taskamanager.model.entities.Epic;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface EpicRepository extends CrudRepository<Epic, Long> {
+    @EntityGraph(value = "Epic.details", type = EntityGraph.EntityGraphType.FETCH)
+    Optional<Epic> findWithDetailsById(Long id);
+
+    @EntityGraph(value = "Epic.details", type = EntityGraph.EntityGraphType.FETCH)
+    List<Epic> findWithDetailsByIdIn(Collection<Long> ids);
+
+    @Query("select e.version from Epic e where e.id = :id")
+    Optional<Long> findVersionById(Long id);
+
+    @Query("select e.id as id, e.title as title, e.status as status, e.project.id as parentId "
+            + "from Epic e where e.id = :id")
+    Optional<ToDoItemSummary> findSummaryById(Long id);
+
+    @Query("select s.id as id, s.title as title, s.status as status, s.epic.id as parentId "
+            + "from Story s where s.epic.id = :id order by s.id")
+    List<ToDoItemSummary> findStorySummariesByEpicId(Long id);
+
+    @Query("select t.id as id, t.title as title, t.status as status, t.story.id as parentId "
+            + "from Task t where t.story.epic.id = :id order by t.id")
+    List<ToDoItemSummary> findTaskSummariesByEpicId(Long id);
 }
@@ -0,0 +1,29 @@
+package com.smalaca.taskamanager.repository;
+
+import com.smalaca.taskamanager.model.entities.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends CrudRepository<OutboxEvent, Long> {
+    @Query("select e.id from OutboxEvent e where e.parked = false and e.nextAttemptAt <= :now order by e.id")
+    List<Long> findDueIds(Instant now, Pageable pageable);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.claimToken = :claimToken, e.nextAttemptAt = :leaseEnd "
+            + "where e.id in :ids and e.parked = false and e.nextAttemptAt <= :now")
+    int claim(Collection<Long> ids, String claimToken, Instant now, Instant leaseEnd);
+
+    List<OutboxEvent> findAllByClaimTokenOrderByIdAsc(String claimToken);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.id in :ids")
+    int deleteAllByIdIn(Collection<Long> ids);
+}
@@ -0,0 +1,7 @@
+package com.smalaca.taskamanager.repository;
+
+public interface PersonName {
+    String getFirstName();
+
+    String getLastName();
+}
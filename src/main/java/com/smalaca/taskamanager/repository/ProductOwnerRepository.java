@@ -1,12 +1,25 @@
 package com.smalaca.taskamanager.repository;
 
 import com.smalaca.taskamanager.model.entities.ProductOwner;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface ProductOwnerRepository extends CrudRepository<ProductOwner, Long> {
     Optional<ProductOwner> findByFirstNameAndLastName(String firstName, String lastName);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select po.firstName as firstName, po.lastName as lastName from ProductOwner po")
+    Stream<PersonName> streamAllNames();
+
+    @Query("select po.version from ProductOwner po where po.id = :id")
+    Optional<Long> findVersionById(Long id);
 }
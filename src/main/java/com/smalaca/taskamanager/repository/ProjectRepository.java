@@ -1,12 +1,32 @@
 package com.smalaca.taskamanager.repository;
 
 import com.smalaca.taskamanager.model.entities.Project;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface ProjectRepository extends CrudRepository<Project, Long> {
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<Project> findByName(String name);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select p.id as id, p.name as name, p.projectStatus as projectStatus, po.id as productOwnerId "
+            + "from Project p left join p.productOwner po order by p.id")
+    Stream<ProjectSummary> streamAllSummaries();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select p.name from Project p")
+    Stream<String> streamAllNames();
+
+    @Query("select p.version from Project p where p.id = :id")
+    Optional<Long> findVersionById(Long id);
 }
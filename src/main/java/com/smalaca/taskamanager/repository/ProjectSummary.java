@@ -0,0 +1,13 @@
+package com.smalaca.taskamanager.repository;
+
+import com.smalaca.taskamanager.model.enums.ProjectStatus;
+
+public interface ProjectSummary {
+    Long getId();
+
+    String getName();
+
+    ProjectStatus getProjectStatus();
+
+    Long getProductOwnerId();
+}
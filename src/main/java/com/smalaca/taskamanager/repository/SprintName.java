@@ -0,0 +1,7 @@
+package com.smalaca.taskamanager.repository;
+
+public interface SprintName {
+    String getName();
+
+    Long getProjectId();
+}
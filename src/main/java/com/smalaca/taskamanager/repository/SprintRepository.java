@@ -1,12 +1,34 @@
 package com.smalaca.taskamanager.repository;
 
 import com.smalaca.taskamanager.model.entities.Sprint;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface SprintRepository extends CrudRepository<Sprint, Long> {
     Optional<Sprint> findByNameAndProjectId(String name, Long projectId);
+
+    @Query("select t.id as id, t.title as title, t.status as status, t.currentSprint.id as parentId "
+            + "from Task t where t.currentSprint.id = :id order by t.status, t.id")
+    List<ToDoItemSummary> findTaskSummariesBySprintId(Long id);
+
+    @Query("select s.id as id, s.title as title, s.status as status, sp.id as parentId "
+            + "from Sprint sp join sp.stories s where sp.id = :id order by s.status, s.id")
+    List<ToDoItemSummary> findStorySummariesBySprintId(Long id);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select s.name as name, p.id as projectId from Sprint s left join s.project p")
+    Stream<SprintName> streamAllNames();
+
+    @Query("select s.version from Sprint s where s.id = :id")
+    Optional<Long> findVersionById(Long id);
 }
@@ -1,9 +1,25 @@
 package com.smalaca.taskamanager.repository;
 
 import com.smalaca.taskamanager.model.entities.Story;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface StoryRepository extends CrudRepository<Story, Long> {
+    @EntityGraph(value = "Story.details", type = EntityGraph.EntityGraphType.FETCH)
+    Optional<Story> findWithDetailsById(Long id);
+
+    @EntityGraph(value = "Story.details", type = EntityGraph.EntityGraphType.FETCH)
+    List<Story> findWithDetailsByIdIn(Collection<Long> ids);
+
+    long countByIdIn(Collection<Long> ids);
+
+    @Query("select s.version from Story s where s.id = :id")
+    Optional<Long> findVersionById(Long id);
 }
@@ -1,9 +1,33 @@
 package com.smalaca.taskamanager.repository;
 
 import com.smalaca.taskamanager.model.entities.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface TaskRepository extends CrudRepository<Task, Long> {
+    @EntityGraph(value = "Task.details", type = EntityGraph.EntityGraphType.FETCH)
+    Optional<Task> findWithDetailsById(Long id);
+
+    @EntityGraph(value = "Task.details", type = EntityGraph.EntityGraphType.FETCH)
+    List<Task> findWithDetailsByIdIn(Collection<Long> ids);
+
+    @Query("select t.version from Task t where t.id = :id")
+    Optional<Long> findVersionById(Long id);
+
+    @Modifying
+    @Query(value = "insert into story_tasks (story_id, tasks_id) select story_id, id from task where id in (:ids) and story_id is not null",
+            nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "story_tasks"))
+    void addToStories(Collection<Long> ids);
 }
@@ -0,0 +1,13 @@
+package com.smalaca.taskamanager.repository;
+
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+
+public interface ToDoItemSummary {
+    Long getId();
+
+    String getTitle();
+
+    ToDoItemStatus getStatus();
+
+    Long getParentId();
+}
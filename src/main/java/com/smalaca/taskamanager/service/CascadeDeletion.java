@@ -0,0 +1,224 @@
+package com.smalaca.taskamanager.service;
+
+import com.smalaca.taskamanager.invalidation.EntityCacheInvalidation;
+import com.smalaca.taskamanager.invalidation.InvalidationBus;
+import com.smalaca.taskamanager.model.entities.Epic;
+import com.smalaca.taskamanager.model.entities.Project;
+import com.smalaca.taskamanager.model.entities.Sprint;
+import com.smalaca.taskamanager.model.entities.Story;
+import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.entities.Team;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+@Service
+public class CascadeDeletion implements MeterBinder {
+    private static final int CHUNK_SIZE = 1000;
+    private static final String UPDATE = "update";
+
+    private static final String PROJECT = "select id from project where id = :id";
+    private static final String EPIC = "select id from epic where id = :id";
+    private static final String STORY = "select id from story where id = :id";
+    private static final String SPRINTS_OF_PROJECT = "select id from sprint where project_id = :id"
+            + " union select sprints_id from project_sprints where project_id = :id";
+    private static final String EPICS_OF = "select id from epic where project_id in (%1$s)"
+            + " union select epics_id from project_epics where project_id in (%1$s)";
+    private static final String STORIES_OF = "select id from story where epic_id in (%1$s)"
+            + " union select stories_id from epic_stories where epic_id in (%1$s)";
+    private static final String TASKS_OF = "select id from task where story_id in (%1$s)"
+            + " union select tasks_id from story_tasks where story_id in (%1$s)";
+    private static final Deletes TASK_DELETES = new Deletes(Task.class, List.of(
+            "delete from task_watchers where task_id in (:ids)",
+            "delete from task_stakeholders where task_id in (:ids)",
+            "delete from sprint_tasks where tasks_id in (:ids)",
+            "delete from story_tasks where tasks_id in (:ids)",
+            "delete from task where id in (:ids)"), Map.of());
+    private static final Deletes STORY_DELETES = new Deletes(Story.class, List.of(
+            "delete from story_watchers where story_id in (:ids)",
+            "delete from story_stakeholders where story_id in (:ids)",
+            "delete from story_sprints where story_id in (:ids)",
+            "delete from sprint_stories where stories_id in (:ids)",
+            "delete from story_tasks where story_id in (:ids)",
+            "delete from epic_stories where stories_id in (:ids)",
+            "delete from story where id in (:ids)"), Map.of());
+    private static final Deletes EPIC_DELETES = new Deletes(Epic.class, List.of(
+            "delete from epic_watchers where epic_id in (:ids)",
+            "delete from epic_stakeholders where epic_id in (:ids)",
+            "delete from epic_stories where epic_id in (:ids)",
+            "delete from project_epics where epics_id in (:ids)",
+            "delete from epic where id in (:ids)"), Map.of());
+    private static final Deletes SPRINT_DELETES = new Deletes(Sprint.class, List.of(
+            "update task set current_sprint_id = null where current_sprint_id in (:ids)",
+            "update story set current_sprint_id = null where current_sprint_id in (:ids)",
+            "delete from sprint_tasks where sprint_id in (:ids)",
+            "delete from sprint_stories where sprint_id in (:ids)",
+            "delete from story_sprints where sprints_id in (:ids)",
+            "delete from project_sprints where sprints_id in (:ids)",
+            "delete from sprint where id in (:ids)"), Map.of());
+    private static final Deletes PROJECT_DELETES = new Deletes(Project.class, List.of(
+            "update team set project_id = null where project_id in (:ids)",
+            "delete from project_teams where project_id in (:ids)",
+            "delete from product_owner_projects where projects_id in (:ids)",
+            "delete from project where id in (:ids)"),
+            Map.of(Team.class, "select id from team where project_id in (:ids)"));
+
+    private static final Logger LOG = LoggerFactory.getLogger(CascadeDeletion.class);
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final InvalidationBus invalidationBus;
+    private final LongAdder failures = new LongAdder();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cascade-deletion");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CascadeDeletion(EntityManager entityManager, PlatformTransactionManager transactionManager, InvalidationBus invalidationBus) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.invalidationBus = invalidationBus;
+    }
+
+    public void deleteProject(long id) {
+        List<String> invalidated = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> deleteProject(id, invalidated));
+        publish(invalidated);
+    }
+
+    public CompletableFuture<Void> deleteProjectLater(long id) {
+        return CompletableFuture.runAsync(() -> deleteProject(id, null), executor).whenComplete((result, failure) -> {
+            if (failure != null) {
+                failures.increment();
+                LOG.error("Background deletion of project {} failed", id, failure);
+            }
+        });
+    }
+
+    public void deleteEpic(long id) {
+        List<String> invalidated = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            delete(String.format(TASKS_OF, String.format(STORIES_OF, EPIC)), id, TASK_DELETES, invalidated);
+            delete(String.format(STORIES_OF, EPIC), id, STORY_DELETES, invalidated);
+            delete(EPIC, id, EPIC_DELETES, invalidated);
+        });
+        publish(invalidated);
+    }
+
+    public void deleteStory(long id) {
+        List<String> invalidated = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            delete(String.format(TASKS_OF, STORY), id, TASK_DELETES, invalidated);
+            delete(STORY, id, STORY_DELETES, invalidated);
+        });
+        publish(invalidated);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cascade.deletion.failures", failures, LongAdder::sum)
+                .description("Background project deletions that failed")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+
+    private void deleteProject(long id, List<String> invalidated) {
+        String epics = String.format(EPICS_OF, PROJECT);
+        delete(String.format(TASKS_OF, String.format(STORIES_OF, epics)), id, TASK_DELETES, invalidated);
+        delete(String.format(STORIES_OF, epics), id, STORY_DELETES, invalidated);
+        delete(epics, id, EPIC_DELETES, invalidated);
+        delete(SPRINTS_OF_PROJECT, id, SPRINT_DELETES, invalidated);
+        delete(PROJECT, id, PROJECT_DELETES, invalidated);
+    }
+
+    private void delete(String idsQuery, long id, Deletes deletes, List<String> invalidated) {
+        boolean deleted;
+
+        do {
+            if (invalidated == null) {
+                List<String> chunkInvalidated = new ArrayList<>();
+                deleted = Boolean.TRUE.equals(transactionTemplate.execute(status -> deleteChunk(idsQuery, id, deletes, chunkInvalidated)));
+                publish(chunkInvalidated);
+            } else {
+                deleted = deleteChunk(idsQuery, id, deletes, invalidated);
+            }
+        } while (deleted);
+    }
+
+    private boolean deleteChunk(String idsQuery, long id, Deletes deletes, List<String> invalidated) {
+        List<Long> ids = idsOf(entityManager.createNativeQuery(idsQuery).setParameter("id", id).setMaxResults(CHUNK_SIZE));
+
+        if (ids.isEmpty()) {
+            return false;
+        }
+
+        invalidate(deletes.entity(), ids, invalidated);
+        deletes.referencing().forEach((entity, query) ->
+                invalidate(entity, idsOf(entityManager.createNativeQuery(query).setParameter("ids", ids)), invalidated));
+        deletes.statements().forEach(delete -> entityManager.createNativeQuery(delete)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(tableOf(delete))
+                .setParameter("ids", ids)
+                .executeUpdate());
+
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> idsOf(Query query) {
+        return ((List<Number>) query.getResultList()).stream()
+                .map(Number::longValue)
+                .collect(Collectors.toList());
+    }
+
+    private void invalidate(Class<?> entity, List<Long> ids, List<String> invalidated) {
+        EntityPersister persister = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(entity);
+
+        if (persister.canWriteToCache()) {
+            ids.forEach(id -> invalidated.add(EntityCacheInvalidation.key(persister.getEntityName(), id)));
+        }
+    }
+
+    private void publish(List<String> invalidated) {
+        invalidated.forEach(key -> invalidationBus.publish(EntityCacheInvalidation.REGION, key));
+    }
+
+    private String tableOf(String statement) {
+        String[] words = statement.split(" ");
+
+        if (UPDATE.equals(words[0])) {
+            return words[1];
+        }
+
+        return words[2];
+    }
+
+    private record Deletes(Class<?> entity, List<String> statements, Map<Class<?>, String> referencing) { }
+}
@@ -17,10 +17,12 @@ import com.smalaca.taskamanager.model.entities.User;
 import com.smalaca.taskamanager.model.interfaces.ToDoItem;
 import com.smalaca.taskamanager.model.other.ChatRoom;
 import com.smalaca.taskamanager.model.other.Mail;
+import com.smalaca.taskamanager.service.ProjectRecipientIndex.Recipient;
 import com.smalaca.taskamanager.session.SessionHolder;
 import org.springframework.stereotype.Service;
 
 @Service
+@SuppressWarnings("checkstyle:ClassFanOutComplexity")
 public class CommunicationServiceImpl implements CommunicationService {
     private static final String SEPARATOR = ".";
 
@@ -29,16 +31,18 @@ public class CommunicationServiceImpl implements CommunicationService {
     private final ChatClient chat;
     private final SmsCommunicatorClient smsCommunicator;
     private final MailClient mailClient;
+    private final ProjectRecipientIndex recipientIndex;
     private CommunicatorType type;
 
     public CommunicationServiceImpl(
             ProjectBacklogService projectBacklogService, DevNullDirectory devNullDirectory, ChatClient chat,
-            SmsCommunicatorClient smsCommunicator, MailClient mailClient) {
+            SmsCommunicatorClient smsCommunicator, MailClient mailClient, ProjectRecipientIndex recipientIndex) {
         this.projectBacklogService = projectBacklogService;
         this.devNullDirectory = devNullDirectory;
         this.chat = chat;
         this.smsCommunicator = smsCommunicator;
         this.mailClient = mailClient;
+        this.recipientIndex = recipientIndex;
     }
 
 
@@ -137,8 +141,8 @@ public class CommunicationServiceImpl implements CommunicationService {
     }
 
     public void notifyTeamsAbout(ToDoItem toDoItem, Project project) {
-        for (Team team : project.getTeams()) {
-            notify(toDoItem, team);
+        for (Recipient recipient : recipientIndex.recipientsOf(project)) {
+            notify(toDoItem, recipient);
         }
     }
 
@@ -148,6 +152,24 @@ public class CommunicationServiceImpl implements CommunicationService {
         }
     }
 
+    @SuppressWarnings("MissingSwitchDefault")
+    private void notify(ToDoItem toDoItem, Recipient recipient) {
+        switch (type) {
+            case SMS:
+                notifyAbout(toDoItem, recipient.phoneNumber());
+                break;
+            case DIRECT:
+                notifyAbout(toDoItem, recipient.login());
+                break;
+            case MAIL:
+                notifyAbout(toDoItem, recipient.emailAddress());
+                break;
+            case NULL_TYPE:
+                notifyAbout();
+                break;
+        }
+    }
+
     private void notifyAbout() {
         devNullDirectory.forget();
     }
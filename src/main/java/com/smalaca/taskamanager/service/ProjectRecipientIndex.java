@@ -0,0 +1,235 @@
+package com.smalaca.taskamanager.service;
+
+import com.smalaca.taskamanager.model.embedded.EmailAddress;
+import com.smalaca.taskamanager.model.embedded.PhoneNumber;
+import com.smalaca.taskamanager.model.entities.Project;
+import com.smalaca.taskamanager.model.entities.Team;
+import com.smalaca.taskamanager.model.entities.User;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class ProjectRecipientIndex {
+    private final ConcurrentMap<Long, ProjectRecipients> projects = new ConcurrentHashMap<>();
+
+    public List<Recipient> recipientsOf(Project project) {
+        if (project.getId() == null) {
+            return ProjectRecipients.of(project).all;
+        }
+
+        return projects.computeIfAbsent(project.getId(), id -> ProjectRecipients.of(project)).all;
+    }
+
+    public void teamAdded(Project project, Team team) {
+        Long projectId = project.getId();
+        Long teamId = team.getId();
+        List<Recipient> members = recipientsOf(team.getMembers());
+        afterCommit(() -> projects.computeIfPresent(projectId, (id, recipients) -> recipients.put(teamId, members)));
+    }
+
+    public void teamRemoved(Project project, Team team) {
+        Long projectId = project.getId();
+        Long teamId = team.getId();
+        afterCommit(() -> projects.computeIfPresent(projectId, (id, recipients) -> recipients.remove(teamId)));
+    }
+
+    public void membersAdded(Team team, Iterable<User> users) {
+        if (team.getProject() != null) {
+            Long projectId = team.getProject().getId();
+            Long teamId = team.getId();
+            List<Recipient> added = recipientsOf(users);
+            afterCommit(() -> projects.computeIfPresent(projectId, (id, recipients) -> recipients.add(teamId, added)));
+        }
+    }
+
+    public void membersRemoved(Team team, Iterable<User> users) {
+        if (team.getProject() != null) {
+            Long projectId = team.getProject().getId();
+            Long teamId = team.getId();
+            Set<Long> userIds = idsOf(users);
+            afterCommit(() -> projects.computeIfPresent(projectId, (id, recipients) -> recipients.remove(teamId, userIds)));
+        }
+    }
+
+    public void contactChanged(User user) {
+        Recipient changed = Recipient.of(user);
+        afterCommit(() -> projects.replaceAll((id, recipients) -> recipients.replace(changed)));
+    }
+
+    public void userRemoved(User user) {
+        Long userId = user.getId();
+        afterCommit(() -> projects.replaceAll((id, recipients) -> recipients.without(userId)));
+    }
+
+    public void forget(Long projectId) {
+        afterCommit(() -> projects.remove(projectId));
+    }
+
+    public void clear() {
+        projects.clear();
+    }
+
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    private static List<Recipient> recipientsOf(Iterable<User> users) {
+        List<Recipient> recipients = new ArrayList<>();
+        users.forEach(user -> recipients.add(Recipient.of(user)));
+        return recipients;
+    }
+
+    private static Set<Long> idsOf(Iterable<User> users) {
+        Set<Long> ids = new HashSet<>();
+        users.forEach(user -> ids.add(user.getId()));
+        return ids;
+    }
+
+    public record Recipient(Long userId, String login, PhoneNumber phoneNumber, EmailAddress emailAddress) {
+        public Recipient {
+            phoneNumber = copyOf(phoneNumber);
+            emailAddress = copyOf(emailAddress);
+        }
+
+        static Recipient of(User user) {
+            return new Recipient(user.getId(), user.getLogin(), user.getPhoneNumber(), user.getEmailAddress());
+        }
+
+        @Override
+        public PhoneNumber phoneNumber() {
+            return copyOf(phoneNumber);
+        }
+
+        @Override
+        public EmailAddress emailAddress() {
+            return copyOf(emailAddress);
+        }
+
+        private static PhoneNumber copyOf(PhoneNumber phoneNumber) {
+            if (phoneNumber == null) {
+                return null;
+            }
+
+            return phoneNumber.copy();
+        }
+
+        private static EmailAddress copyOf(EmailAddress emailAddress) {
+            if (emailAddress == null) {
+                return null;
+            }
+
+            return emailAddress.copy();
+        }
+    }
+
+    private static final class ProjectRecipients {
+        private final Map<Long, List<Recipient>> teams;
+        private final List<Recipient> all;
+
+        private ProjectRecipients(Map<Long, List<Recipient>> teams) {
+            this.teams = teams;
+            List<Recipient> flattened = new ArrayList<>();
+            teams.values().forEach(flattened::addAll);
+            this.all = List.copyOf(flattened);
+        }
+
+        private static ProjectRecipients of(Project project) {
+            Map<Long, List<Recipient>> teams = new LinkedHashMap<>();
+
+            for (Team team : project.getTeams()) {
+                teams.put(team.getId(), recipientsOf(team.getMembers()));
+            }
+
+            return new ProjectRecipients(teams);
+        }
+
+        private ProjectRecipients put(Long teamId, List<Recipient> members) {
+            Map<Long, List<Recipient>> changed = new LinkedHashMap<>(teams);
+            changed.put(teamId, members);
+            return new ProjectRecipients(changed);
+        }
+
+        private ProjectRecipients remove(Long teamId) {
+            Map<Long, List<Recipient>> changed = new LinkedHashMap<>(teams);
+            changed.remove(teamId);
+            return new ProjectRecipients(changed);
+        }
+
+        private ProjectRecipients add(Long teamId, List<Recipient> added) {
+            if (!teams.containsKey(teamId)) {
+                return this;
+            }
+
+            Set<Long> addedIds = new HashSet<>();
+            added.forEach(recipient -> addedIds.add(recipient.userId()));
+            Map<Long, List<Recipient>> changed = new LinkedHashMap<>(teams);
+            List<Recipient> members = new ArrayList<>(teams.get(teamId));
+            members.removeIf(recipient -> addedIds.contains(recipient.userId()));
+            members.addAll(added);
+            changed.put(teamId, members);
+            return new ProjectRecipients(changed);
+        }
+
+        private ProjectRecipients remove(Long teamId, Set<Long> userIds) {
+            if (!teams.containsKey(teamId)) {
+                return this;
+            }
+
+            Map<Long, List<Recipient>> changed = new LinkedHashMap<>(teams);
+            List<Recipient> members = new ArrayList<>(teams.get(teamId));
+            members.removeIf(recipient -> userIds.contains(recipient.userId()));
+            changed.put(teamId, members);
+            return new ProjectRecipients(changed);
+        }
+
+        private ProjectRecipients without(Long userId) {
+            Map<Long, List<Recipient>> changed = new LinkedHashMap<>();
+            teams.forEach((teamId, members) -> {
+                List<Recipient> remaining = new ArrayList<>(members);
+                remaining.removeIf(recipient -> Objects.equals(recipient.userId(), userId));
+                changed.put(teamId, remaining);
+            });
+            return new ProjectRecipients(changed);
+        }
+
+        private ProjectRecipients replace(Recipient changedRecipient) {
+            Map<Long, List<Recipient>> changed = new LinkedHashMap<>();
+
+            teams.forEach((teamId, members) -> {
+                List<Recipient> replaced = new ArrayList<>();
+
+                for (Recipient recipient : members) {
+                    if (Objects.equals(recipient.userId(), changedRecipient.userId())) {
+                        replaced.add(changedRecipient);
+                    } else {
+                        replaced.add(recipient);
+                    }
+                }
+
+                changed.put(teamId, replaced);
+            });
+
+            return new ProjectRecipients(changed);
+        }
+    }
+}
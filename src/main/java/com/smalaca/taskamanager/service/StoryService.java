@@ -3,8 +3,12 @@ package com.smalaca.taskamanager.service;
 import com.smalaca.taskamanager.model.entities.Story;
 import com.smalaca.taskamanager.model.entities.Task;
 
+import java.util.Collection;
+
 public interface StoryService {
     void updateProgressOf(Story story, Task task);
 
+    void updateProgressOf(Story story, Collection<Task> tasks);
+
     void attachPartialApprovalFor(long storyId, long taskId);
 }
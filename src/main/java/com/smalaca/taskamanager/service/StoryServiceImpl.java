@@ -4,6 +4,8 @@ import com.smalaca.taskamanager.model.entities.Story;
 import com.smalaca.taskamanager.model.entities.Task;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+
 @Service
 public class StoryServiceImpl implements StoryService {
     @Override
@@ -11,6 +13,11 @@ public class StoryServiceImpl implements StoryService {
 
     }
 
+    @Override
+    public void updateProgressOf(Story story, Collection<Task> tasks) {
+
+    }
+
     @Override
     public void attachPartialApprovalFor(long storyId, long taskId) {
 
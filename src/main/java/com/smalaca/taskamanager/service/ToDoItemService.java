@@ -9,6 +9,7 @@ import com.smalaca.taskamanager.repository.StoryRepository;
 import com.smalaca.taskamanager.repository.TaskRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.Optional;
 
 @Service
@@ -44,6 +45,15 @@ public class ToDoItemService {
         }
     }
 
+    public int processTasks(Collection<Task> tasks) {
+        try {
+            processor.processForAll(tasks);
+            return tasks.size();
+        } catch (Exception exception) {
+            return -2;
+        }
+    }
+
     public int processStory(Long storyId) {
         Optional<Story> found = storyRepository.findById(storyId);
 
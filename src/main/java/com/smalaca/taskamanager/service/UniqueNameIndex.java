@@ -0,0 +1,88 @@
+package com.smalaca.taskamanager.service;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+@Component
+public class UniqueNameIndex implements MeterBinder {
+    private static final int EXPECTED_NAMES = 1_000_000;
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+    private static final String NULL_PART = "-";
+
+    private final Map<Kind, BloomFilter<CharSequence>> filters = new EnumMap<>(Kind.class);
+    private final LongAdder skippedQueries = new LongAdder();
+    private volatile boolean warmedUp;
+    private volatile BooleanSupplier bypassed = () -> false;
+
+    public UniqueNameIndex() {
+        for (Kind kind : Kind.values()) {
+            filters.put(kind, BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), EXPECTED_NAMES, FALSE_POSITIVE_PROBABILITY));
+        }
+    }
+
+    public boolean mightContain(Kind kind, Object... nameParts) {
+        if (!warmedUp || bypassed.getAsBoolean()) {
+            return true;
+        }
+
+        boolean mightContain = filters.get(kind).mightContain(key(nameParts));
+
+        if (!mightContain) {
+            skippedQueries.increment();
+        }
+
+        return mightContain;
+    }
+
+    public void put(Kind kind, Object... nameParts) {
+        filters.get(kind).put(key(nameParts));
+    }
+
+    public void bypassWhen(BooleanSupplier condition) {
+        bypassed = condition;
+    }
+
+    public void warmedUp() {
+        warmedUp = true;
+    }
+
+    public long skippedQueries() {
+        return skippedQueries.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("unique.name.index.skipped", skippedQueries, LongAdder::sum)
+                .description("Uniqueness queries skipped because the name was definitely new")
+                .register(registry);
+    }
+
+    private String key(Object... nameParts) {
+        StringBuilder key = new StringBuilder();
+
+        for (Object namePart : nameParts) {
+            if (namePart == null) {
+                key.append(NULL_PART);
+            } else {
+                String value = String.valueOf(namePart);
+                key.append(value.length()).append(':').append(value);
+            }
+        }
+
+        return key.toString();
+    }
+
+    public enum Kind {
+        USER, TEAM, PROJECT, PRODUCT_OWNER, SPRINT
+    }
+}
@@ -0,0 +1,68 @@
+package com.smalaca.taskamanager.service;
+
+import com.smalaca.taskamanager.repository.PersonName;
+import com.smalaca.taskamanager.repository.ProductOwnerRepository;
+import com.smalaca.taskamanager.repository.ProjectRepository;
+import com.smalaca.taskamanager.repository.SprintName;
+import com.smalaca.taskamanager.repository.SprintRepository;
+import com.smalaca.taskamanager.repository.TeamRepository;
+import com.smalaca.taskamanager.repository.UserRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+import static com.smalaca.taskamanager.service.UniqueNameIndex.Kind.PRODUCT_OWNER;
+import static com.smalaca.taskamanager.service.UniqueNameIndex.Kind.PROJECT;
+import static com.smalaca.taskamanager.service.UniqueNameIndex.Kind.SPRINT;
+import static com.smalaca.taskamanager.service.UniqueNameIndex.Kind.TEAM;
+import static com.smalaca.taskamanager.service.UniqueNameIndex.Kind.USER;
+
+@Component
+public class UniqueNameIndexLoader {
+    private final UniqueNameIndex uniqueNameIndex;
+    private final UserRepository userRepository;
+    private final TeamRepository teamRepository;
+    private final ProjectRepository projectRepository;
+    private final ProductOwnerRepository productOwnerRepository;
+    private final SprintRepository sprintRepository;
+
+    public UniqueNameIndexLoader(
+            UniqueNameIndex uniqueNameIndex, UserRepository userRepository, TeamRepository teamRepository,
+            ProjectRepository projectRepository, ProductOwnerRepository productOwnerRepository, SprintRepository sprintRepository) {
+        this.uniqueNameIndex = uniqueNameIndex;
+        this.userRepository = userRepository;
+        this.teamRepository = teamRepository;
+        this.projectRepository = projectRepository;
+        this.productOwnerRepository = productOwnerRepository;
+        this.sprintRepository = sprintRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        try (Stream<PersonName> names = userRepository.streamAllNames()) {
+            names.forEach(name -> uniqueNameIndex.put(USER, name.getFirstName(), name.getLastName()));
+        }
+
+        try (Stream<String> names = teamRepository.streamAllNames()) {
+            names.forEach(name -> uniqueNameIndex.put(TEAM, name));
+        }
+
+        try (Stream<String> names = projectRepository.streamAllNames()) {
+            names.forEach(name -> uniqueNameIndex.put(PROJECT, name));
+        }
+
+        try (Stream<PersonName> names = productOwnerRepository.streamAllNames()) {
+            names.forEach(name -> uniqueNameIndex.put(PRODUCT_OWNER, name.getFirstName(), name.getLastName()));
+        }
+
+        try (Stream<SprintName> names = sprintRepository.streamAllNames()) {
+            names.forEach(name -> uniqueNameIndex.put(SPRINT, name.getName(), name.getProjectId()));
+        }
+
+        uniqueNameIndex.warmedUp();
+    }
+}
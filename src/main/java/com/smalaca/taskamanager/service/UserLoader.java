@@ -0,0 +1,122 @@
+package com.smalaca.taskamanager.service;
+
+import com.smalaca.taskamanager.exception.UserNotFoundException;
+import com.smalaca.taskamanager.model.entities.User;
+import com.smalaca.taskamanager.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+public class UserLoader implements MeterBinder {
+    private static final String IDENTITY_MAP = UserLoader.class.getName() + ".IDENTITY_MAP";
+
+    private final UserRepository userRepository;
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder savedRoundTrips = new LongAdder();
+
+    public UserLoader(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    public Optional<User> findById(Long id) {
+        Map<Long, Optional<User>> identityMap = identityMap();
+
+        if (identityMap.containsKey(id)) {
+            savedRoundTrips.increment();
+            return identityMap.get(id);
+        }
+
+        queries.increment();
+        Optional<User> found = userRepository.findById(id);
+        identityMap.put(id, found);
+
+        return found;
+    }
+
+    public Map<Long, User> findAllById(Collection<Long> ids) {
+        Map<Long, Optional<User>> identityMap = identityMap();
+        Set<Long> missing = new HashSet<>();
+
+        for (Long id : ids) {
+            if (identityMap.containsKey(id)) {
+                savedRoundTrips.increment();
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            queries.increment();
+
+            for (User user : userRepository.findAllById(missing)) {
+                identityMap.put(user.getId(), Optional.of(user));
+            }
+
+            missing.forEach(id -> identityMap.putIfAbsent(id, Optional.empty()));
+        }
+
+        Map<Long, User> found = new HashMap<>();
+        ids.forEach(id -> identityMap.get(id).ifPresent(user -> found.put(id, user)));
+
+        return found;
+    }
+
+    public Collection<User> getAllById(Collection<Long> ids) {
+        Set<Long> uniqueIds = new HashSet<>(ids);
+        Map<Long, User> found = findAllById(uniqueIds);
+
+        if (found.size() != uniqueIds.size()) {
+            throw new UserNotFoundException();
+        }
+
+        return found.values();
+    }
+
+    public long queries() {
+        return queries.sum();
+    }
+
+    public long savedRoundTrips() {
+        return savedRoundTrips.sum();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Optional<User>> identityMap() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+        if (attributes == null) {
+            return new HashMap<>();
+        }
+
+        Map<Long, Optional<User>> identityMap = (Map<Long, Optional<User>>) attributes.getAttribute(IDENTITY_MAP, RequestAttributes.SCOPE_REQUEST);
+
+        if (identityMap == null) {
+            identityMap = new HashMap<>();
+            attributes.setAttribute(IDENTITY_MAP, identityMap, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return identityMap;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("user.loader.queries", queries, LongAdder::sum)
+                .description("User lookups that went to the database")
+                .register(registry);
+        FunctionCounter.builder("user.loader.saved", savedRoundTrips, LongAdder::sum)
+                .description("User lookups served from the request identity map")
+                .register(registry);
+    }
+}
@@ -0,0 +1,10 @@
+package com.smalaca.taskamanager.stream;
+
+import java.util.Set;
+
+public record ItemChange(String event, String item, long itemId, Long projectId, String status) {
+    public static final String TASK = "task";
+    public static final String STORY = "story";
+    public static final String EPIC = "epic";
+    static final Set<String> ITEMS = Set.of(TASK, STORY, EPIC);
+}
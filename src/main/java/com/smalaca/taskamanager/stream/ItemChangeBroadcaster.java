@@ -0,0 +1,313 @@
+package com.smalaca.taskamanager.stream;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+@SuppressWarnings({"checkstyle:ClassFanOutComplexity", "checkstyle:MethodCount"})
+public class ItemChangeBroadcaster implements MeterBinder, AutoCloseable {
+    private static final ItemChange HEARTBEAT = new ItemChange(null, null, 0, null, null);
+    private static final String SEPARATOR = "#";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final int bufferSize;
+    private final ConcurrentMap<Long, Set<Subscription>> byProject = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<Subscription>> byItem = new ConcurrentHashMap<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+    private final LongAdder writeTimeouts = new LongAdder();
+    private final long writeTimeoutNanos;
+    private final ExecutorService fanOut;
+    private final ThreadPoolExecutor senders;
+    private final ScheduledExecutorService heartbeats;
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public ItemChangeBroadcaster(
+            int backlog, int bufferSize, int senderCount, Duration heartbeatInterval, Duration writeTimeout) {
+        this.bufferSize = bufferSize;
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        this.fanOut = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(backlog),
+                runnable -> daemon(runnable, "item-changes"), (runnable, executor) -> dropped.increment());
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = new ThreadPoolExecutor(senderCount, senderCount, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> daemon(runnable, "item-changes-send-" + threadNumber.incrementAndGet()));
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "item-changes-heartbeat"));
+        heartbeats.scheduleWithFixedDelay(this::heartbeat, heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+        long writeTimeoutCheck = Math.max(1, writeTimeout.toMillis() / 2);
+        heartbeats.scheduleWithFixedDelay(this::expireWrites, writeTimeoutCheck, writeTimeoutCheck, TimeUnit.MILLISECONDS);
+    }
+
+    public Subscription subscribe(ItemChangeFilter filter, ItemChangeSink sink) {
+        Subscription subscription = new Subscription(filter, sink, bufferSize);
+
+        if (filter.byItem()) {
+            add(byItem, itemKey(filter.item(), filter.itemId()), subscription);
+        } else {
+            add(byProject, filter.projectId(), subscription);
+        }
+
+        subscribers.incrementAndGet();
+        return subscription;
+    }
+
+    public void unsubscribe(Subscription subscription) {
+        if (subscription.closed.compareAndSet(false, true)) {
+            if (subscription.filter.byItem()) {
+                remove(byItem, itemKey(subscription.filter.item(), subscription.filter.itemId()), subscription);
+            } else {
+                remove(byProject, subscription.filter.projectId(), subscription);
+            }
+
+            subscribers.decrementAndGet();
+        }
+    }
+
+    public void publish(ItemChange change) {
+        if (subscribers.get() > 0) {
+            published.increment();
+            fanOut.execute(() -> fanOut(change));
+        }
+    }
+
+    public void heartbeat() {
+        forEachSubscription(this::heartbeat);
+    }
+
+    public void expireWrites() {
+        long now = System.nanoTime();
+        forEachSubscription(subscription -> expireWrite(subscription, now));
+    }
+
+    public int subscribers() {
+        return subscribers.get();
+    }
+
+    @Override
+    public void close() {
+        heartbeats.shutdown();
+        fanOut.shutdown();
+        senders.shutdown();
+
+        try {
+            senders.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("events.stream.subscribers", subscribers, AtomicInteger::get)
+                .description("Open item change subscriptions")
+                .register(registry);
+        FunctionCounter.builder("events.stream.published", published, LongAdder::sum)
+                .description("Item changes published while anyone was subscribed")
+                .register(registry);
+        FunctionCounter.builder("events.stream.sent", sent, LongAdder::sum)
+                .description("Item changes written to subscribers")
+                .register(registry);
+        FunctionCounter.builder("events.stream.dropped", dropped, LongAdder::sum)
+                .description("Item changes dropped because the fan-out backlog was full")
+                .register(registry);
+        FunctionCounter.builder("events.stream.overflows", overflows, LongAdder::sum)
+                .description("Subscribers disconnected because they fell a full buffer behind")
+                .register(registry);
+        FunctionCounter.builder("events.stream.write.timeouts", writeTimeouts, LongAdder::sum)
+                .description("Subscribers disconnected because a single write did not finish within the write timeout")
+                .register(registry);
+    }
+
+    static String itemKey(String item, long itemId) {
+        return item + SEPARATOR + itemId;
+    }
+
+    private void fanOut(ItemChange change) {
+        offer(byItem.get(itemKey(change.item(), change.itemId())), change);
+
+        if (change.projectId() != null) {
+            offer(byProject.get(change.projectId()), change);
+        }
+    }
+
+    private void offer(Set<Subscription> subscriptions, ItemChange change) {
+        if (subscriptions != null) {
+            subscriptions.forEach(subscription -> offer(subscription, change));
+        }
+    }
+
+    private void offer(Subscription subscription, ItemChange change) {
+        if (subscription.pending.offer(change)) {
+            schedule(subscription);
+        } else {
+            overflows.increment();
+            disconnect(subscription);
+        }
+    }
+
+    private void forEachSubscription(Consumer<Subscription> action) {
+        byProject.values().forEach(subscriptions -> subscriptions.forEach(action));
+        byItem.values().forEach(subscriptions -> subscriptions.forEach(action));
+    }
+
+    private void expireWrite(Subscription subscription, long now) {
+        synchronized (subscription) {
+            if (subscription.sender == null || subscription.expired || now - subscription.sendingSince < writeTimeoutNanos) {
+                return;
+            }
+
+            subscription.expired = true;
+            writeTimeouts.increment();
+            unsubscribe(subscription);
+            resizeSenders(1);
+            subscription.sender.interrupt();
+        }
+    }
+
+    private synchronized void resizeSenders(int delta) {
+        if (delta > 0) {
+            senders.setMaximumPoolSize(senders.getMaximumPoolSize() + delta);
+            senders.setCorePoolSize(senders.getCorePoolSize() + delta);
+        } else {
+            senders.setCorePoolSize(senders.getCorePoolSize() + delta);
+            senders.setMaximumPoolSize(senders.getMaximumPoolSize() + delta);
+        }
+    }
+
+    private void heartbeat(Subscription subscription) {
+        if (subscription.pending.isEmpty()) {
+            offer(subscription, HEARTBEAT);
+        }
+    }
+
+    private void schedule(Subscription subscription) {
+        if (subscription.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscription));
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        do {
+            ItemChange change = subscription.pending.poll();
+
+            while (change != null && !subscription.closed.get()) {
+                send(subscription, change);
+                change = subscription.pending.poll();
+            }
+
+            subscription.draining.set(false);
+        } while (!subscription.pending.isEmpty() && !subscription.closed.get() && subscription.draining.compareAndSet(false, true));
+    }
+
+    private void send(Subscription subscription, ItemChange change) {
+        synchronized (subscription) {
+            subscription.sendingSince = System.nanoTime();
+            subscription.sender = Thread.currentThread();
+        }
+
+        try {
+            if (change == HEARTBEAT) {
+                subscription.sink.heartbeat();
+            } else {
+                subscription.sink.send(change);
+                sent.increment();
+            }
+        } catch (IOException exception) {
+            disconnect(subscription);
+        } finally {
+            finishSend(subscription);
+        }
+    }
+
+    private void finishSend(Subscription subscription) {
+        boolean expired;
+
+        synchronized (subscription) {
+            subscription.sender = null;
+            expired = subscription.expired;
+            Thread.interrupted();
+        }
+
+        if (expired) {
+            resizeSenders(-1);
+            subscription.sink.close();
+        }
+    }
+
+    private void disconnect(Subscription subscription) {
+        if (!subscription.closed.get()) {
+            unsubscribe(subscription);
+            subscription.sink.close();
+        }
+    }
+
+    private static <K> void add(ConcurrentMap<K, Set<Subscription>> index, K key, Subscription subscription) {
+        index.compute(key, (any, subscriptions) -> {
+            Set<Subscription> withSubscription = subscriptions;
+
+            if (withSubscription == null) {
+                withSubscription = ConcurrentHashMap.newKeySet();
+            }
+
+            withSubscription.add(subscription);
+            return withSubscription;
+        });
+    }
+
+    private static <K> void remove(ConcurrentMap<K, Set<Subscription>> index, K key, Subscription subscription) {
+        index.computeIfPresent(key, (any, subscriptions) -> {
+            subscriptions.remove(subscription);
+
+            if (subscriptions.isEmpty()) {
+                return null;
+            }
+
+            return subscriptions;
+        });
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    public static final class Subscription {
+        private final ItemChangeFilter filter;
+        private final ItemChangeSink sink;
+        private final BlockingQueue<ItemChange> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private Thread sender;
+        private long sendingSince;
+        private boolean expired;
+
+        private Subscription(ItemChangeFilter filter, ItemChangeSink sink, int bufferSize) {
+            this.filter = filter;
+            this.sink = sink;
+            this.pending = new LinkedBlockingQueue<>(bufferSize);
+        }
+    }
+}
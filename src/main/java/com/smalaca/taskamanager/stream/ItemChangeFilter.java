@@ -0,0 +1,11 @@
+package com.smalaca.taskamanager.stream;
+
+public record ItemChangeFilter(Long projectId, String item, Long itemId) {
+    public boolean isValid() {
+        return byItem() || projectId != null && item == null && itemId == null;
+    }
+
+    boolean byItem() {
+        return item != null && itemId != null && ItemChange.ITEMS.contains(item);
+    }
+}
@@ -0,0 +1,11 @@
+package com.smalaca.taskamanager.stream;
+
+import java.io.IOException;
+
+public interface ItemChangeSink {
+    void send(ItemChange change) throws IOException;
+
+    void heartbeat() throws IOException;
+
+    void close();
+}
@@ -0,0 +1,112 @@
+package com.smalaca.taskamanager.stream;
+
+import com.smalaca.taskamanager.events.EpicReadyToPrioritize;
+import com.smalaca.taskamanager.events.StoryApprovedEvent;
+import com.smalaca.taskamanager.events.StoryDoneEvent;
+import com.smalaca.taskamanager.events.TaskApprovedEvent;
+import com.smalaca.taskamanager.model.entities.Epic;
+import com.smalaca.taskamanager.model.entities.Story;
+import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.interfaces.ToDoItem;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+import static com.smalaca.taskamanager.stream.ItemChange.EPIC;
+import static com.smalaca.taskamanager.stream.ItemChange.STORY;
+import static com.smalaca.taskamanager.stream.ItemChange.TASK;
+
+@Component
+public class ItemChangeSource implements PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+    private static final Map<String, String> ITEMS = Map.of(Task.class.getName(), TASK, Story.class.getName(), STORY, Epic.class.getName(), EPIC);
+
+    private final ItemChangeBroadcaster broadcaster;
+    private final ItemProjects itemProjects;
+
+    public ItemChangeSource(EntityManagerFactory entityManagerFactory, ItemChangeBroadcaster broadcaster, ItemProjects itemProjects) {
+        this.broadcaster = broadcaster;
+        this.itemProjects = itemProjects;
+
+        EventListenerRegistry listeners = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        listeners.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish("updated", event.getPersister(), event.getId(), event.getEntity(), statusOf(event.getEntity()));
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish("deleted", event.getPersister(), event.getId(), event.getEntity(), null);
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) { }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) { }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return ITEMS.containsKey(persister.getEntityName());
+    }
+
+    @EventListener
+    public void storyDone(StoryDoneEvent event) {
+        broadcaster.publish(new ItemChange("story-done", STORY, event.getStoryId(), projectOf(STORY, event.getStoryId()), null));
+    }
+
+    @EventListener
+    public void storyApproved(StoryApprovedEvent event) {
+        broadcaster.publish(new ItemChange("story-approved", STORY, event.getStoryId(), projectOf(STORY, event.getStoryId()), null));
+    }
+
+    @EventListener
+    public void taskApproved(TaskApprovedEvent event) {
+        broadcaster.publish(new ItemChange("task-approved", TASK, event.getTaskId(), projectOf(TASK, event.getTaskId()), null));
+    }
+
+    @EventListener
+    public void epicReadyToPrioritize(EpicReadyToPrioritize event) {
+        broadcaster.publish(new ItemChange("epic-ready-to-prioritize", EPIC, event.getEpicId(), projectOf(EPIC, event.getEpicId()), null));
+    }
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    private void publish(String change, EntityPersister persister, Object id, Object entity, String status) {
+        String item = ITEMS.get(persister.getEntityName());
+
+        if (item != null) {
+            broadcaster.publish(new ItemChange(change, item, (Long) id, itemProjects.projectOf(entity), status));
+        }
+    }
+
+    private Long projectOf(String item, long itemId) {
+        try {
+            return itemProjects.projectOf(item, itemId);
+        } catch (PersistenceException exception) {
+            return null;
+        }
+    }
+
+    private String statusOf(Object entity) {
+        if (entity instanceof ToDoItem && ((ToDoItem) entity).getStatus() != null) {
+            return ((ToDoItem) entity).getStatus().name();
+        }
+
+        return null;
+    }
+}
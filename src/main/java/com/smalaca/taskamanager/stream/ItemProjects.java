@@ -0,0 +1,91 @@
+package com.smalaca.taskamanager.stream;
+
+import com.smalaca.taskamanager.model.entities.Epic;
+import com.smalaca.taskamanager.model.entities.Project;
+import com.smalaca.taskamanager.model.entities.Sprint;
+import com.smalaca.taskamanager.model.entities.Story;
+import com.smalaca.taskamanager.model.entities.Task;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.smalaca.taskamanager.stream.ItemChange.EPIC;
+import static com.smalaca.taskamanager.stream.ItemChange.STORY;
+import static com.smalaca.taskamanager.stream.ItemChange.TASK;
+
+@Component
+public class ItemProjects {
+    private static final Map<String, String> PROJECT_OF = Map.of(
+            TASK, "select coalesce(e.project_id, ss.project_id, ts.project_id) from task t left join story s on s.id = t.story_id "
+                    + "left join epic e on e.id = s.epic_id left join sprint ss on ss.id = s.current_sprint_id "
+                    + "left join sprint ts on ts.id = t.current_sprint_id where t.id = :id",
+            STORY, "select coalesce(e.project_id, sp.project_id) from story s left join epic e on e.id = s.epic_id "
+                    + "left join sprint sp on sp.id = s.current_sprint_id where s.id = :id",
+            EPIC, "select project_id from epic where id = :id");
+
+    private final EntityManager entityManager;
+
+    public ItemProjects(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public Long projectOf(String item, long itemId) {
+        List<?> projectIds = entityManager.createNativeQuery(PROJECT_OF.get(item)).setParameter("id", itemId).getResultList();
+
+        if (projectIds.isEmpty() || projectIds.get(0) == null) {
+            return null;
+        }
+
+        return ((Number) projectIds.get(0)).longValue();
+    }
+
+    public Long projectOf(Object entity) {
+        Project project = null;
+
+        if (entity instanceof Task) {
+            project = projectOf((Task) entity);
+        } else if (entity instanceof Story) {
+            project = projectOf((Story) entity);
+        } else if (entity instanceof Epic) {
+            project = ((Epic) entity).getProject();
+        }
+
+        if (project == null) {
+            return null;
+        }
+
+        return project.getId();
+    }
+
+    private Project projectOf(Task task) {
+        Project project = null;
+
+        if (task.getStory() != null) {
+            project = projectOf(task.getStory());
+        }
+
+        if (project == null) {
+            project = projectOf(task.getCurrentSprint());
+        }
+
+        return project;
+    }
+
+    private Project projectOf(Story story) {
+        if (story.getEpic() != null && story.getEpic().getProject() != null) {
+            return story.getEpic().getProject();
+        }
+
+        return projectOf(story.getCurrentSprint());
+    }
+
+    private Project projectOf(Sprint sprint) {
+        if (sprint == null) {
+            return null;
+        }
+
+        return sprint.getProject();
+    }
+}
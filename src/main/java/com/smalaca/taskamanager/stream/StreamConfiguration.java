@@ -0,0 +1,21 @@
+package com.smalaca.taskamanager.stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class StreamConfiguration {
+    @Bean(destroyMethod = "close")
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public ItemChangeBroadcaster itemChangeBroadcaster(
+            @Value("${taskmanager.stream.backlog:10000}") int backlog,
+            @Value("${taskmanager.stream.buffer-size:64}") int bufferSize,
+            @Value("${taskmanager.stream.senders:4}") int senders,
+            @Value("${taskmanager.stream.heartbeat-interval:20s}") Duration heartbeatInterval,
+            @Value("${taskmanager.stream.write-timeout:5s}") Duration writeTimeout) {
+        return new ItemChangeBroadcaster(backlog, bufferSize, senders, heartbeatInterval, writeTimeout);
+    }
+}
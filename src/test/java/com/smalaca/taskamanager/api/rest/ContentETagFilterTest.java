@@ -0,0 +1,110 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.io.IOException;
+
+import static com.smalaca.taskamanager.api.rest.NdJsonWriter.APPLICATION_NDJSON_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentETagFilterTest {
+    private static final String BODY = "[{\"id\":1}]";
+
+    private final ContentETagFilter filter = new ContentETagFilter();
+
+    @Test
+    void shouldAddStrongETagCalculatedFromContent() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/team"), response, chainWriting(null));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("\"").doesNotStartWith("W/");
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWhenContentDidNotChange() throws ServletException, IOException {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/team"), first, chainWriting(null));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/team");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, chainWriting(null));
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsString()).isEmpty();
+    }
+
+    @Test
+    void shouldKeepVersionETagSetByController() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/task/1"), response, chainWriting("\"7\""));
+
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"7\"");
+    }
+
+    @Test
+    void shouldNotBufferNdJsonExportsWhateverTheyAccept() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/team");
+        request.addHeader(HttpHeaders.ACCEPT, MediaType.ALL_VALUE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                NdJsonWriter writer = NdJsonWriter.streaming(new ObjectMapper(), request, response);
+                writer.write(BODY);
+                assertThat(response.isCommitted()).isTrue();
+                writer.finish();
+            }
+        }));
+
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(response.getContentType()).isEqualTo(APPLICATION_NDJSON_VALUE);
+    }
+
+    @Test
+    void shouldNotBufferEventStreams() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/events/stream");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                ShallowEtagHeaderFilter.disableContentCaching(request);
+                response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+                response.getWriter().write(BODY);
+            }
+        }));
+
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    private MockFilterChain chainWriting(String eTag) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                if (eTag != null) {
+                    response.setHeader(HttpHeaders.ETAG, eTag);
+                }
+
+                response.getWriter().write(BODY);
+            }
+        });
+    }
+}
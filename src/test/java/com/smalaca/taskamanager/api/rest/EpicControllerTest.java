@@ -1,7 +1,9 @@
 package com.smalaca.taskamanager.api.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smalaca.taskamanager.dto.AssigneeDto;
 import com.smalaca.taskamanager.dto.EpicDto;
+import com.smalaca.taskamanager.dto.EpicTreeDto;
 import com.smalaca.taskamanager.dto.StakeholderDto;
 import com.smalaca.taskamanager.dto.WatcherDto;
 import com.smalaca.taskamanager.model.embedded.Assignee;
@@ -20,23 +22,33 @@ import com.smalaca.taskamanager.repository.EpicRepository;
 import com.smalaca.taskamanager.repository.ProjectRepository;
 import com.smalaca.taskamanager.repository.TeamRepository;
 import com.smalaca.taskamanager.repository.UserRepository;
+import com.smalaca.taskamanager.service.CascadeDeletion;
 import com.smalaca.taskamanager.service.ToDoItemService;
+import com.smalaca.taskamanager.service.UserLoader;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.IN_PROGRESS;
 import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.RELEASED;
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 class EpicControllerTest {
     private static final String TITLE = "Title like all the others";
@@ -52,6 +64,7 @@ class EpicControllerTest {
     private static final String ANOTHER_EMAIL_ADDRESS = "maria.hill@shield.com";
     private static final String ANOTHER_PHONE_PREFIX = "909";
     private static final String ANOTHER_PHONE_NUMBER = "982478438743";
+    private static final long VERSION = 7;
     private static final long EPIC_ID = 13;
     private static final long OWNER_ID = 42;
     private static final long PROJECT_ID = 69;
@@ -65,27 +78,68 @@ class EpicControllerTest {
     private final TeamRepository teamRepository = mock(TeamRepository.class);
     private final ProjectRepository projectRepository = mock(ProjectRepository.class);
     private final ToDoItemService toDoItemService = mock(ToDoItemService.class);
+    private final CascadeDeletion cascadeDeletion = mock(CascadeDeletion.class);
+    private final InMemoryTransactionManager transactionManager = new InMemoryTransactionManager();
+    private final OptimisticUpdateRetry optimisticUpdateRetry = new OptimisticUpdateRetry(transactionManager);
     private final EpicController controller = new EpicController(
-            epicRepository, userRepository, teamRepository, projectRepository, toDoItemService);
+            epicRepository, new UserLoader(userRepository), teamRepository, projectRepository, toDoItemService, new SerializedDtoCache(new ObjectMapper()),
+            cascadeDeletion, optimisticUpdateRetry);
     private final ArgumentCaptor<Epic> epicCaptor = ArgumentCaptor.forClass(Epic.class);
 
+    @Test
+    void shouldNotFindEpicTree() {
+        given(epicRepository.findSummaryById(EPIC_ID)).willReturn(Optional.empty());
+
+        ResponseEntity<EpicTreeDto> actual = controller.findTreeById(EPIC_ID);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        then(epicRepository).should(never()).findTaskSummariesByEpicId(any());
+    }
+
     @Test
     void shouldNotFindEpic() {
-        given(epicRepository.findById(EPIC_ID)).willReturn(Optional.empty());
+        given(epicRepository.findVersionById(EPIC_ID)).willReturn(Optional.empty());
 
-        ResponseEntity<EpicDto> actual = controller.findById(EPIC_ID);
+        ResponseEntity<byte[]> actual = controller.findById(EPIC_ID);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
 
     @Test
-    void shouldFindEpic() {
-        given(epicRepository.findById(EPIC_ID)).willReturn(Optional.of(existingEpic()));
+    void shouldServeSerializedEpicFromCacheWhileVersionIsUnchanged() {
+        given(epicRepository.findVersionById(EPIC_ID)).willReturn(Optional.of(VERSION));
+        given(epicRepository.findWithDetailsById(EPIC_ID)).willReturn(Optional.of(withVersion(existingEpic(), VERSION)));
+        byte[] first = controller.findById(EPIC_ID).getBody();
+
+        ResponseEntity<byte[]> actual = controller.findById(EPIC_ID);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getBody()).isSameAs(first);
+        then(epicRepository).should(times(1)).findWithDetailsById(EPIC_ID);
+    }
+
+    @Test
+    void shouldReloadSerializedEpicWhenVersionChanged() {
+        given(epicRepository.findVersionById(EPIC_ID)).willReturn(Optional.of(VERSION), Optional.of(VERSION + 1));
+        given(epicRepository.findWithDetailsById(EPIC_ID)).willReturn(
+                Optional.of(withVersion(existingEpic(), VERSION)), Optional.of(withVersion(existingEpic(), VERSION + 1)));
+        controller.findById(EPIC_ID);
 
-        ResponseEntity<EpicDto> actual = controller.findById(EPIC_ID);
+        ResponseEntity<byte[]> actual = controller.findById(EPIC_ID);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
-        EpicDto dto = actual.getBody();
+        then(epicRepository).should(times(2)).findWithDetailsById(EPIC_ID);
+    }
+
+    @Test
+    void shouldFindEpic() throws IOException {
+        given(epicRepository.findVersionById(EPIC_ID)).willReturn(Optional.of(VERSION));
+        given(epicRepository.findWithDetailsById(EPIC_ID)).willReturn(Optional.of(existingEpic()));
+
+        ResponseEntity<byte[]> actual = controller.findById(EPIC_ID);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        EpicDto dto = new ObjectMapper().readValue(actual.getBody(), EpicDto.class);
         assertThat(dto.getId()).isEqualTo(EPIC_ID);
         assertThat(dto.getTitle()).isEqualTo(TITLE);
         assertThat(dto.getDescription()).isEqualTo(DESCRIPTION);
@@ -119,6 +173,31 @@ class EpicControllerTest {
         assertThat(dto.getAssignee().getTeamId()).isEqualTo(TEAM_ID);
     }
 
+    @Test
+    void shouldFindEpicsByIds() {
+        given(epicRepository.findWithDetailsByIdIn(asList(EPIC_ID))).willReturn(asList(existingEpic()));
+
+        ResponseEntity<List<EpicDto>> actual = controller.findAllById(asList(EPIC_ID));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getBody()).hasSize(1).allSatisfy(dto -> {
+            assertThat(dto.getId()).isEqualTo(EPIC_ID);
+            assertThat(dto.getTitle()).isEqualTo(TITLE);
+            assertThat(dto.getWatchers()).hasSize(1);
+            assertThat(dto.getStakeholders()).hasSize(1);
+        });
+    }
+
+    @Test
+    void shouldNotFindEpicsByTooManyIds() {
+        List<Long> ids = LongStream.rangeClosed(1, 1001).boxed().collect(Collectors.toList());
+
+        ResponseEntity<List<EpicDto>> actual = controller.findAllById(ids);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        then(epicRepository).should(never()).findWithDetailsByIdIn(any());
+    }
+
     private Epic existingEpic() {
         Epic epic = epicWithoutOwner();
         Owner owner = new Owner();
@@ -203,7 +282,7 @@ class EpicControllerTest {
 
     @Test
     void shouldNotUpdateNotExistingEpic() {
-        given(epicRepository.existsById(EPIC_ID)).willReturn(false);
+        given(epicRepository.findById(EPIC_ID)).willReturn(Optional.empty());
 
         ResponseEntity<Void> actual = controller.update(EPIC_ID, updateEpicDto());
 
@@ -212,9 +291,8 @@ class EpicControllerTest {
 
     @Test
     void shouldNotUpdateWithNonExistingUser() {
-        given(epicRepository.existsById(EPIC_ID)).willReturn(true);
         given(epicRepository.findById(EPIC_ID)).willReturn(Optional.of(epicWithoutOwner()));
-        given(userRepository.existsById(OWNER_ID)).willReturn(false);
+        given(userRepository.findById(OWNER_ID)).willReturn(Optional.empty());
 
         ResponseEntity<Void> actual = controller.update(EPIC_ID, updateEpicDto());
 
@@ -223,7 +301,6 @@ class EpicControllerTest {
 
     @Test
     void shouldUpdateExistingEpicWithoutStatusChange() {
-        given(epicRepository.existsById(EPIC_ID)).willReturn(true);
         given(epicRepository.findById(EPIC_ID)).willReturn(Optional.of(epic()));
 
         ResponseEntity<Void> actual = controller.update(EPIC_ID, updateEpicDto());
@@ -237,7 +314,6 @@ class EpicControllerTest {
 
     @Test
     void shouldUpdateExistingEpicWithStatusChange() {
-        given(epicRepository.existsById(EPIC_ID)).willReturn(true);
         given(epicRepository.findById(EPIC_ID)).willReturn(Optional.of(epic()));
         EpicDto dto = updateEpicDto();
         dto.setStatus("RELEASED");
@@ -251,9 +327,25 @@ class EpicControllerTest {
         then(toDoItemService).should().processEpic(EPIC_ID);
     }
 
+    @Test
+    void shouldRepeatUpdateOnEpicChangedConcurrently() {
+        given(epicRepository.findById(EPIC_ID)).willReturn(Optional.of(epic()), Optional.of(epic()));
+        given(epicRepository.save(any()))
+                .willThrow(new ObjectOptimisticLockingFailureException(Epic.class, EPIC_ID))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        EpicDto dto = updateEpicDto();
+        dto.setStatus("RELEASED");
+
+        ResponseEntity<Void> actual = controller.update(EPIC_ID, dto);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(epicRepository).should(times(2)).findById(EPIC_ID);
+        then(toDoItemService).should().processEpic(EPIC_ID);
+        assertThat(optimisticUpdateRetry.retries(Epic.class)).isEqualTo(1);
+    }
+
     @Test
     void shouldUpdateExistingEpicWithOwner() {
-        given(epicRepository.existsById(EPIC_ID)).willReturn(true);
         given(epicRepository.findById(EPIC_ID)).willReturn(Optional.of(epic()));
 
         ResponseEntity<Void> actual = controller.update(EPIC_ID, updateEpicDto());
@@ -274,9 +366,7 @@ class EpicControllerTest {
 
     @Test
     void shouldUpdateExistingEpicWithoutOwner() {
-        given(epicRepository.existsById(EPIC_ID)).willReturn(true);
         given(epicRepository.findById(EPIC_ID)).willReturn(Optional.of(epicWithoutOwner()));
-        given(userRepository.existsById(OWNER_ID)).willReturn(true);
         given(userRepository.findById(OWNER_ID)).willReturn(Optional.of(owner()));
 
         ResponseEntity<Void> actual = controller.update(EPIC_ID, updateEpicDto());
@@ -351,6 +441,26 @@ class EpicControllerTest {
         assertThat(epicCaptor.getValue().getId()).isEqualTo(EPIC_ID);
     }
 
+    @Test
+    void shouldNotDeleteNotExistingEpicWithContent() {
+        given(epicRepository.existsById(EPIC_ID)).willReturn(false);
+
+        ResponseEntity<Void> actual = controller.deleteWithContent(EPIC_ID);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        then(cascadeDeletion).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void shouldDeleteEpicWithContent() {
+        given(epicRepository.existsById(EPIC_ID)).willReturn(true);
+
+        ResponseEntity<Void> actual = controller.deleteWithContent(EPIC_ID);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(cascadeDeletion).should().deleteEpic(EPIC_ID);
+    }
+
     @Test
     void shouldNotAddWatcherToNotExistingEpic() {
         given(epicRepository.findById(EPIC_ID)).willReturn(Optional.empty());
@@ -423,6 +533,53 @@ class EpicControllerTest {
         assertThat(epicCaptor.getValue().getWatchers()).isEmpty();
     }
 
+    @Test
+    void shouldAddWatchersToEpicInOneSave() {
+        given(epicRepository.findById(EPIC_ID)).willReturn(Optional.of(epicWithWatcher()));
+        given(userRepository.findAllById(Set.of(WATCHER_ID, OWNER_ID))).willReturn(List.of(userWithId(WATCHER_ID), owner()));
+
+        ResponseEntity<Void> actual = controller.addWatchers(EPIC_ID, List.of(WATCHER_ID, OWNER_ID, WATCHER_ID));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(epicRepository).should().save(epicCaptor.capture());
+        assertThat(epicCaptor.getValue().getWatchers())
+                .extracting(Watcher::getFirstName)
+                .containsExactlyInAnyOrder(ANOTHER_FIRST_NAME, FIRST_NAME);
+        then(userRepository).should(never()).findById(any());
+    }
+
+    @Test
+    void shouldNotAddWatchersToEpicWhenAnyUserDoesNotExist() {
+        given(epicRepository.findById(EPIC_ID)).willReturn(Optional.of(epicWithId()));
+        given(userRepository.findAllById(Set.of(WATCHER_ID, OWNER_ID))).willReturn(List.of(userWithId(WATCHER_ID)));
+
+        ResponseEntity<Void> actual = controller.addWatchers(EPIC_ID, List.of(WATCHER_ID, OWNER_ID));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.FAILED_DEPENDENCY);
+        then(epicRepository).should(never()).save(any());
+    }
+
+    @Test
+    void shouldNotAddWatchersToNotExistingEpic() {
+        given(epicRepository.findById(EPIC_ID)).willReturn(Optional.empty());
+
+        ResponseEntity<Void> actual = controller.addWatchers(EPIC_ID, List.of(WATCHER_ID));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void shouldRemoveStakeholdersFromEpicInOneSave() {
+        given(epicRepository.findById(EPIC_ID)).willReturn(Optional.of(epicWithStakeholder()));
+        given(userRepository.findAllById(Set.of(STAKEHOLDER_ID, OWNER_ID))).willReturn(List.of(userWithId(STAKEHOLDER_ID), owner()));
+
+        ResponseEntity<Void> actual = controller.removeStakeholders(EPIC_ID, List.of(STAKEHOLDER_ID, OWNER_ID));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(epicRepository).should().save(epicCaptor.capture());
+        assertThat(epicCaptor.getValue().getStakeholders()).isEmpty();
+    }
+
     private Epic epicWithWatcher() {
         Epic epic = epicWithId();
         epic.addWatcher(watcher());
@@ -671,6 +828,17 @@ class EpicControllerTest {
         return user;
     }
 
+    private <T> T withVersion(T entity, long version) {
+        try {
+            Field fieldVersion = entity.getClass().getDeclaredField("version");
+            fieldVersion.setAccessible(true);
+            fieldVersion.set(entity, version);
+            return entity;
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private <T> T withId(T entity, long id) {
         try {
             Field fieldId = entity.getClass().getDeclaredField("id");
@@ -3,12 +3,15 @@ package com.smalaca.taskamanager.api.rest;
 import com.smalaca.taskamanager.model.embedded.Codename;
 import com.smalaca.taskamanager.model.entities.Team;
 import com.smalaca.taskamanager.repository.TeamRepository;
+import com.smalaca.taskamanager.repository.TeamSummary;
 import org.apache.commons.lang3.RandomUtils;
 
 import java.lang.reflect.Field;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Comparator;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static java.util.List.copyOf;
 
@@ -72,6 +75,47 @@ class InMemoryTeamRepository implements TeamRepository {
         return Optional.empty();
     }
 
+    @Override
+    public Stream<TeamSummary> streamAllSummaries() {
+        return teams.values().stream()
+                .sorted(Comparator.comparing(Team::getId))
+                .map(this::asSummary);
+    }
+
+    @Override
+    public Stream<String> streamAllNames() {
+        return teams.values().stream().map(Team::getName);
+    }
+
+    private TeamSummary asSummary(Team team) {
+        return new TeamSummary() {
+            @Override
+            public Long getId() {
+                return team.getId();
+            }
+
+            @Override
+            public String getName() {
+                return team.getName();
+            }
+
+            @Override
+            public String getCodenameShort() {
+                return team.getCodename().getShortName();
+            }
+
+            @Override
+            public String getCodenameFull() {
+                return team.getCodename().getFullName();
+            }
+
+            @Override
+            public String getDescription() {
+                return team.getDescription();
+            }
+        };
+    }
+
     @Override
     public Optional<Team> findById(Long id) {
         if (teams.containsKey(id)) {
@@ -125,4 +169,9 @@ class InMemoryTeamRepository implements TeamRepository {
     public void deleteAll() {
 
     }
+
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        return Optional.ofNullable(teams.get(id)).map(Team::getVersion);
+    }
 }
@@ -0,0 +1,38 @@
+package com.smalaca.taskamanager.api.rest;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+class InMemoryTransactionManager implements PlatformTransactionManager {
+    private int commits;
+    private int rollbacks;
+
+    @Override
+    public TransactionStatus getTransaction(TransactionDefinition definition) {
+        return new SimpleTransactionStatus();
+    }
+
+    @Override
+    public void commit(TransactionStatus status) {
+        if (status.isRollbackOnly()) {
+            rollbacks++;
+        } else {
+            commits++;
+        }
+    }
+
+    @Override
+    public void rollback(TransactionStatus status) {
+        rollbacks++;
+    }
+
+    int commits() {
+        return commits;
+    }
+
+    int rollbacks() {
+        return rollbacks;
+    }
+}
@@ -5,15 +5,19 @@ import com.smalaca.taskamanager.model.embedded.PhoneNumber;
 import com.smalaca.taskamanager.model.embedded.UserName;
 import com.smalaca.taskamanager.model.entities.User;
 import com.smalaca.taskamanager.model.enums.TeamRole;
+import com.smalaca.taskamanager.repository.PersonName;
 import com.smalaca.taskamanager.repository.UserRepository;
 import org.apache.commons.lang3.RandomUtils;
+import org.springframework.data.domain.Limit;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static com.smalaca.taskamanager.model.enums.TeamRole.BUSINESS_ANALYSIS;
 import static com.smalaca.taskamanager.model.enums.TeamRole.DEVELOPER;
@@ -90,6 +94,15 @@ class InMemoryUserRepository implements UserRepository {
         return Optional.empty();
     }
 
+    @Override
+    public List<User> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit) {
+        return users.values().stream()
+                .filter(user -> user.getId() > id)
+                .sorted(Comparator.comparing(User::getId))
+                .limit(limit.max())
+                .toList();
+    }
+
     @Override
     public Optional<User> findById(Long id) {
         if (users.containsKey(id)) {
@@ -151,4 +164,24 @@ class InMemoryUserRepository implements UserRepository {
     public void deleteAll() {
 
     }
+
+    @Override
+    public Stream<PersonName> streamAllNames() {
+        return users.values().stream().map(user -> new PersonName() {
+            @Override
+            public String getFirstName() {
+                return user.getUserName().getFirstName();
+            }
+
+            @Override
+            public String getLastName() {
+                return user.getUserName().getLastName();
+            }
+        });
+    }
+
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        return Optional.ofNullable(users.get(id)).map(User::getVersion);
+    }
 }
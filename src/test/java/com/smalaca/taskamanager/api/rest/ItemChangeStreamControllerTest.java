@@ -0,0 +1,59 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.smalaca.taskamanager.stream.ItemChangeBroadcaster;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.OK;
+
+class ItemChangeStreamControllerTest {
+    private static final Duration TIMEOUT = Duration.ofMinutes(30);
+    private static final long PROJECT_ID = 13;
+
+    private final ItemChangeBroadcaster broadcaster = new ItemChangeBroadcaster(16, 16, 1, Duration.ofHours(1), Duration.ofHours(1));
+    private final ItemChangeStreamController controller = new ItemChangeStreamController(broadcaster, TIMEOUT);
+
+    @AfterEach
+    void close() {
+        broadcaster.close();
+    }
+
+    @Test
+    void shouldSubscribeToChangesOfProject() {
+        ResponseEntity<SseEmitter> actual = controller.stream(PROJECT_ID, null, null);
+
+        assertThat(actual.getStatusCode()).isEqualTo(OK);
+        assertThat(actual.getBody().getTimeout()).isEqualTo(TIMEOUT.toMillis());
+        assertThat(broadcaster.subscribers()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSubscribeToChangesOfItem() {
+        ResponseEntity<SseEmitter> actual = controller.stream(null, "story", 42L);
+
+        assertThat(actual.getStatusCode()).isEqualTo(OK);
+        assertThat(broadcaster.subscribers()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecognizeStreamWithoutFilter() {
+        ResponseEntity<SseEmitter> actual = controller.stream(null, null, null);
+
+        assertThat(actual.getStatusCode()).isEqualTo(BAD_REQUEST);
+        assertThat(broadcaster.subscribers()).isZero();
+    }
+
+    @Test
+    void shouldRecognizeStreamOfUnknownItem() {
+        assertThat(controller.stream(null, "sprint", 42L).getStatusCode()).isEqualTo(BAD_REQUEST);
+        assertThat(controller.stream(null, "task", null).getStatusCode()).isEqualTo(BAD_REQUEST);
+        assertThat(controller.stream(PROJECT_ID, "task", null).getStatusCode()).isEqualTo(BAD_REQUEST);
+        assertThat(broadcaster.subscribers()).isZero();
+    }
+}
@@ -0,0 +1,87 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smalaca.taskamanager.journal.EventJournal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+
+import static com.smalaca.taskamanager.journal.JournalEventType.STORY_DONE;
+import static com.smalaca.taskamanager.journal.JournalEventType.TASK_APPROVED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+class JournalControllerTest {
+    private static final Instant NOW = Instant.parse("2026-10-18T10:15:30Z");
+    private static final int SEGMENT_SIZE = 4096;
+    private static final int ALL = 1000;
+
+    @TempDir private Path directory;
+
+    private final Clock clock = mock(Clock.class);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private EventJournal journal;
+    private JournalController controller;
+
+    @BeforeEach
+    void journalWithEvents() {
+        given(clock.millis()).willReturn(NOW.toEpochMilli(), NOW.toEpochMilli(), NOW.plusSeconds(1).toEpochMilli());
+        journal = new EventJournal(directory, SEGMENT_SIZE, 1, clock);
+        journal.append(STORY_DONE, 13);
+        journal.append(TASK_APPROVED, 42);
+        journal.append(STORY_DONE, 69);
+        controller = new JournalController(journal, new ObjectMapper());
+    }
+
+    @AfterEach
+    void close() {
+        journal.close();
+    }
+
+    @Test
+    void shouldStreamWholeJournal() throws IOException {
+        controller.replay(null, null, ALL, new MockHttpServletRequest(), response);
+
+        assertThat(response.getContentType()).isEqualTo("application/x-ndjson");
+        assertThat(response.getContentAsString().split("\n")).containsExactly(
+                "{\"offset\":0,\"type\":\"STORY_DONE\",\"timestamp\":1792318530000,\"itemId\":13}",
+                "{\"offset\":1,\"type\":\"TASK_APPROVED\",\"timestamp\":1792318530000,\"itemId\":42}",
+                "{\"offset\":2,\"type\":\"STORY_DONE\",\"timestamp\":1792318531000,\"itemId\":69}");
+    }
+
+    @Test
+    void shouldStreamEventsFromOffset() throws IOException {
+        controller.replay(1L, null, 1, new MockHttpServletRequest(), response);
+
+        assertThat(response.getContentAsString().split("\n")).containsExactly(
+                "{\"offset\":1,\"type\":\"TASK_APPROVED\",\"timestamp\":1792318530000,\"itemId\":42}");
+    }
+
+    @Test
+    void shouldStreamEventsSinceTimestamp() throws IOException {
+        controller.replay(null, NOW.plusMillis(1), ALL, new MockHttpServletRequest(), response);
+
+        assertThat(response.getContentAsString().split("\n")).containsExactly(
+                "{\"offset\":2,\"type\":\"STORY_DONE\",\"timestamp\":1792318531000,\"itemId\":69}");
+    }
+
+    @Test
+    void shouldRecognizeInvalidReplayRequest() throws IOException {
+        controller.replay(0L, NOW, ALL, new MockHttpServletRequest(), response);
+        assertThat(response.getStatus()).isEqualTo(BAD_REQUEST.value());
+
+        MockHttpServletResponse tooLarge = new MockHttpServletResponse();
+        controller.replay(null, null, 100_001, new MockHttpServletRequest(), tooLarge);
+        assertThat(tooLarge.getStatus()).isEqualTo(BAD_REQUEST.value());
+    }
+}
@@ -0,0 +1,109 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.smalaca.taskamanager.model.entities.Epic;
+import com.smalaca.taskamanager.model.entities.Story;
+import com.smalaca.taskamanager.model.entities.Task;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OptimisticUpdateRetryTest {
+    private static final long ID = 13;
+
+    private final InMemoryTransactionManager transactionManager = new InMemoryTransactionManager();
+    private final OptimisticUpdateRetry retry = new OptimisticUpdateRetry(transactionManager);
+
+    @Test
+    void shouldNotRepeatSuccessfulUpdate() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        ResponseEntity<Void> actual = retry.update(Task.class, () -> {
+            attempts.incrementAndGet();
+            return ResponseEntity.ok().build();
+        });
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(attempts).hasValue(1);
+        assertThat(retry.conflicts(Task.class)).isZero();
+        assertThat(transactionManager.commits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRollBackUpdateThatWasNotSuccessful() {
+        ResponseEntity<Void> actual = retry.update(Task.class, () -> new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.FAILED_DEPENDENCY);
+        assertThat(transactionManager.commits()).isZero();
+        assertThat(transactionManager.rollbacks()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRepeatUpdateUntilItWinsTheRace() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        ResponseEntity<Void> actual = retry.update(Story.class, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException(Story.class, ID);
+            }
+
+            return ResponseEntity.ok().build();
+        });
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(attempts).hasValue(3);
+        assertThat(retry.conflicts(Story.class)).isEqualTo(2);
+        assertThat(retry.retries(Story.class)).isEqualTo(2);
+        assertThat(retry.exhausted(Story.class)).isZero();
+        assertThat(transactionManager.rollbacks()).isEqualTo(2);
+        assertThat(transactionManager.commits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldGiveUpWithConflictAfterBoundedNumberOfAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        ResponseEntity<Void> actual = retry.update(Epic.class, () -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException(Epic.class, ID);
+        });
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(attempts).hasValue(5);
+        assertThat(retry.conflicts(Epic.class)).isEqualTo(5);
+        assertThat(retry.retries(Epic.class)).isEqualTo(4);
+        assertThat(retry.exhausted(Epic.class)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotRepeatUpdateFailingForOtherReason() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retry.update(Task.class, () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void shouldExposeContentionPerItemType() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        retry.bindTo(registry);
+
+        retry.update(Task.class, () -> {
+            throw new ObjectOptimisticLockingFailureException(Task.class, ID);
+        });
+
+        assertThat(registry.get("todo.item.update.conflicts").tag("item", "task").functionCounter().count()).isEqualTo(5);
+        assertThat(registry.get("todo.item.update.exhausted").tag("item", "task").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("todo.item.update.conflicts").tag("item", "story").functionCounter().count()).isZero();
+    }
+}
@@ -7,6 +7,7 @@ import com.smalaca.taskamanager.model.entities.ProductOwner;
 import com.smalaca.taskamanager.model.entities.Project;
 import com.smalaca.taskamanager.repository.ProductOwnerRepository;
 import com.smalaca.taskamanager.repository.ProjectRepository;
+import com.smalaca.taskamanager.service.UniqueNameIndex;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.http.HttpStatus;
@@ -42,7 +43,7 @@ class ProductOwnerControllerTest {
 
     private final ProductOwnerRepository productOwnerRepository = mock(ProductOwnerRepository.class);
     private final ProjectRepository projectRepository = mock(ProjectRepository.class);
-    private final ProductOwnerController controller = new ProductOwnerController(productOwnerRepository, projectRepository);
+    private final ProductOwnerController controller = new ProductOwnerController(productOwnerRepository, projectRepository, new UniqueNameIndex());
 
     @Test
     void shouldRecognizeTheProductOwnerToFindDoesNotExist() {
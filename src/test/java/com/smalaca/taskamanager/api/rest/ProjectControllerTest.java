@@ -1,21 +1,36 @@
 package com.smalaca.taskamanager.api.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smalaca.taskamanager.dto.ProjectDto;
 import com.smalaca.taskamanager.model.entities.ProductOwner;
 import com.smalaca.taskamanager.model.entities.Project;
 import com.smalaca.taskamanager.model.entities.Team;
+import com.smalaca.taskamanager.model.entities.User;
 import com.smalaca.taskamanager.model.enums.ProjectStatus;
 import com.smalaca.taskamanager.repository.ProjectRepository;
+import com.smalaca.taskamanager.repository.ProjectSummary;
 import com.smalaca.taskamanager.repository.TeamRepository;
+import com.smalaca.taskamanager.service.CascadeDeletion;
+import com.smalaca.taskamanager.service.ProjectRecipientIndex;
+import com.smalaca.taskamanager.service.ProjectRecipientIndex.Recipient;
+import com.smalaca.taskamanager.service.UniqueNameIndex;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static com.smalaca.taskamanager.model.enums.ProjectStatus.ANALYSIS_OF_ROI;
 import static com.smalaca.taskamanager.model.enums.ProjectStatus.COMPLETED;
@@ -28,6 +43,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.springframework.web.util.UriComponentsBuilder.fromUriString;
 
 class ProjectControllerTest {
@@ -38,7 +54,11 @@ class ProjectControllerTest {
 
     private final ProjectRepository projectRepository = mock(ProjectRepository.class);
     private final TeamRepository teamRepository = mock(TeamRepository.class);
-    private final ProjectController controller = new ProjectController(projectRepository, teamRepository);
+    private final ProjectRecipientIndex recipientIndex = new ProjectRecipientIndex();
+    private final UniqueNameIndex uniqueNameIndex = new UniqueNameIndex();
+    private final CascadeDeletion cascadeDeletion = mock(CascadeDeletion.class);
+    private final ProjectController controller = new ProjectController(
+            projectRepository, teamRepository, recipientIndex, uniqueNameIndex, cascadeDeletion, new ObjectMapper());
 
     @Test
     void shouldFindAllProjects() {
@@ -72,6 +92,30 @@ class ProjectControllerTest {
                 });
     }
 
+    @Test
+    void shouldExportAllProjectsAsNdJson() throws IOException {
+        ProjectSummary avengersVsXMen = projectSummary(1L, "Avengers vs. X-Men", PROOF_OF_CONCEPT, null);
+        ProjectSummary empyre = projectSummary(2L, "Empyre", ANALYSIS_OF_ROI, 42L);
+        given(projectRepository.streamAllSummaries()).willReturn(Stream.of(avengersVsXMen, empyre));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.exportAllProjects(new MockHttpServletRequest(), response);
+
+        assertThat(response.getContentType()).isEqualTo("application/x-ndjson");
+        assertThat(response.getContentAsString().split("\n")).containsExactly(
+                "{\"id\":1,\"name\":\"Avengers vs. X-Men\",\"projectStatus\":\"PROOF_OF_CONCEPT\",\"productOwnerId\":null,\"teamIds\":[]}",
+                "{\"id\":2,\"name\":\"Empyre\",\"projectStatus\":\"ANALYSIS_OF_ROI\",\"productOwnerId\":42,\"teamIds\":[]}");
+    }
+
+    private ProjectSummary projectSummary(Long id, String name, ProjectStatus status, Long productOwnerId) {
+        ProjectSummary summary = mock(ProjectSummary.class);
+        given(summary.getId()).willReturn(id);
+        given(summary.getName()).willReturn(name);
+        given(summary.getProjectStatus()).willReturn(status);
+        given(summary.getProductOwnerId()).willReturn(productOwnerId);
+        return summary;
+    }
+
     @Test
     void shouldRecognizeProjectIsNotFound() {
         given(projectRepository.findById(PROJECT_ID)).willReturn(Optional.empty());
@@ -100,6 +144,62 @@ class ProjectControllerTest {
         assertThat(actualProject.getTeamIds()).containsExactlyInAnyOrder(1L, 2L);
     }
 
+    @Test
+    void shouldNotCheckVersionOfProjectForUnconditionalRequest() {
+        given(projectRepository.findById(PROJECT_ID)).willReturn(Optional.of(project(13, "Schizm", COMPLETED, 113)));
+
+        ResponseEntity<ProjectDto> actual = controller.getProject(PROJECT_ID);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(projectRepository).should(never()).findVersionById(any());
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWithoutLoadingProjectWhenETagMatches() {
+        inRequestWithIfNoneMatch("W/\"4\"");
+        given(projectRepository.findVersionById(PROJECT_ID)).willReturn(Optional.of(4L));
+
+        ResponseEntity<ProjectDto> actual = controller.getProject(PROJECT_ID);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(actual.getHeaders().getETag()).isEqualTo("\"4\"");
+        then(projectRepository).should(never()).findById(any());
+    }
+
+    @Test
+    void shouldFindProjectWhenETagIsOutdated() {
+        inRequestWithIfNoneMatch("\"3\"");
+        given(projectRepository.findVersionById(PROJECT_ID)).willReturn(Optional.of(4L));
+        given(projectRepository.findById(PROJECT_ID)).willReturn(Optional.of(project(13, "Schizm", COMPLETED, 113)));
+
+        ResponseEntity<ProjectDto> actual = controller.getProject(PROJECT_ID);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getBody().getName()).isEqualTo("Schizm");
+    }
+
+    @Test
+    void shouldRecognizeProjectIsNotFoundWhenConditionallyRequested() {
+        inRequestWithIfNoneMatch("\"3\"");
+        given(projectRepository.findVersionById(PROJECT_ID)).willReturn(Optional.empty());
+        given(projectRepository.findById(PROJECT_ID)).willReturn(Optional.empty());
+
+        ResponseEntity<ProjectDto> actual = controller.getProject(PROJECT_ID);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @AfterEach
+    void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private void inRequestWithIfNoneMatch(String eTags) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, eTags);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
     @Test
     void shouldRecognizeProjectAlreadyExist() {
         given(projectRepository.findByName("Weapon X")).willReturn(Optional.of(new Project()));
@@ -111,6 +211,32 @@ class ProjectControllerTest {
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
     }
 
+    @Test
+    void shouldCreateProjectWithoutQueryingForNameThatIsDefinitelyNew() {
+        uniqueNameIndex.warmedUp();
+        given(projectRepository.save(any())).willReturn(withId(new Project(), 69));
+        ProjectDto dto = new ProjectDto();
+        dto.setName("Weapon X");
+
+        ResponseEntity<Void> actual = controller.createProject(dto, fromUriString("/"));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        then(projectRepository).should(never()).findByName(any());
+    }
+
+    @Test
+    void shouldQueryForNameThatMightExist() {
+        uniqueNameIndex.warmedUp();
+        uniqueNameIndex.put(UniqueNameIndex.Kind.PROJECT, "Weapon X");
+        given(projectRepository.findByName("Weapon X")).willReturn(Optional.of(new Project()));
+        ProjectDto dto = new ProjectDto();
+        dto.setName("Weapon X");
+
+        ResponseEntity<Void> actual = controller.createProject(dto, null);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
     @Test
     void shouldCreateProject() {
         UriComponentsBuilder uriComponentsBuilder = fromUriString("/");
@@ -178,6 +304,38 @@ class ProjectControllerTest {
         then(projectRepository).should().delete(project);
     }
 
+    @Test
+    void shouldRecognizeThereIsNoProjectToDeleteWithContent() {
+        given(projectRepository.existsById(PROJECT_ID)).willReturn(false);
+
+        ResponseEntity<Void> actual = controller.deleteProjectWithContent(PROJECT_ID, false);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        then(cascadeDeletion).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void shouldDeleteProjectWithContent() {
+        given(projectRepository.existsById(PROJECT_ID)).willReturn(true);
+
+        ResponseEntity<Void> actual = controller.deleteProjectWithContent(PROJECT_ID, false);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(cascadeDeletion).should().deleteProject(PROJECT_ID);
+        then(projectRepository).should(never()).delete(any());
+    }
+
+    @Test
+    void shouldAcceptAsynchronousDeletionOfProjectWithContent() {
+        given(projectRepository.existsById(PROJECT_ID)).willReturn(true);
+
+        ResponseEntity<Void> actual = controller.deleteProjectWithContent(PROJECT_ID, true);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        then(cascadeDeletion).should().deleteProjectLater(PROJECT_ID);
+        then(cascadeDeletion).should(never()).deleteProject(PROJECT_ID);
+    }
+
     @Test
     void shouldRecognizeThereIsNoProjectToAddTeam() {
         given(projectRepository.findById(PROJECT_ID)).willReturn(Optional.empty());
@@ -215,6 +373,20 @@ class ProjectControllerTest {
         assertThat(teamProject.getId()).isEqualTo(PROJECT_ID);
     }
 
+    @Test
+    void shouldAddRecipientsOfAssignedTeam() {
+        Project project = existingProjectWithTeam();
+        Team team = notAssignedTeam(NEW_TEAM_ID);
+        team.addMember(member(7, "peter.parker"));
+        given(projectRepository.findById(PROJECT_ID)).willReturn(Optional.of(project));
+        given(teamRepository.findById(NEW_TEAM_ID)).willReturn(Optional.of(team));
+        assertThat(recipientIndex.recipientsOf(project)).isEmpty();
+
+        controller.addTeam(PROJECT_ID, NEW_TEAM_ID);
+
+        assertThat(recipientIndex.recipientsOf(project)).extracting(Recipient::login).containsExactly("peter.parker");
+    }
+
     private List<Long> asTeamIds(Project actualProject) {
         List<Long> teamIds = actualProject.getTeams().stream().map(Team::getId).collect(toList());
         return teamIds;
@@ -259,6 +431,27 @@ class ProjectControllerTest {
         assertThat(teamCaptor.getValue().getProject()).isNull();
     }
 
+    @Test
+    void shouldRemoveRecipientsOfRemovedTeam() {
+        Project project = existingProjectWithTeam();
+        Team team = project.getTeams().get(1);
+        team.addMember(member(7, "peter.parker"));
+        team.setProject(project);
+        given(projectRepository.findById(PROJECT_ID)).willReturn(Optional.of(project));
+        given(teamRepository.findById(TEAM_ID_2)).willReturn(Optional.of(team));
+        assertThat(recipientIndex.recipientsOf(project)).hasSize(1);
+
+        controller.removeTeam(PROJECT_ID, TEAM_ID_2);
+
+        assertThat(recipientIndex.recipientsOf(project)).isEmpty();
+    }
+
+    private User member(long id, String login) {
+        User user = withId(new User(), id);
+        user.setLogin(login);
+        return user;
+    }
+
     private Team notAssignedTeam(long id) {
         return withId(new Team(), id);
     }
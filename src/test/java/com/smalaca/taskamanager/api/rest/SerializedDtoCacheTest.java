@@ -0,0 +1,55 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smalaca.taskamanager.dto.EpicDto;
+import com.smalaca.taskamanager.dto.TaskDto;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializedDtoCacheTest {
+    private static final long ID = 13;
+    private static final long VERSION = 3;
+
+    private final SerializedDtoCache cache = new SerializedDtoCache(new ObjectMapper());
+
+    @Test
+    void shouldSerializeAndRememberDto() {
+        byte[] json = cache.put(TaskDto.class, ID, VERSION, taskDto());
+
+        assertThat(new String(json, StandardCharsets.UTF_8)).contains("\"title\":\"Fix it\"");
+        assertThat(cache.find(TaskDto.class, ID, VERSION)).containsSame(json);
+    }
+
+    @Test
+    void shouldNotFindOtherVersion() {
+        cache.put(TaskDto.class, ID, VERSION, taskDto());
+
+        assertThat(cache.find(TaskDto.class, ID, VERSION + 1)).isEmpty();
+    }
+
+    @Test
+    void shouldNotMixTypesWithTheSameId() {
+        cache.put(TaskDto.class, ID, VERSION, taskDto());
+
+        assertThat(cache.find(EpicDto.class, ID, VERSION)).isEmpty();
+    }
+
+    @Test
+    void shouldForgetEvictedDto() {
+        cache.put(TaskDto.class, ID, VERSION, taskDto());
+
+        cache.evict(TaskDto.class, ID);
+
+        assertThat(cache.find(TaskDto.class, ID, VERSION)).isEmpty();
+    }
+
+    private TaskDto taskDto() {
+        TaskDto dto = new TaskDto();
+        dto.setId(ID);
+        dto.setTitle("Fix it");
+        return dto;
+    }
+}
@@ -1,21 +1,31 @@
 package com.smalaca.taskamanager.api.rest;
 
+import com.smalaca.taskamanager.dto.SprintBoardDto;
 import com.smalaca.taskamanager.dto.SprintDto;
 import com.smalaca.taskamanager.model.entities.Project;
 import com.smalaca.taskamanager.model.entities.Sprint;
 import com.smalaca.taskamanager.model.entities.Story;
 import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
 import com.smalaca.taskamanager.repository.ProjectRepository;
 import com.smalaca.taskamanager.repository.SprintRepository;
 import com.smalaca.taskamanager.repository.StoryRepository;
 import com.smalaca.taskamanager.repository.TaskRepository;
+import com.smalaca.taskamanager.repository.ToDoItemSummary;
+import com.smalaca.taskamanager.service.UniqueNameIndex;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.http.ResponseEntity;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DONE;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.IN_PROGRESS;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -39,8 +49,53 @@ class SprintControllerTest {
     private final TaskRepository taskRepository = mock(TaskRepository.class);
     private final StoryRepository storyRepository = mock(StoryRepository.class);
     private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final UniqueNameIndex uniqueNameIndex = new UniqueNameIndex();
     private final SprintController controller = new SprintController(
-            sprintRepository, taskRepository, storyRepository, projectRepository);
+            sprintRepository, taskRepository, storyRepository, projectRepository, uniqueNameIndex);
+
+    @Test
+    void shouldNotFindBoardOfNotExistingSprint() {
+        given(sprintRepository.findById(SPRINT_ID)).willReturn(Optional.empty());
+
+        ResponseEntity<SprintBoardDto> response = controller.findBoardById(SPRINT_ID);
+
+        assertThat(response.getStatusCode()).isEqualTo(NOT_FOUND);
+    }
+
+    @Test
+    void shouldFindBoardGroupedByStatus() {
+        given(sprintRepository.findById(SPRINT_ID)).willReturn(Optional.of(existingSprint()));
+        List<ToDoItemSummary> tasks = asList(
+                summary(TASK_ID, IN_PROGRESS), summary(TASK_ID + 1, IN_PROGRESS), summary(TASK_ID + 2, DONE));
+        given(sprintRepository.findTaskSummariesBySprintId(SPRINT_ID)).willReturn(tasks);
+        List<ToDoItemSummary> stories = singletonList(summary(STORY_ID, DONE));
+        given(sprintRepository.findStorySummariesBySprintId(SPRINT_ID)).willReturn(stories);
+
+        ResponseEntity<SprintBoardDto> response = controller.findBoardById(SPRINT_ID);
+
+        assertThat(response.getStatusCode()).isEqualTo(OK);
+        SprintBoardDto dto = response.getBody();
+        assertThat(dto.getId()).isEqualTo(SPRINT_ID);
+        assertThat(dto.getName()).isEqualTo(SPRINT_NAME);
+        assertThat(dto.getTasks()).containsOnlyKeys(statusNames());
+        assertThat(dto.getTasks().get("IN_PROGRESS")).extracting("id").containsExactly(TASK_ID, TASK_ID + 1);
+        assertThat(dto.getTasks().get("DONE")).extracting("id").containsExactly(TASK_ID + 2);
+        assertThat(dto.getTasks().get("DEFINED")).isEmpty();
+        assertThat(dto.getStories()).containsOnlyKeys(statusNames());
+        assertThat(dto.getStories().get("DONE")).extracting("id").containsExactly(STORY_ID);
+        assertThat(dto.getStories().get("IN_PROGRESS")).isEmpty();
+    }
+
+    private ToDoItemSummary summary(long id, ToDoItemStatus status) {
+        ToDoItemSummary summary = mock(ToDoItemSummary.class);
+        given(summary.getId()).willReturn(id);
+        given(summary.getStatus()).willReturn(status);
+        return summary;
+    }
+
+    private String[] statusNames() {
+        return Arrays.stream(ToDoItemStatus.values()).map(Enum::name).toArray(String[]::new);
+    }
 
     @Test
     void shouldNotFoundNotExistingSprint() {
@@ -83,6 +138,20 @@ class SprintControllerTest {
         assertThat(response.getStatusCode()).isEqualTo(FAILED_DEPENDENCY);
     }
 
+    @Test
+    void shouldNotCreateSprintCreatedBeforeWithTheSameNameForProject() {
+        uniqueNameIndex.warmedUp();
+        given(projectRepository.findById(PROJECT_ID)).willReturn(Optional.of(existingProject()));
+        given(sprintRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+        controller.create(newSprintDto());
+        given(sprintRepository.findByNameAndProjectId(SPRINT_NAME, PROJECT_ID)).willReturn(Optional.of(existingSprint()));
+
+        ResponseEntity<Long> response = controller.create(newSprintDto());
+
+        assertThat(response.getStatusCode()).isEqualTo(CONFLICT);
+        then(sprintRepository).should().findByNameAndProjectId(SPRINT_NAME, PROJECT_ID);
+    }
+
     @Test
     void shouldCreateSprint() {
         given(sprintRepository.findByNameAndProjectId(SPRINT_NAME, PROJECT_ID)).willReturn(Optional.empty());
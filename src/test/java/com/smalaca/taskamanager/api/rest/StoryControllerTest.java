@@ -1,5 +1,6 @@
 package com.smalaca.taskamanager.api.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smalaca.taskamanager.dto.AssigneeDto;
 import com.smalaca.taskamanager.dto.StakeholderDto;
 import com.smalaca.taskamanager.dto.StoryDto;
@@ -20,23 +21,33 @@ import com.smalaca.taskamanager.repository.EpicRepository;
 import com.smalaca.taskamanager.repository.StoryRepository;
 import com.smalaca.taskamanager.repository.TeamRepository;
 import com.smalaca.taskamanager.repository.UserRepository;
+import com.smalaca.taskamanager.service.CascadeDeletion;
 import com.smalaca.taskamanager.service.ToDoItemService;
+import com.smalaca.taskamanager.service.UserLoader;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.IN_PROGRESS;
 import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.RELEASED;
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 class StoryControllerTest {
     private static final String TITLE = "Title like all the others";
@@ -52,6 +63,7 @@ class StoryControllerTest {
     private static final String ANOTHER_EMAIL_ADDRESS = "maria.hill@shield.com";
     private static final String ANOTHER_PHONE_PREFIX = "909";
     private static final String ANOTHER_PHONE_NUMBER = "982478438743";
+    private static final long VERSION = 7;
     private static final long STORY_ID = 13;
     private static final long OWNER_ID = 42;
     private static final long EPIC_ID = 69;
@@ -65,27 +77,58 @@ class StoryControllerTest {
     private final TeamRepository teamRepository = mock(TeamRepository.class);
     private final EpicRepository epicRepository = mock(EpicRepository.class);
     private final ToDoItemService toDoItemService = mock(ToDoItemService.class);
+    private final CascadeDeletion cascadeDeletion = mock(CascadeDeletion.class);
+    private final InMemoryTransactionManager transactionManager = new InMemoryTransactionManager();
+    private final OptimisticUpdateRetry optimisticUpdateRetry = new OptimisticUpdateRetry(transactionManager);
     private final StoryController controller = new StoryController(
-            storyRepository, userRepository, teamRepository, epicRepository, toDoItemService);
+            storyRepository, new UserLoader(userRepository), teamRepository, epicRepository, toDoItemService, new SerializedDtoCache(new ObjectMapper()),
+            cascadeDeletion, optimisticUpdateRetry);
     private final ArgumentCaptor<Story> storyCaptor = ArgumentCaptor.forClass(Story.class);
 
     @Test
     void shouldNotFindStory() {
-        given(storyRepository.findById(STORY_ID)).willReturn(Optional.empty());
+        given(storyRepository.findVersionById(STORY_ID)).willReturn(Optional.empty());
 
-        ResponseEntity<StoryDto> actual = controller.findById(STORY_ID);
+        ResponseEntity<byte[]> actual = controller.findById(STORY_ID);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
 
     @Test
-    void shouldFindStory() {
-        given(storyRepository.findById(STORY_ID)).willReturn(Optional.of(existingStory()));
+    void shouldServeSerializedStoryFromCacheWhileVersionIsUnchanged() {
+        given(storyRepository.findVersionById(STORY_ID)).willReturn(Optional.of(VERSION));
+        given(storyRepository.findWithDetailsById(STORY_ID)).willReturn(Optional.of(withVersion(existingStory(), VERSION)));
+        byte[] first = controller.findById(STORY_ID).getBody();
+
+        ResponseEntity<byte[]> actual = controller.findById(STORY_ID);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getBody()).isSameAs(first);
+        then(storyRepository).should(times(1)).findWithDetailsById(STORY_ID);
+    }
+
+    @Test
+    void shouldReloadSerializedStoryWhenVersionChanged() {
+        given(storyRepository.findVersionById(STORY_ID)).willReturn(Optional.of(VERSION), Optional.of(VERSION + 1));
+        given(storyRepository.findWithDetailsById(STORY_ID)).willReturn(
+                Optional.of(withVersion(existingStory(), VERSION)), Optional.of(withVersion(existingStory(), VERSION + 1)));
+        controller.findById(STORY_ID);
+
+        ResponseEntity<byte[]> actual = controller.findById(STORY_ID);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(storyRepository).should(times(2)).findWithDetailsById(STORY_ID);
+    }
+
+    @Test
+    void shouldFindStory() throws IOException {
+        given(storyRepository.findVersionById(STORY_ID)).willReturn(Optional.of(VERSION));
+        given(storyRepository.findWithDetailsById(STORY_ID)).willReturn(Optional.of(existingStory()));
 
-        ResponseEntity<StoryDto> actual = controller.findById(STORY_ID);
+        ResponseEntity<byte[]> actual = controller.findById(STORY_ID);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
-        StoryDto dto = actual.getBody();
+        StoryDto dto = new ObjectMapper().readValue(actual.getBody(), StoryDto.class);
         assertThat(dto.getId()).isEqualTo(STORY_ID);
         assertThat(dto.getTitle()).isEqualTo(TITLE);
         assertThat(dto.getDescription()).isEqualTo(DESCRIPTION);
@@ -119,6 +162,31 @@ class StoryControllerTest {
         assertThat(dto.getAssignee().getTeamId()).isEqualTo(TEAM_ID);
     }
 
+    @Test
+    void shouldFindStorysByIds() {
+        given(storyRepository.findWithDetailsByIdIn(asList(STORY_ID))).willReturn(asList(existingStory()));
+
+        ResponseEntity<List<StoryDto>> actual = controller.findAllById(asList(STORY_ID));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getBody()).hasSize(1).allSatisfy(dto -> {
+            assertThat(dto.getId()).isEqualTo(STORY_ID);
+            assertThat(dto.getTitle()).isEqualTo(TITLE);
+            assertThat(dto.getWatchers()).hasSize(1);
+            assertThat(dto.getStakeholders()).hasSize(1);
+        });
+    }
+
+    @Test
+    void shouldNotFindStorysByTooManyIds() {
+        List<Long> ids = LongStream.rangeClosed(1, 1001).boxed().collect(Collectors.toList());
+
+        ResponseEntity<List<StoryDto>> actual = controller.findAllById(ids);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        then(storyRepository).should(never()).findWithDetailsByIdIn(any());
+    }
+
     private Story existingStory() {
         Story story = storyWithoutOwner();
         Owner owner = new Owner();
@@ -203,7 +271,7 @@ class StoryControllerTest {
 
     @Test
     void shouldNotUpdateNotExistingStory() {
-        given(storyRepository.existsById(STORY_ID)).willReturn(false);
+        given(storyRepository.findById(STORY_ID)).willReturn(Optional.empty());
 
         ResponseEntity<Void> actual = controller.update(STORY_ID, updateStoryDto());
 
@@ -212,9 +280,8 @@ class StoryControllerTest {
 
     @Test
     void shouldNotUpdateWithNonExistingUser() {
-        given(storyRepository.existsById(STORY_ID)).willReturn(true);
         given(storyRepository.findById(STORY_ID)).willReturn(Optional.of(storyWithoutOwner()));
-        given(userRepository.existsById(OWNER_ID)).willReturn(false);
+        given(userRepository.findById(OWNER_ID)).willReturn(Optional.empty());
 
         ResponseEntity<Void> actual = controller.update(STORY_ID, updateStoryDto());
 
@@ -223,7 +290,6 @@ class StoryControllerTest {
 
     @Test
     void shouldUpdateExistingStoryWithoutStatusChange() {
-        given(storyRepository.existsById(STORY_ID)).willReturn(true);
         given(storyRepository.findById(STORY_ID)).willReturn(Optional.of(story()));
 
         ResponseEntity<Void> actual = controller.update(STORY_ID, updateStoryDto());
@@ -237,7 +303,6 @@ class StoryControllerTest {
 
     @Test
     void shouldUpdateExistingStoryWithStatusChange() {
-        given(storyRepository.existsById(STORY_ID)).willReturn(true);
         given(storyRepository.findById(STORY_ID)).willReturn(Optional.of(story()));
         StoryDto dto = updateStoryDto();
         dto.setStatus("RELEASED");
@@ -251,9 +316,25 @@ class StoryControllerTest {
         then(toDoItemService).should().processStory(STORY_ID);
     }
 
+    @Test
+    void shouldRepeatUpdateOnStoryChangedConcurrently() {
+        given(storyRepository.findById(STORY_ID)).willReturn(Optional.of(story()), Optional.of(story()));
+        given(storyRepository.save(any()))
+                .willThrow(new ObjectOptimisticLockingFailureException(Story.class, STORY_ID))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        StoryDto dto = updateStoryDto();
+        dto.setStatus("RELEASED");
+
+        ResponseEntity<Void> actual = controller.update(STORY_ID, dto);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(storyRepository).should(times(2)).findById(STORY_ID);
+        then(toDoItemService).should().processStory(STORY_ID);
+        assertThat(optimisticUpdateRetry.retries(Story.class)).isEqualTo(1);
+    }
+
     @Test
     void shouldUpdateExistingStoryWithOwner() {
-        given(storyRepository.existsById(STORY_ID)).willReturn(true);
         given(storyRepository.findById(STORY_ID)).willReturn(Optional.of(story()));
 
         ResponseEntity<Void> actual = controller.update(STORY_ID, updateStoryDto());
@@ -274,9 +355,7 @@ class StoryControllerTest {
 
     @Test
     void shouldUpdateExistingStoryWithoutOwner() {
-        given(storyRepository.existsById(STORY_ID)).willReturn(true);
         given(storyRepository.findById(STORY_ID)).willReturn(Optional.of(storyWithoutOwner()));
-        given(userRepository.existsById(OWNER_ID)).willReturn(true);
         given(userRepository.findById(OWNER_ID)).willReturn(Optional.of(owner()));
 
         ResponseEntity<Void> actual = controller.update(STORY_ID, updateStoryDto());
@@ -351,6 +430,26 @@ class StoryControllerTest {
         assertThat(storyCaptor.getValue().getId()).isEqualTo(STORY_ID);
     }
 
+    @Test
+    void shouldNotDeleteNotExistingStoryWithContent() {
+        given(storyRepository.existsById(STORY_ID)).willReturn(false);
+
+        ResponseEntity<Void> actual = controller.deleteWithContent(STORY_ID);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        then(cascadeDeletion).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void shouldDeleteStoryWithContent() {
+        given(storyRepository.existsById(STORY_ID)).willReturn(true);
+
+        ResponseEntity<Void> actual = controller.deleteWithContent(STORY_ID);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(cascadeDeletion).should().deleteStory(STORY_ID);
+    }
+
     @Test
     void shouldNotAddWatcherToNotExistingStory() {
         given(storyRepository.findById(STORY_ID)).willReturn(Optional.empty());
@@ -423,6 +522,53 @@ class StoryControllerTest {
         assertThat(storyCaptor.getValue().getWatchers()).isEmpty();
     }
 
+    @Test
+    void shouldAddWatchersToStoryInOneSave() {
+        given(storyRepository.findById(STORY_ID)).willReturn(Optional.of(storyWithWatcher()));
+        given(userRepository.findAllById(Set.of(WATCHER_ID, OWNER_ID))).willReturn(List.of(userWithId(WATCHER_ID), owner()));
+
+        ResponseEntity<Void> actual = controller.addWatchers(STORY_ID, List.of(WATCHER_ID, OWNER_ID, WATCHER_ID));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(storyRepository).should().save(storyCaptor.capture());
+        assertThat(storyCaptor.getValue().getWatchers())
+                .extracting(Watcher::getFirstName)
+                .containsExactlyInAnyOrder(ANOTHER_FIRST_NAME, FIRST_NAME);
+        then(userRepository).should(never()).findById(any());
+    }
+
+    @Test
+    void shouldNotAddWatchersToStoryWhenAnyUserDoesNotExist() {
+        given(storyRepository.findById(STORY_ID)).willReturn(Optional.of(storyWithId()));
+        given(userRepository.findAllById(Set.of(WATCHER_ID, OWNER_ID))).willReturn(List.of(userWithId(WATCHER_ID)));
+
+        ResponseEntity<Void> actual = controller.addWatchers(STORY_ID, List.of(WATCHER_ID, OWNER_ID));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.FAILED_DEPENDENCY);
+        then(storyRepository).should(never()).save(any());
+    }
+
+    @Test
+    void shouldNotAddWatchersToNotExistingStory() {
+        given(storyRepository.findById(STORY_ID)).willReturn(Optional.empty());
+
+        ResponseEntity<Void> actual = controller.addWatchers(STORY_ID, List.of(WATCHER_ID));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void shouldRemoveStakeholdersFromStoryInOneSave() {
+        given(storyRepository.findById(STORY_ID)).willReturn(Optional.of(storyWithStakeholder()));
+        given(userRepository.findAllById(Set.of(STAKEHOLDER_ID, OWNER_ID))).willReturn(List.of(userWithId(STAKEHOLDER_ID), owner()));
+
+        ResponseEntity<Void> actual = controller.removeStakeholders(STORY_ID, List.of(STAKEHOLDER_ID, OWNER_ID));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(storyRepository).should().save(storyCaptor.capture());
+        assertThat(storyCaptor.getValue().getStakeholders()).isEmpty();
+    }
+
     private Story storyWithWatcher() {
         Story story = storyWithId();
         story.addWatcher(watcher());
@@ -671,6 +817,17 @@ class StoryControllerTest {
         return user;
     }
 
+    private <T> T withVersion(T entity, long version) {
+        try {
+            Field fieldVersion = entity.getClass().getDeclaredField("version");
+            fieldVersion.setAccessible(true);
+            fieldVersion.set(entity, version);
+            return entity;
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private <T> T withId(T entity, long id) {
         try {
             Field fieldId = entity.getClass().getDeclaredField("id");
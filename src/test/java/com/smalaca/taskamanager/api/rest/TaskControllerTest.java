@@ -1,5 +1,6 @@
 package com.smalaca.taskamanager.api.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smalaca.taskamanager.dto.AssigneeDto;
 import com.smalaca.taskamanager.dto.StakeholderDto;
 import com.smalaca.taskamanager.dto.TaskDto;
@@ -21,22 +22,40 @@ import com.smalaca.taskamanager.repository.TaskRepository;
 import com.smalaca.taskamanager.repository.TeamRepository;
 import com.smalaca.taskamanager.repository.UserRepository;
 import com.smalaca.taskamanager.service.ToDoItemService;
+import com.smalaca.taskamanager.service.UserLoader;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
+import jakarta.persistence.EntityManager;
+
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DONE;
 import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.IN_PROGRESS;
 import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.RELEASED;
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 class TaskControllerTest {
     private static final String TITLE = "Title like all the others";
@@ -52,6 +71,7 @@ class TaskControllerTest {
     private static final String ANOTHER_EMAIL_ADDRESS = "maria.hill@shield.com";
     private static final String ANOTHER_PHONE_PREFIX = "909";
     private static final String ANOTHER_PHONE_NUMBER = "982478438743";
+    private static final long VERSION = 7;
     private static final long TASK_ID = 13;
     private static final long OWNER_ID = 42;
     private static final long STORY_ID = 69;
@@ -65,27 +85,108 @@ class TaskControllerTest {
     private final TeamRepository teamRepository = mock(TeamRepository.class);
     private final StoryRepository storyRepository = mock(StoryRepository.class);
     private final ToDoItemService toDoItemService = mock(ToDoItemService.class);
-    private final TaskController controller = new TaskController(
-            taskRepository, userRepository, teamRepository, storyRepository, toDoItemService);
+    private final InMemoryTransactionManager transactionManager = new InMemoryTransactionManager();
+    private final OptimisticUpdateRetry optimisticUpdateRetry = new OptimisticUpdateRetry(transactionManager);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final TaskController controller = controllerFlushingEvery(50);
     private final ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
 
+    private TaskController controllerFlushingEvery(int createFlushSize) {
+        return new TaskController(
+                taskRepository, new UserLoader(userRepository), teamRepository, storyRepository, toDoItemService, new SerializedDtoCache(new ObjectMapper()),
+                optimisticUpdateRetry, entityManager, createFlushSize);
+    }
+
     @Test
     void shouldNotFindTask() {
-        given(taskRepository.findById(TASK_ID)).willReturn(Optional.empty());
+        given(taskRepository.findVersionById(TASK_ID)).willReturn(Optional.empty());
 
-        ResponseEntity<TaskDto> actual = controller.findById(TASK_ID);
+        ResponseEntity<byte[]> actual = controller.findById(TASK_ID);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
 
+    @AfterEach
+    void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @Test
-    void shouldFindTask() {
-        given(taskRepository.findById(TASK_ID)).willReturn(Optional.of(existingTask()));
+    void shouldReturnVersionOfTaskAsETag() {
+        given(taskRepository.findVersionById(TASK_ID)).willReturn(Optional.of(VERSION));
+        given(taskRepository.findWithDetailsById(TASK_ID)).willReturn(Optional.of(withVersion(existingTask(), VERSION)));
+
+        ResponseEntity<byte[]> actual = controller.findById(TASK_ID);
 
-        ResponseEntity<TaskDto> actual = controller.findById(TASK_ID);
+        assertThat(actual.getHeaders().getETag()).isEqualTo("\"7\"");
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWithoutLoadingTaskWhenETagMatches() {
+        inRequestWithIfNoneMatch("\"3\", \"7\"");
+        given(taskRepository.findVersionById(TASK_ID)).willReturn(Optional.of(VERSION));
+
+        ResponseEntity<byte[]> actual = controller.findById(TASK_ID);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(actual.getHeaders().getETag()).isEqualTo("\"7\"");
+        assertThat(actual.getBody()).isNull();
+        then(taskRepository).should(never()).findWithDetailsById(TASK_ID);
+    }
+
+    @Test
+    void shouldReturnTaskWhenETagIsOutdated() {
+        inRequestWithIfNoneMatch("\"6\"");
+        given(taskRepository.findVersionById(TASK_ID)).willReturn(Optional.of(VERSION));
+        given(taskRepository.findWithDetailsById(TASK_ID)).willReturn(Optional.of(withVersion(existingTask(), VERSION)));
+
+        ResponseEntity<byte[]> actual = controller.findById(TASK_ID);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
-        TaskDto dto = actual.getBody();
+        assertThat(actual.getHeaders().getETag()).isEqualTo("\"7\"");
+    }
+
+    private void inRequestWithIfNoneMatch(String eTags) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, eTags);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @Test
+    void shouldServeSerializedTaskFromCacheWhileVersionIsUnchanged() {
+        given(taskRepository.findVersionById(TASK_ID)).willReturn(Optional.of(VERSION));
+        given(taskRepository.findWithDetailsById(TASK_ID)).willReturn(Optional.of(withVersion(existingTask(), VERSION)));
+        byte[] first = controller.findById(TASK_ID).getBody();
+
+        ResponseEntity<byte[]> actual = controller.findById(TASK_ID);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getBody()).isSameAs(first);
+        then(taskRepository).should(times(1)).findWithDetailsById(TASK_ID);
+    }
+
+    @Test
+    void shouldReloadSerializedTaskWhenVersionChanged() {
+        given(taskRepository.findVersionById(TASK_ID)).willReturn(Optional.of(VERSION), Optional.of(VERSION + 1));
+        given(taskRepository.findWithDetailsById(TASK_ID)).willReturn(
+                Optional.of(withVersion(existingTask(), VERSION)), Optional.of(withVersion(existingTask(), VERSION + 1)));
+        controller.findById(TASK_ID);
+
+        ResponseEntity<byte[]> actual = controller.findById(TASK_ID);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(taskRepository).should(times(2)).findWithDetailsById(TASK_ID);
+    }
+
+    @Test
+    void shouldFindTask() throws IOException {
+        given(taskRepository.findVersionById(TASK_ID)).willReturn(Optional.of(VERSION));
+        given(taskRepository.findWithDetailsById(TASK_ID)).willReturn(Optional.of(existingTask()));
+
+        ResponseEntity<byte[]> actual = controller.findById(TASK_ID);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        TaskDto dto = new ObjectMapper().readValue(actual.getBody(), TaskDto.class);
         assertThat(dto.getId()).isEqualTo(TASK_ID);
         assertThat(dto.getTitle()).isEqualTo(TITLE);
         assertThat(dto.getDescription()).isEqualTo(DESCRIPTION);
@@ -119,6 +220,31 @@ class TaskControllerTest {
         assertThat(dto.getAssignee().getTeamId()).isEqualTo(TEAM_ID);
     }
 
+    @Test
+    void shouldFindTasksByIds() {
+        given(taskRepository.findWithDetailsByIdIn(asList(TASK_ID))).willReturn(asList(existingTask()));
+
+        ResponseEntity<List<TaskDto>> actual = controller.findAllById(asList(TASK_ID));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getBody()).hasSize(1).allSatisfy(dto -> {
+            assertThat(dto.getId()).isEqualTo(TASK_ID);
+            assertThat(dto.getTitle()).isEqualTo(TITLE);
+            assertThat(dto.getWatchers()).hasSize(1);
+            assertThat(dto.getStakeholders()).hasSize(1);
+        });
+    }
+
+    @Test
+    void shouldNotFindTasksByTooManyIds() {
+        List<Long> ids = LongStream.rangeClosed(1, 1001).boxed().collect(Collectors.toList());
+
+        ResponseEntity<List<TaskDto>> actual = controller.findAllById(ids);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        then(taskRepository).should(never()).findWithDetailsByIdIn(any());
+    }
+
     private Task existingTask() {
         Task task = taskWithoutOwner();
         Owner owner = new Owner();
@@ -229,9 +355,129 @@ class TaskControllerTest {
         return dto;
     }
 
+    @Test
+    void shouldCreateTasksInBatch() {
+        Story story = story();
+        given(userRepository.findAllById(Set.of(OWNER_ID))).willReturn(List.of(owner()));
+        given(storyRepository.countByIdIn(Set.of(STORY_ID))).willReturn(1L);
+        given(entityManager.getReference(Story.class, STORY_ID)).willReturn(story);
+        given(taskRepository.saveAll(any())).willAnswer(invocation -> List.of(
+                withId(invocation.<List<Task>>getArgument(0).get(0), 1), withId(invocation.<List<Task>>getArgument(0).get(1), 2)));
+
+        ResponseEntity<List<Long>> actual = controller.createAll(List.of(newTaskDto(), newStandaloneTaskDto()));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getBody()).containsExactly(1L, 2L);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Task>> tasksCaptor = ArgumentCaptor.forClass(List.class);
+        then(taskRepository).should().saveAll(tasksCaptor.capture());
+        List<Task> tasks = tasksCaptor.getValue();
+        assertThat(tasks).hasSize(2).allSatisfy(task -> {
+            assertThat(task.getTitle()).isEqualTo(TITLE);
+            assertThat(task.getStatus()).isEqualTo(STATUS);
+            assertThat(task.getOwner().getFirstName()).isEqualTo(FIRST_NAME);
+            assertThat(task.getOwner().getEmailAddress().getEmailAddress()).isEqualTo(EMAIL_ADDRESS);
+            assertThat(task.getOwner().getPhoneNumber().getNumber()).isEqualTo(PHONE_NUMBER);
+        });
+        assertThat(tasks.get(0).getStory()).isSameAs(story);
+        assertThat(tasks.get(1).getStory()).isNull();
+        assertThat(story.getTasks()).isEmpty();
+        then(taskRepository).should().addToStories(List.of(1L, 2L));
+        then(userRepository).should(never()).findById(any());
+        then(storyRepository).should(never()).findAllById(any());
+        then(storyRepository).should(never()).save(any());
+        then(entityManager).should().flush();
+        then(entityManager).should().clear();
+    }
+
+    @Test
+    void shouldFlushAndClearCreatedTasksEveryBatch() {
+        TaskController controller = controllerFlushingEvery(2);
+        given(userRepository.findAllById(Set.of(OWNER_ID))).willReturn(List.of(owner()));
+        given(taskRepository.saveAll(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        ResponseEntity<List<Long>> actual = controller.createAll(Collections.nCopies(5, newStandaloneTaskDto()));
+
+        assertThat(actual.getBody()).hasSize(5);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Task>> tasksCaptor = ArgumentCaptor.forClass(List.class);
+        then(taskRepository).should(times(3)).saveAll(tasksCaptor.capture());
+        assertThat(tasksCaptor.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+        then(entityManager).should(times(3)).flush();
+        then(entityManager).should(times(3)).clear();
+    }
+
+    @Test
+    void shouldNotCreateTasksInBatchInCaseOfNotExistingStory() {
+        given(userRepository.findAllById(Set.of(OWNER_ID))).willReturn(List.of(owner()));
+        given(storyRepository.countByIdIn(Set.of(STORY_ID))).willReturn(0L);
+
+        ResponseEntity<List<Long>> actual = controller.createAll(List.of(newTaskDto(), newStandaloneTaskDto()));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.FAILED_DEPENDENCY);
+        then(taskRepository).should(never()).saveAll(any());
+    }
+
+    @Test
+    void shouldNotCreateTasksInBatchInCaseOfNotExistingUser() {
+        given(userRepository.findAllById(Set.of(OWNER_ID))).willReturn(List.of());
+        given(storyRepository.countByIdIn(Set.of(STORY_ID))).willReturn(1L);
+
+        ResponseEntity<List<Long>> actual = controller.createAll(List.of(newTaskDto()));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.FAILED_DEPENDENCY);
+        then(taskRepository).should(never()).saveAll(any());
+    }
+
+    @Test
+    void shouldRejectTooBigBatchOfTasksToCreate() {
+        List<TaskDto> dtos = Collections.nCopies(50_001, newStandaloneTaskDto());
+
+        ResponseEntity<List<Long>> actual = controller.createAll(dtos);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        then(taskRepository).should(never()).saveAll(any());
+    }
+
+    @Test
+    void shouldUpdateStatusesOfManyTasksAndProcessThemTogether() {
+        Task done = withId(new Task(), 1);
+        done.setStatus(DONE);
+        Task inProgress = withId(new Task(), 2);
+        inProgress.setStatus(IN_PROGRESS);
+        given(taskRepository.findAllById(Set.of(1L, 2L))).willReturn(List.of(done, inProgress));
+
+        ResponseEntity<Void> actual = controller.updateStatuses(DONE.name(), List.of(1L, 2L, 2L));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(inProgress.getStatus()).isEqualTo(DONE);
+        then(taskRepository).should().saveAll(List.of(inProgress));
+        then(toDoItemService).should().processTasks(List.of(inProgress));
+        then(toDoItemService).should(never()).processTask(any());
+    }
+
+    @Test
+    void shouldNotUpdateStatusesWhenAnyTaskDoesNotExist() {
+        given(taskRepository.findAllById(Set.of(1L, 2L))).willReturn(List.of(withId(new Task(), 1)));
+
+        ResponseEntity<Void> actual = controller.updateStatuses(DONE.name(), List.of(1L, 2L));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        then(taskRepository).should(never()).saveAll(any());
+        then(toDoItemService).should(never()).processTasks(any());
+    }
+
+    @Test
+    void shouldNotUpdateStatusesToUnknownStatus() {
+        ResponseEntity<Void> actual = controller.updateStatuses("FINISHED", List.of(1L));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        then(taskRepository).should(never()).findAllById(any());
+    }
+
     @Test
     void shouldNotUpdateNotExistingTask() {
-        given(taskRepository.existsById(TASK_ID)).willReturn(false);
+        given(taskRepository.findById(TASK_ID)).willReturn(Optional.empty());
 
         ResponseEntity<Void> actual = controller.update(TASK_ID, updateTaskDto());
 
@@ -240,9 +486,8 @@ class TaskControllerTest {
 
     @Test
     void shouldNotUpdateWithNonExistingUser() {
-        given(taskRepository.existsById(TASK_ID)).willReturn(true);
         given(taskRepository.findById(TASK_ID)).willReturn(Optional.of(taskWithoutOwner()));
-        given(userRepository.existsById(OWNER_ID)).willReturn(false);
+        given(userRepository.findById(OWNER_ID)).willReturn(Optional.empty());
 
         ResponseEntity<Void> actual = controller.update(TASK_ID, updateTaskDto());
 
@@ -251,7 +496,6 @@ class TaskControllerTest {
 
     @Test
     void shouldUpdateExistingTaskWithoutStatusChange() {
-        given(taskRepository.existsById(TASK_ID)).willReturn(true);
         given(taskRepository.findById(TASK_ID)).willReturn(Optional.of(task()));
 
         ResponseEntity<Void> actual = controller.update(TASK_ID, updateTaskDto());
@@ -265,7 +509,6 @@ class TaskControllerTest {
 
     @Test
     void shouldUpdateExistingTaskWithStatusChange() {
-        given(taskRepository.existsById(TASK_ID)).willReturn(true);
         given(taskRepository.findById(TASK_ID)).willReturn(Optional.of(task()));
         TaskDto dto = updateTaskDto();
         dto.setStatus("RELEASED");
@@ -279,9 +522,25 @@ class TaskControllerTest {
         then(toDoItemService).should().processTask(TASK_ID);
     }
 
+    @Test
+    void shouldRepeatUpdateOnTaskChangedConcurrently() {
+        given(taskRepository.findById(TASK_ID)).willReturn(Optional.of(task()), Optional.of(task()));
+        given(taskRepository.save(any()))
+                .willThrow(new ObjectOptimisticLockingFailureException(Task.class, TASK_ID))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        TaskDto dto = updateTaskDto();
+        dto.setStatus("RELEASED");
+
+        ResponseEntity<Void> actual = controller.update(TASK_ID, dto);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(taskRepository).should(times(2)).findById(TASK_ID);
+        then(toDoItemService).should().processTask(TASK_ID);
+        assertThat(optimisticUpdateRetry.retries(Task.class)).isEqualTo(1);
+    }
+
     @Test
     void shouldUpdateExistingTaskWithOwner() {
-        given(taskRepository.existsById(TASK_ID)).willReturn(true);
         given(taskRepository.findById(TASK_ID)).willReturn(Optional.of(task()));
 
         ResponseEntity<Void> actual = controller.update(TASK_ID, updateTaskDto());
@@ -302,9 +561,7 @@ class TaskControllerTest {
 
     @Test
     void shouldUpdateExistingTaskWithoutOwner() {
-        given(taskRepository.existsById(TASK_ID)).willReturn(true);
         given(taskRepository.findById(TASK_ID)).willReturn(Optional.of(taskWithoutOwner()));
-        given(userRepository.existsById(OWNER_ID)).willReturn(true);
         given(userRepository.findById(OWNER_ID)).willReturn(Optional.of(owner()));
 
         ResponseEntity<Void> actual = controller.update(TASK_ID, updateTaskDto());
@@ -451,6 +708,63 @@ class TaskControllerTest {
         assertThat(taskCaptor.getValue().getWatchers()).isEmpty();
     }
 
+    @Test
+    void shouldAddWatchersToTaskInOneSave() {
+        given(taskRepository.findById(TASK_ID)).willReturn(Optional.of(taskWithWatcher()));
+        given(userRepository.findAllById(Set.of(WATCHER_ID, OWNER_ID))).willReturn(List.of(userWithId(WATCHER_ID), owner()));
+
+        ResponseEntity<Void> actual = controller.addWatchers(TASK_ID, List.of(WATCHER_ID, OWNER_ID, WATCHER_ID));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(taskRepository).should().save(taskCaptor.capture());
+        assertThat(taskCaptor.getValue().getWatchers())
+                .extracting(Watcher::getFirstName)
+                .containsExactlyInAnyOrder(ANOTHER_FIRST_NAME, FIRST_NAME);
+        then(userRepository).should(never()).findById(any());
+    }
+
+    @Test
+    void shouldNotAddWatchersToTaskWhenAnyUserDoesNotExist() {
+        given(taskRepository.findById(TASK_ID)).willReturn(Optional.of(taskWithId()));
+        given(userRepository.findAllById(Set.of(WATCHER_ID, OWNER_ID))).willReturn(List.of(userWithId(WATCHER_ID)));
+
+        ResponseEntity<Void> actual = controller.addWatchers(TASK_ID, List.of(WATCHER_ID, OWNER_ID));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.FAILED_DEPENDENCY);
+        then(taskRepository).should(never()).save(any());
+    }
+
+    @Test
+    void shouldNotAddWatchersToNotExistingTask() {
+        given(taskRepository.findById(TASK_ID)).willReturn(Optional.empty());
+
+        ResponseEntity<Void> actual = controller.addWatchers(TASK_ID, List.of(WATCHER_ID));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void shouldRemoveStakeholdersFromTaskInOneSave() {
+        given(taskRepository.findById(TASK_ID)).willReturn(Optional.of(taskWithStakeholder()));
+        given(userRepository.findAllById(Set.of(STAKEHOLDER_ID, OWNER_ID))).willReturn(List.of(userWithId(STAKEHOLDER_ID), owner()));
+
+        ResponseEntity<Void> actual = controller.removeStakeholders(TASK_ID, List.of(STAKEHOLDER_ID, OWNER_ID));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(taskRepository).should().save(taskCaptor.capture());
+        assertThat(taskCaptor.getValue().getStakeholders()).isEmpty();
+    }
+
+    @Test
+    void shouldRejectTooManyWatchersAtOnce() {
+        List<Long> userIds = LongStream.rangeClosed(1, 1001).boxed().collect(Collectors.toList());
+
+        ResponseEntity<Void> actual = controller.addWatchers(TASK_ID, userIds);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        then(taskRepository).should(never()).findById(any());
+    }
+
     private Task taskWithWatcher() {
         Task task = taskWithId();
         task.addWatcher(watcher());
@@ -699,6 +1013,17 @@ class TaskControllerTest {
         return user;
     }
 
+    private <T> T withVersion(T entity, long version) {
+        try {
+            Field fieldVersion = entity.getClass().getDeclaredField("version");
+            fieldVersion.setAccessible(true);
+            fieldVersion.set(entity, version);
+            return entity;
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private <T> T withId(T entity, long id) {
         try {
             Field fieldId = entity.getClass().getDeclaredField("id");
@@ -1,13 +1,19 @@
 package com.smalaca.taskamanager.api.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smalaca.taskamanager.dto.TeamDto;
 import com.smalaca.taskamanager.dto.TeamMembersDto;
 import com.smalaca.taskamanager.model.entities.User;
+import com.smalaca.taskamanager.service.ProjectRecipientIndex;
+import com.smalaca.taskamanager.service.UniqueNameIndex;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,7 +34,8 @@ class TeamControllerTest {
 
     private final InMemoryUserRepository userRepository = new InMemoryUserRepository();
 
-    private final TeamController controller = new TeamController(new InMemoryTeamRepository(), userRepository);
+    private final TeamController controller = new TeamController(
+            new InMemoryTeamRepository(), userRepository, new ProjectRecipientIndex(), new UniqueNameIndex(), new ObjectMapper());
 
     @Test
     void shouldReturnAllTeams() {
@@ -44,6 +51,26 @@ class TeamControllerTest {
                 .anySatisfy(dto -> assertTeam(dto, 5L, "Champions", "CH", "CH", "New heroes in town"));
     }
 
+    @Test
+    void shouldExportAllTeamsAsNdJson() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.exportAll(new MockHttpServletRequest(), response);
+
+        assertThat(response.getContentType()).isEqualTo("application/x-ndjson");
+        assertThat(response.getContentAsString().split("\n")).containsExactly(
+                "{\"id\":1,\"name\":\"Avengers\",\"codenameShort\":\"A\",\"codenameFull\":\"Mighty Avengers\","
+                        + "\"description\":\"the greatest team on Earth\",\"userIds\":[]}",
+                "{\"id\":2,\"name\":\"Fantastic Four\",\"codenameShort\":\"FF\",\"codenameFull\":\"F4\","
+                        + "\"description\":\"created with an accident\",\"userIds\":[]}",
+                "{\"id\":3,\"name\":\"X-Men\",\"codenameShort\":\"X\",\"codenameFull\":\"XMen\","
+                        + "\"description\":\"Mutants\",\"userIds\":[]}",
+                "{\"id\":4,\"name\":\"X Force\",\"codenameShort\":\"X\",\"codenameFull\":\"XF\","
+                        + "\"description\":\"They are the best in what they do\",\"userIds\":[]}",
+                "{\"id\":5,\"name\":\"Champions\",\"codenameShort\":\"CH\",\"codenameFull\":\"CH\","
+                        + "\"description\":\"New heroes in town\",\"userIds\":[]}");
+    }
+
     private void assertTeam(TeamDto dto, long id, String name, String codenameShort, String codenameFull, String description) {
         assertThat(dto.getId()).isEqualTo(id);
         assertThat(dto.getName()).isEqualTo(name);
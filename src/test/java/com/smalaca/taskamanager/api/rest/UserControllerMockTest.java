@@ -8,11 +8,14 @@ import com.smalaca.taskamanager.model.embedded.UserName;
 import com.smalaca.taskamanager.model.entities.User;
 import com.smalaca.taskamanager.model.enums.TeamRole;
 import com.smalaca.taskamanager.repository.UserRepository;
+import com.smalaca.taskamanager.service.ProjectRecipientIndex;
+import com.smalaca.taskamanager.service.UniqueNameIndex;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.util.UriComponents;
@@ -61,6 +64,8 @@ class UserControllerMockTest {
     @Mock private UriComponents uriComponents;
 
     @Mock private UserRepository repository;
+    @Mock private ProjectRecipientIndex recipientIndex;
+    @Spy private UniqueNameIndex uniqueNameIndex = new UniqueNameIndex();
     @InjectMocks private UserController controller;
 
     @Test
@@ -201,6 +206,7 @@ class UserControllerMockTest {
 
         assertThat(response.getStatusCode()).isEqualTo(OK);
         then(repository).should().delete(MOCKED_USER);
+        then(recipientIndex).should().userRemoved(MOCKED_USER);
     }
 
     private static User aMockedUser() {
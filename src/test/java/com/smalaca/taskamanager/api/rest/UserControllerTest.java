@@ -2,6 +2,8 @@ package com.smalaca.taskamanager.api.rest;
 
 import com.smalaca.taskamanager.dto.UserDto;
 import com.smalaca.taskamanager.model.enums.TeamRole;
+import com.smalaca.taskamanager.service.ProjectRecipientIndex;
+import com.smalaca.taskamanager.service.UniqueNameIndex;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +16,7 @@ import static com.smalaca.taskamanager.model.enums.TeamRole.BUSINESS_ANALYSIS;
 import static com.smalaca.taskamanager.model.enums.TeamRole.DEVELOPER;
 import static com.smalaca.taskamanager.model.enums.TeamRole.TESTER;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
@@ -30,7 +33,7 @@ class UserControllerTest {
     private static final String PASSWORD = "somethingExtremelyConfidential";
     private static final String TEAM_ROLE = DEVELOPER.name();
 
-    private final UserController controller = new UserController(new InMemoryUserRepository());
+    private final UserController controller = new UserController(new InMemoryUserRepository(), new ProjectRecipientIndex(), new UniqueNameIndex());
 
     @Test
     void shouldReturnAllUsers() {
@@ -45,6 +48,39 @@ class UserControllerTest {
                 .anySatisfy(userDto -> assertUser(userDto, 5L, "Anthony", "Stark", "Iron Man", DEVELOPER, "money@fake.domain.com", "123123123"));
     }
 
+    @Test
+    void shouldReturnFirstPageOfUsers() {
+        ResponseEntity<List<UserDto>> response = controller.getUsersPage(2, 0L, fromUriString("/"));
+
+        assertThat(response.getStatusCode()).isEqualTo(OK);
+        assertThat(response.getBody()).extracting(UserDto::getId).containsExactly(1L, 2L);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.LINK)).isEqualTo("</user?limit=2&after=2>; rel=\"next\"");
+    }
+
+    @Test
+    void shouldReturnUsersAfterGivenId() {
+        ResponseEntity<List<UserDto>> response = controller.getUsersPage(2, 3L, fromUriString("/"));
+
+        assertThat(response.getStatusCode()).isEqualTo(OK);
+        assertThat(response.getBody()).hasSize(2)
+                .anySatisfy(userDto -> assertUser(userDto, 4L, "Bruce", "Wayne", "Batman", TESTER, "gotham@fake.domain.com", "121212129"))
+                .anySatisfy(userDto -> assertUser(userDto, 5L, "Anthony", "Stark", "Iron Man", DEVELOPER, "money@fake.domain.com", "123123123"));
+    }
+
+    @Test
+    void shouldNotLinkNextPageWhenLastPageReturned() {
+        ResponseEntity<List<UserDto>> response = controller.getUsersPage(10, 3L, fromUriString("/"));
+
+        assertThat(response.getBody()).extracting(UserDto::getId).containsExactly(4L, 5L);
+        assertThat(response.getHeaders().containsKey(HttpHeaders.LINK)).isFalse();
+    }
+
+    @Test
+    void shouldRejectPageWithInvalidLimit() {
+        assertThat(controller.getUsersPage(0, 0L, fromUriString("/")).getStatusCode()).isEqualTo(BAD_REQUEST);
+        assertThat(controller.getUsersPage(1001, 0L, fromUriString("/")).getStatusCode()).isEqualTo(BAD_REQUEST);
+    }
+
     private void assertUser(UserDto updated, long id, String firstName, String lastName, String login, TeamRole teamRole, String emailAddress, String phoneNumber) {
         assertThat(updated.getId()).isEqualTo(id);
         assertThat(updated.getFirstName()).isEqualTo(firstName);
@@ -0,0 +1,231 @@
+package com.smalaca.taskamanager.invalidation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvalidationBusTest {
+    private static final Duration NEVER = Duration.ofHours(1);
+
+    private final List<InvalidationBatch> sent = new CopyOnWriteArrayList<>();
+    private final List<Set<String>> received = new CopyOnWriteArrayList<>();
+    private final List<InvalidationBus> buses = new ArrayList<>();
+    private final LoopbackInvalidationTransport.Group group = new LoopbackInvalidationTransport.Group();
+
+    @AfterEach
+    void closeBuses() {
+        buses.forEach(InvalidationBus::close);
+    }
+
+    @Test
+    void shouldDeliverKeysToOtherNodes() {
+        InvalidationBus publisher = bus(group.join(), 10);
+        InvalidationBus subscriber = bus(group.join(), 10);
+        subscriber.subscribe("entity", received::add);
+
+        publisher.publish("entity", "Team#13");
+        publisher.publish("entity", "Team#42");
+        publisher.flush();
+
+        assertThat(received).containsExactly(Set.of("Team#13", "Team#42"));
+    }
+
+    @Test
+    void shouldIgnoreOwnKeys() {
+        InvalidationBus bus = bus(group.join(), 10);
+        bus(group.join(), 10);
+        bus.subscribe("entity", received::add);
+
+        bus.publish("entity", "Team#13");
+        bus.flush();
+
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    void shouldDeliverKeysOnlyToSubscribersOfRegion() {
+        InvalidationBus publisher = bus(group.join(), 10);
+        InvalidationBus subscriber = bus(group.join(), 10);
+        subscriber.subscribe("unique-name", received::add);
+
+        publisher.publish("entity", "Team#13");
+        publisher.publish("unique-name", "TEAM:8:Avengers");
+        publisher.flush();
+
+        assertThat(received).containsExactly(Set.of("TEAM:8:Avengers"));
+    }
+
+    @Test
+    void shouldCoalesceRepeatedKeys() {
+        InvalidationBus bus = bus(recordingTransport(), 10);
+
+        bus.publish("entity", "Team#13");
+        bus.publish("entity", "Team#13");
+        bus.publish("entity", "Team#13");
+        bus.flush();
+
+        assertThat(sent).hasSize(1);
+        assertThat(sent.get(0).keys()).containsExactly(new InvalidationKey("entity", "Team#13"));
+    }
+
+    @Test
+    void shouldSplitKeysIntoBatchesOfMaxSize() {
+        InvalidationBus bus = bus(recordingTransport(), 2);
+
+        bus.publish("entity", "Team#1");
+        bus.publish("entity", "Team#2");
+        bus.publish("entity", "Team#3");
+        bus.flush();
+
+        assertThat(sent).allSatisfy(batch -> assertThat(batch.keys()).hasSizeLessThanOrEqualTo(2));
+        assertThat(sent).flatMap(InvalidationBatch::keys).containsExactlyInAnyOrder(
+                new InvalidationKey("entity", "Team#1"), new InvalidationKey("entity", "Team#2"), new InvalidationKey("entity", "Team#3"));
+    }
+
+    @Test
+    void shouldNotSendAnythingWhenNothingWasPublished() {
+        InvalidationBus bus = bus(recordingTransport(), 10);
+
+        bus.flush();
+
+        assertThat(sent).isEmpty();
+    }
+
+    @Test
+    void shouldKeepDeliveringWhenSubscriberFails() {
+        InvalidationBus publisher = bus(group.join(), 10);
+        InvalidationBus subscriber = bus(group.join(), 10);
+        subscriber.subscribe("entity", keys -> {
+            throw new IllegalStateException();
+        });
+        subscriber.subscribe("entity", received::add);
+
+        publisher.publish("entity", "Team#13");
+        publisher.flush();
+
+        assertThat(received).containsExactly(Set.of("Team#13"));
+    }
+
+    @Test
+    void shouldKeepFlushingAfterTransportFails() {
+        InvalidationBus bus = bus(new InvalidationTransport() {
+            private boolean failed;
+
+            @Override
+            public void send(InvalidationBatch batch) {
+                if (!failed) {
+                    failed = true;
+                    throw new IllegalArgumentException("unresolved peer");
+                }
+
+                sent.add(batch);
+            }
+
+            @Override
+            public void onReceive(Consumer<InvalidationBatch> receiver) { }
+
+            @Override
+            public boolean hasPeers() {
+                return true;
+            }
+
+            @Override
+            public void close() { }
+        }, 10);
+
+        bus.publish("entity", "Team#13");
+        bus.flush();
+        bus.publish("entity", "Team#42");
+        bus.flush();
+
+        assertThat(sent).flatMap(InvalidationBatch::keys).containsExactly(
+                new InvalidationKey("entity", "Team#13"), new InvalidationKey("entity", "Team#42"));
+    }
+
+    @Test
+    void shouldNotifyLossListenersWhenTransportDetectsLostBatch() {
+        List<Runnable> transportLossListeners = new ArrayList<>();
+        InvalidationBus bus = bus(new InvalidationTransport() {
+            @Override
+            public void send(InvalidationBatch batch) { }
+
+            @Override
+            public void onReceive(Consumer<InvalidationBatch> receiver) { }
+
+            @Override
+            public void onLoss(Runnable listener) {
+                transportLossListeners.add(listener);
+            }
+
+            @Override
+            public boolean hasPeers() {
+                return true;
+            }
+
+            @Override
+            public void close() { }
+        }, 10);
+        List<String> notified = new CopyOnWriteArrayList<>();
+        bus.onLoss(() -> {
+            throw new IllegalStateException();
+        });
+        bus.onLoss(() -> notified.add("lost"));
+
+        transportLossListeners.forEach(Runnable::run);
+
+        assertThat(notified).containsExactly("lost");
+    }
+
+    @Test
+    void shouldNotSeeNodesOfOtherGroups() {
+        InvalidationBus bus = bus(group.join(), 10);
+
+        bus(new LoopbackInvalidationTransport.Group().join(), 10);
+
+        assertThat(bus.hasPeers()).isFalse();
+    }
+
+    @Test
+    void shouldRecognizeOtherNodesInGroup() {
+        InvalidationBus bus = bus(group.join(), 10);
+        assertThat(bus.hasPeers()).isFalse();
+
+        bus(group.join(), 10);
+
+        assertThat(bus.hasPeers()).isTrue();
+    }
+
+    private InvalidationBus bus(InvalidationTransport transport, int maxBatchSize) {
+        InvalidationBus bus = new InvalidationBus(transport, NEVER, maxBatchSize);
+        buses.add(bus);
+        return bus;
+    }
+
+    private InvalidationTransport recordingTransport() {
+        return new InvalidationTransport() {
+            @Override
+            public void send(InvalidationBatch batch) {
+                sent.add(batch);
+            }
+
+            @Override
+            public void onReceive(Consumer<InvalidationBatch> receiver) { }
+
+            @Override
+            public boolean hasPeers() {
+                return true;
+            }
+
+            @Override
+            public void close() { }
+        };
+    }
+}
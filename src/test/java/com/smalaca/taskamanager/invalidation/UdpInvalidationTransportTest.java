@@ -0,0 +1,124 @@
+package com.smalaca.taskamanager.invalidation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UdpInvalidationTransportTest {
+    private static final int TIMEOUT_SECONDS = 5;
+    private static final int MANY_KEYS = 2_000;
+
+    private final BlockingQueue<InvalidationBatch> received = new LinkedBlockingQueue<>();
+    private UdpInvalidationTransport receiver;
+    private UdpInvalidationTransport sender;
+
+    @AfterEach
+    void closeTransports() {
+        sender.close();
+        receiver.close();
+    }
+
+    @Test
+    void shouldDeliverBatchToPeer() throws InterruptedException {
+        givenTransports();
+        InvalidationBatch batch = new InvalidationBatch("node-1", List.of(new InvalidationKey("entity", "Team#13")));
+
+        sender.send(batch);
+
+        assertThat(received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo(batch);
+    }
+
+    @Test
+    void shouldSplitLargeBatchIntoSeveralDatagrams() throws InterruptedException {
+        givenTransports();
+        List<InvalidationKey> keys = new ArrayList<>();
+        for (int i = 0; i < MANY_KEYS; i++) {
+            keys.add(new InvalidationKey("entity", "Team#" + i));
+        }
+
+        sender.send(new InvalidationBatch("node-1", keys));
+
+        List<InvalidationKey> delivered = new ArrayList<>();
+        while (delivered.size() < MANY_KEYS) {
+            InvalidationBatch batch = received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertThat(batch).isNotNull();
+            assertThat(batch.origin()).isEqualTo("node-1");
+            delivered.addAll(batch.keys());
+        }
+        assertThat(delivered).containsExactlyElementsOf(keys);
+    }
+
+    @Test
+    void shouldDeliverBatchToRemainingPeersWhenOnePeerFails() throws InterruptedException {
+        receiver = new UdpInvalidationTransport(new InetSocketAddress("127.0.0.1", 0), List.of());
+        receiver.onReceive(received::add);
+        sender = new UdpInvalidationTransport(new InetSocketAddress("127.0.0.1", 0), List.of(
+                InetSocketAddress.createUnresolved("unknown.invalid", receiver.port()), new InetSocketAddress("127.0.0.1", receiver.port())));
+        InvalidationBatch batch = new InvalidationBatch("node-1", List.of(new InvalidationKey("entity", "Team#13")));
+
+        assertThatThrownBy(() -> sender.send(batch)).isInstanceOf(UncheckedIOException.class);
+
+        assertThat(received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo(batch);
+    }
+
+    @Test
+    void shouldDetectLostDatagrams() throws IOException, InterruptedException {
+        givenTransports();
+        BlockingQueue<String> losses = new LinkedBlockingQueue<>();
+        receiver.onLoss(() -> losses.add("lost"));
+
+        try (DatagramSocket peer = new DatagramSocket()) {
+            send(peer, datagram("node-1", 1));
+            send(peer, datagram("node-1", 2));
+            send(peer, datagram("node-2", 7));
+            assertThat(received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isNotNull();
+            assertThat(received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isNotNull();
+            assertThat(received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isNotNull();
+            assertThat(losses).isEmpty();
+
+            send(peer, datagram("node-1", 4));
+        }
+
+        assertThat(losses.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo("lost");
+        assertThat(received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS).keys()).containsExactly(new InvalidationKey("entity", "Team#13"));
+    }
+
+    private byte[] datagram(String origin, long sequence) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeUTF(origin);
+            output.writeLong(sequence);
+            output.writeInt(1);
+            output.writeUTF("entity");
+            output.writeUTF("Team#13");
+        }
+
+        return bytes.toByteArray();
+    }
+
+    private void send(DatagramSocket peer, byte[] payload) throws IOException {
+        peer.send(new DatagramPacket(payload, payload.length, new InetSocketAddress("127.0.0.1", receiver.port())));
+    }
+
+    private void givenTransports() {
+        receiver = new UdpInvalidationTransport(new InetSocketAddress("127.0.0.1", 0), List.of());
+        receiver.onReceive(received::add);
+        sender = new UdpInvalidationTransport(new InetSocketAddress("127.0.0.1", 0), List.of(new InetSocketAddress("127.0.0.1", receiver.port())));
+    }
+}
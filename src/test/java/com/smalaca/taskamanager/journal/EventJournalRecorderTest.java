@@ -0,0 +1,66 @@
+package com.smalaca.taskamanager.journal;
+
+import com.smalaca.taskamanager.events.EpicReadyToPrioritize;
+import com.smalaca.taskamanager.events.StoryApprovedEvent;
+import com.smalaca.taskamanager.events.StoryDoneEvent;
+import com.smalaca.taskamanager.events.TaskApprovedEvent;
+import com.smalaca.taskamanager.events.ToDoItemReleasedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static com.smalaca.taskamanager.journal.JournalEventType.EPIC_READY_TO_PRIORITIZE;
+import static com.smalaca.taskamanager.journal.JournalEventType.STORY_APPROVED;
+import static com.smalaca.taskamanager.journal.JournalEventType.STORY_DONE;
+import static com.smalaca.taskamanager.journal.JournalEventType.TASK_APPROVED;
+import static com.smalaca.taskamanager.journal.JournalEventType.TODO_ITEM_RELEASED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+class EventJournalRecorderTest {
+    private final EventJournal journal = mock(EventJournal.class);
+    private final EventJournalRecorder recorder = new EventJournalRecorder(journal);
+
+    @Test
+    void shouldAppendEveryEventTypeWithItsItemId() {
+        StoryDoneEvent storyDone = new StoryDoneEvent();
+        storyDone.setStoryId(1);
+        StoryApprovedEvent storyApproved = new StoryApprovedEvent();
+        storyApproved.setStoryId(2);
+        TaskApprovedEvent taskApproved = new TaskApprovedEvent();
+        taskApproved.setTaskId(3);
+        EpicReadyToPrioritize epicReady = new EpicReadyToPrioritize();
+        epicReady.setEpicId(4);
+        ToDoItemReleasedEvent released = new ToDoItemReleasedEvent();
+        released.setToDoItemId(5);
+
+        recorder.record(storyDone);
+        recorder.record(storyApproved);
+        recorder.record(taskApproved);
+        recorder.record(epicReady);
+        recorder.record(released);
+
+        then(journal).should().append(STORY_DONE, 1);
+        then(journal).should().append(STORY_APPROVED, 2);
+        then(journal).should().append(TASK_APPROVED, 3);
+        then(journal).should().append(EPIC_READY_TO_PRIORITIZE, 4);
+        then(journal).should().append(TODO_ITEM_RELEASED, 5);
+    }
+
+    @Test
+    void shouldCountEventThatCouldNotBeAppended() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        recorder.bindTo(registry);
+        given(journal.append(any(), anyLong())).willThrow(new UncheckedIOException(new IOException("disk full")));
+
+        recorder.record(new StoryDoneEvent());
+
+        assertThat(registry.get("journal.append.failures").functionCounter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,215 @@
+package com.smalaca.taskamanager.journal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.smalaca.taskamanager.journal.JournalEventType.EPIC_READY_TO_PRIORITIZE;
+import static com.smalaca.taskamanager.journal.JournalEventType.STORY_APPROVED;
+import static com.smalaca.taskamanager.journal.JournalEventType.STORY_DONE;
+import static com.smalaca.taskamanager.journal.JournalEventType.TASK_APPROVED;
+import static com.smalaca.taskamanager.journal.JournalEventType.TODO_ITEM_RELEASED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class EventJournalTest {
+    private static final long NOW = Instant.parse("2026-10-18T10:15:30Z").toEpochMilli();
+    private static final int THREE_RECORDS = 3 * EventJournal.RECORD_SIZE;
+    private static final int LARGE_SEGMENT = 1024 * EventJournal.RECORD_SIZE;
+    private static final int ALL = Integer.MAX_VALUE;
+
+    @TempDir private Path directory;
+
+    private final Clock clock = mock(Clock.class);
+    private EventJournal journal;
+
+    @BeforeEach
+    void currentTime() {
+        given(clock.millis()).willReturn(NOW);
+    }
+
+    @AfterEach
+    void close() {
+        journal.close();
+    }
+
+    @Test
+    void shouldReplayAppendedEventsInOrder() {
+        given(clock.millis()).willReturn(NOW, NOW + 1, NOW + 2, NOW + 3, NOW + 4);
+        journal = new EventJournal(directory, LARGE_SEGMENT, 1, clock);
+
+        journal.append(STORY_DONE, 11);
+        journal.append(STORY_APPROVED, 12);
+        journal.append(TASK_APPROVED, 13);
+        journal.append(EPIC_READY_TO_PRIORITIZE, 14);
+        journal.append(TODO_ITEM_RELEASED, 15);
+
+        assertThat(replay(0, ALL)).containsExactly(
+                new JournalEntry(0, STORY_DONE, NOW, 11),
+                new JournalEntry(1, STORY_APPROVED, NOW + 1, 12),
+                new JournalEntry(2, TASK_APPROVED, NOW + 2, 13),
+                new JournalEntry(3, EPIC_READY_TO_PRIORITIZE, NOW + 3, 14),
+                new JournalEntry(4, TODO_ITEM_RELEASED, NOW + 4, 15));
+    }
+
+    @Test
+    void shouldReplayLimitedNumberOfEventsFromOffset() {
+        journal = journalWithEvents(LARGE_SEGMENT, 1, 10);
+
+        assertThat(replay(4, 3)).extracting(JournalEntry::offset).containsExactly(4L, 5L, 6L);
+        assertThat(replay(8, 3)).extracting(JournalEntry::offset).containsExactly(8L, 9L);
+        assertThat(replay(10, 3)).isEmpty();
+    }
+
+    @Test
+    void shouldRollToNewSegmentWhenCurrentIsFull() throws IOException {
+        journal = journalWithEvents(THREE_RECORDS, 10, 7);
+
+        assertThat(journal.segments()).isEqualTo(3);
+        assertThat(segmentFiles()).containsExactly("00000000000000000000.journal", "00000000000000000003.journal", "00000000000000000006.journal");
+        assertThat(replay(0, ALL)).extracting(JournalEntry::itemId).containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    void shouldDeleteOldestSegmentsBeyondRetention() throws IOException {
+        journal = journalWithEvents(THREE_RECORDS, 2, 10);
+
+        assertThat(journal.firstOffset()).isEqualTo(6);
+        assertThat(segmentFiles()).containsExactly("00000000000000000006.journal", "00000000000000000009.journal");
+        assertThat(replay(0, 2)).extracting(JournalEntry::offset).containsExactly(6L, 7L);
+    }
+
+    @Test
+    void shouldContinueJournalAfterRestart() {
+        journal = journalWithEvents(THREE_RECORDS, 10, 5);
+        journal.close();
+
+        journal = new EventJournal(directory, THREE_RECORDS, 10, clock);
+        long offset = journal.append(TASK_APPROVED, 42);
+
+        assertThat(offset).isEqualTo(5);
+        assertThat(journal.nextOffset()).isEqualTo(6);
+        assertThat(replay(0, ALL)).extracting(JournalEntry::itemId).containsExactly(0L, 1L, 2L, 3L, 4L, 42L);
+    }
+
+    @Test
+    void shouldFindFirstOffsetAtOrAfterTimestamp() {
+        given(clock.millis()).willReturn(NOW, NOW, NOW + 10, NOW + 20, NOW + 20, NOW + 30);
+        journal = journalWithEvents(THREE_RECORDS, 10, 6);
+
+        assertThat(journal.offsetAt(Instant.ofEpochMilli(NOW - 1))).isZero();
+        assertThat(journal.offsetAt(Instant.ofEpochMilli(NOW + 10))).isEqualTo(2);
+        assertThat(journal.offsetAt(Instant.ofEpochMilli(NOW + 15))).isEqualTo(3);
+        assertThat(journal.offsetAt(Instant.ofEpochMilli(NOW + 20))).isEqualTo(3);
+        assertThat(journal.offsetAt(Instant.ofEpochMilli(NOW + 31))).isEqualTo(6);
+    }
+
+    @Test
+    void shouldFindOffsetWhileOldSegmentsAreDeleted() throws InterruptedException {
+        journal = journalWithEvents(THREE_RECORDS, 2, 0);
+        Thread appender = new Thread(() -> {
+            for (int itemId = 0; itemId < 5_000; itemId++) {
+                journal.append(STORY_DONE, itemId);
+            }
+        });
+        appender.start();
+
+        while (appender.isAlive()) {
+            long firstOffset = journal.firstOffset();
+
+            assertThat(journal.offsetAt(Instant.ofEpochMilli(NOW))).isGreaterThanOrEqualTo(firstOffset);
+        }
+
+        appender.join();
+        assertThat(journal.offsetAt(Instant.ofEpochMilli(NOW))).isEqualTo(journal.firstOffset());
+    }
+
+    @Test
+    void shouldNotMoveTimestampsBackWhenClockDoes() {
+        given(clock.millis()).willReturn(NOW, NOW - 100);
+        journal = journalWithEvents(LARGE_SEGMENT, 1, 2);
+
+        assertThat(replay(0, ALL)).extracting(JournalEntry::timestamp).containsExactly(NOW, NOW);
+    }
+
+    @Test
+    void shouldKeepEveryEventOfLongRun() {
+        int events = 300_000;
+        journal = journalWithEvents(LARGE_SEGMENT, events, events);
+
+        List<JournalEntry> replayed = replay(0, ALL);
+
+        assertThat(replayed).hasSize(events);
+        assertThat(replayed.get(events - 1)).isEqualTo(new JournalEntry(events - 1, STORY_DONE, NOW, events - 1));
+    }
+
+    @Test
+    void shouldRejectSegmentTooSmallForSingleRecord() {
+        assertThatThrownBy(() -> new EventJournal(directory, EventJournal.RECORD_SIZE - 1, 1, clock))
+                .isInstanceOf(IllegalArgumentException.class);
+        journal = new EventJournal(directory, EventJournal.RECORD_SIZE, 1, clock);
+    }
+
+    @Test
+    void shouldRefuseSecondWriterOfSameDirectory() {
+        journal = new EventJournal(directory, LARGE_SEGMENT, 1, clock);
+
+        assertThatThrownBy(() -> new EventJournal(directory, LARGE_SEGMENT, 1, clock))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("already open");
+    }
+
+    @Test
+    void shouldOpenDirectoryAgainOnceJournalClosed() {
+        new EventJournal(directory, LARGE_SEGMENT, 1, clock).close();
+
+        journal = new EventJournal(directory, LARGE_SEGMENT, 1, clock);
+
+        assertThat(journal.segments()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExposeAppendsAndSegments() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        journal = journalWithEvents(THREE_RECORDS, 10, 4);
+        journal.bindTo(registry);
+
+        assertThat(registry.get("journal.appends").functionCounter().count()).isEqualTo(4);
+        assertThat(registry.get("journal.segments").gauge().value()).isEqualTo(2);
+    }
+
+    private EventJournal journalWithEvents(int segmentSize, int retainedSegments, int events) {
+        EventJournal eventJournal = new EventJournal(directory, segmentSize, retainedSegments, clock);
+
+        for (int itemId = 0; itemId < events; itemId++) {
+            eventJournal.append(STORY_DONE, itemId);
+        }
+
+        return eventJournal;
+    }
+
+    private List<JournalEntry> replay(long from, int limit) {
+        List<JournalEntry> entries = new ArrayList<>();
+        journal.replay(from, limit, entries::add);
+        return entries;
+    }
+
+    private List<String> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString()).filter(name -> name.endsWith(".journal")).sorted().toList();
+        }
+    }
+}
@@ -62,6 +62,13 @@ class WatcherTest {
         assertThat(actual.hashCode()).isNotEqualTo(watcher.hashCode());
     }
 
+    @Test
+    void shouldHaveFixedLengthKey() {
+        Watcher watcher = watcher(FIRST_NAME.repeat(100), LAST_NAME.repeat(100), EMAIL_ADDRESS, PHONE_PREFIX, PHONE_NUMBER);
+
+        assertThat(watcher.key()).hasSize(64).isEqualTo(watcher.copy().key()).isNotEqualTo(watcher().key());
+    }
+
     private Watcher watcher() {
         return watcher(FIRST_NAME, LAST_NAME, EMAIL_ADDRESS, PHONE_PREFIX, PHONE_NUMBER);
     }
@@ -100,6 +100,28 @@ class TaskTest {
         assertThat(task.getWatchers()).containsExactlyInAnyOrder(watcher("Tony", "Stark"), watcher("Steve", "Rogers"));
     }
 
+    @Test
+    void shouldRemoveWatcherChangedAfterItWasAdded() {
+        Task task = new Task();
+        Watcher added = watcher("Tony", "Stark");
+        task.addWatcher(added);
+        added.setLastName("Iron Man");
+
+        task.removeWatcher(watcher("Tony", "Stark"));
+
+        assertThat(task.getWatchers()).isEmpty();
+    }
+
+    @Test
+    void shouldNotLetChangesOfReturnedWatchersAffectTask() {
+        Task task = new Task();
+        task.addWatcher(watcher("Tony", "Stark"));
+
+        task.getWatchers().iterator().next().setLastName("Iron Man");
+
+        assertThat(task.getWatchers()).containsExactly(watcher("Tony", "Stark"));
+    }
+
     private Watcher watcher(String firstName, String lastName) {
         Watcher watcher = new Watcher();
         watcher.setFirstName(firstName);
@@ -34,6 +34,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
@@ -224,6 +225,56 @@ class ToDoItemProcessorTest {
         verifyNoMoreInteractions(task, storyService, eventsRegistry, projectBacklogService, communicationService, sprintBacklogService);
     }
 
+    @Test
+    void shouldUpdateProgressAndPublishStoryDoneOncePerStoryForManyTasks() {
+        long storyId = 987;
+        Story story = story(DONE);
+        given(story.getId()).willReturn(storyId);
+        Story anotherStory = story(IN_PROGRESS);
+        Task first = task(DONE);
+        given(first.getStory()).willReturn(story);
+        Task second = task(DONE);
+        given(second.getStory()).willReturn(story);
+        Task third = task(IN_PROGRESS);
+        given(third.getStory()).willReturn(anotherStory);
+
+        processor.processForAll(asList(first, second, third));
+
+        then(storyService).should().updateProgressOf(story, asList(first, second));
+        then(storyService).should().updateProgressOf(anotherStory, List.of(third));
+        ArgumentCaptor<StoryDoneEvent> captor = ArgumentCaptor.forClass(StoryDoneEvent.class);
+        then(eventsRegistry).should().publish(captor.capture());
+        assertThat(captor.getValue().getStoryId()).isEqualTo(storyId);
+        verifyNoMoreInteractions(storyService, eventsRegistry, projectBacklogService, communicationService, sprintBacklogService);
+    }
+
+    @Test
+    void shouldNotPublishStoryDoneWhenOnlyTasksInProgressChanged() {
+        Story story = story(DONE);
+        Task task = task(IN_PROGRESS);
+        given(task.getStory()).willReturn(story);
+
+        processor.processForAll(List.of(task));
+
+        then(storyService).should().updateProgressOf(story, List.of(task));
+        verifyNoMoreInteractions(storyService, eventsRegistry, projectBacklogService, communicationService, sprintBacklogService);
+    }
+
+    @Test
+    void shouldProcessOneByOneTasksThatDoNotChangeStoryProgress() {
+        Sprint sprint = mock(Sprint.class);
+        Task defined = task(DEFINED);
+        given(defined.getCurrentSprint()).willReturn(sprint);
+        Task released = task(RELEASED);
+        given(released.getId()).willReturn(13L);
+
+        processor.processForAll(asList(defined, released));
+
+        then(sprintBacklogService).should().moveToReadyForDevelopment(defined, sprint);
+        then(eventsRegistry).should().publish(any(ToDoItemReleasedEvent.class));
+        verifyNoMoreInteractions(storyService, eventsRegistry, projectBacklogService, communicationService, sprintBacklogService);
+    }
+
     @Test
     void shouldProcessDoneStory() {
         long storyId = 13;
@@ -17,7 +17,7 @@ class EventsRegistryTest {
     private static final long ID = 13;
 
     private final ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
-    private final EventsRegistry registry = new EventsRegistry(publisher);
+    private final EventsRegistry registry = new EventsRegistry(new SynchronousEventDispatcher(publisher));
 
     @Test
     void shouldPublishStoryDoneEvent() {
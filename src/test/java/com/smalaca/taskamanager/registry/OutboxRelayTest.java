@@ -0,0 +1,228 @@
+package com.smalaca.taskamanager.registry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smalaca.taskamanager.events.StoryDoneEvent;
+import com.smalaca.taskamanager.events.TaskApprovedEvent;
+import com.smalaca.taskamanager.model.entities.OutboxEvent;
+import com.smalaca.taskamanager.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class OutboxRelayTest {
+    private static final Instant NOW = Instant.parse("2026-10-18T10:15:30Z");
+    private static final Duration LAG = Duration.ofSeconds(3);
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration BACKOFF = Duration.ofSeconds(1);
+    private static final Duration LEASE = Duration.ofMinutes(1);
+
+    @Autowired private OutboxEventRepository outboxEventRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private final List<Object> delivered = new ArrayList<>();
+    private OutboxRelay relay;
+
+    @AfterEach
+    void close() {
+        relay.close();
+    }
+
+    @Test
+    void shouldDeliverEventsInOrderAndRemoveThemFromOutbox() {
+        relay = relay(delivered::add);
+        dispatcher().dispatch(storyDone(1));
+        dispatcher().dispatch(taskApproved(2));
+        dispatcher().dispatch(storyDone(3));
+
+        assertThat(relay.relay()).isEqualTo(BATCH_SIZE);
+        assertThat(relay.relay()).isEqualTo(1);
+        assertThat(relay.relay()).isZero();
+
+        assertThat(delivered).hasSize(3);
+        assertThat(((StoryDoneEvent) delivered.get(0)).getStoryId()).isEqualTo(1);
+        assertThat(((TaskApprovedEvent) delivered.get(1)).getTaskId()).isEqualTo(2);
+        assertThat(((StoryDoneEvent) delivered.get(2)).getStoryId()).isEqualTo(3);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void shouldRetryFailedEventLaterWithoutBlockingOthers() {
+        relay = relay(failingFor(2));
+        dispatcher().dispatch(storyDone(2));
+        dispatcher().dispatch(storyDone(3));
+
+        assertThat(relay.relay()).isEqualTo(BATCH_SIZE);
+        assertThat(relay.relay()).isZero();
+
+        assertThat(delivered).extracting(event -> ((StoryDoneEvent) event).getStoryId()).containsExactly(3L);
+        assertThat(outboxEventRepository.findAll()).singleElement().satisfies(outboxEvent -> {
+            assertThat(outboxEvent.getPayload()).isEqualTo("{\"storyId\":2}");
+            assertThat(outboxEvent.getAttempts()).isEqualTo(1);
+            assertThat(outboxEvent.getNextAttemptAt()).isEqualTo(NOW.plus(LAG).plus(BACKOFF));
+            assertThat(outboxEvent.isParked()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldParkEventAfterLastAttemptFails() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        relay = relay(failingFor(2), new OutboxRetryPolicy(1, BACKOFF, BACKOFF));
+        relay.bindTo(registry);
+        dispatcher().dispatch(storyDone(2));
+
+        relay.relay();
+
+        assertThat(outboxEventRepository.findAll()).singleElement().satisfies(outboxEvent -> assertThat(outboxEvent.isParked()).isTrue());
+        assertThat(registry.get("outbox.relay.parked").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("outbox.relay.failures").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSkipEventsClaimedByAnotherRelay() {
+        relay = relay(delivered::add);
+        dispatcher().dispatch(storyDone(1));
+        dispatcher().dispatch(storyDone(2));
+        Long claimedId = outboxEventRepository.findDueIds(NOW, PageRequest.of(0, 1)).get(0);
+        outboxEventRepository.claim(List.of(claimedId), "other-node", NOW, NOW.plus(LEASE));
+
+        assertThat(relay.relay()).isEqualTo(1);
+
+        assertThat(delivered).extracting(event -> ((StoryDoneEvent) event).getStoryId()).containsExactly(2L);
+    }
+
+    @Test
+    void shouldRedeliverEventWhoseClaimLeaseExpired() {
+        dispatcher().dispatch(storyDone(1));
+        outboxEventRepository.claim(outboxEventRepository.findDueIds(NOW, PageRequest.of(0, 1)), "crashed-node", NOW, NOW.plus(LEASE));
+        relay = relay(delivered::add, Clock.fixed(NOW.plus(LEASE), ZoneOffset.UTC));
+
+        assertThat(relay.relay()).isEqualTo(1);
+
+        assertThat(delivered).hasSize(1);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void shouldDiscardEventOfUnknownType() {
+        relay = relay(delivered::add);
+        OutboxEvent unknown = new OutboxEvent();
+        unknown.setType("UnknownEvent");
+        unknown.setPayload("{}");
+        unknown.setCreatedAt(NOW);
+        unknown.setNextAttemptAt(NOW);
+        outboxEventRepository.save(unknown);
+        dispatcher().dispatch(storyDone(1));
+
+        assertThat(relay.relay()).isEqualTo(BATCH_SIZE);
+
+        assertThat(delivered).hasSize(1);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void shouldExposeLagPerEventType() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        relay = relay(delivered::add);
+        relay.bindTo(registry);
+        dispatcher().dispatch(storyDone(1));
+
+        relay.relay();
+
+        assertThat(registry.get("outbox.relay.lag").tag("type", "StoryDoneEvent").functionTimer().count()).isEqualTo(1);
+        assertThat(registry.get("outbox.relay.lag").tag("type", "StoryDoneEvent").functionTimer().totalTime(TimeUnit.SECONDS))
+                .isEqualTo(LAG.toSeconds());
+        assertThat(registry.get("outbox.relay.lag").tag("type", "TaskApprovedEvent").functionTimer().count()).isZero();
+    }
+
+    @Test
+    void shouldIndexDueAndClaimedEvents() {
+        relay = relay(delivered::add);
+
+        List<String> indexedColumns = jdbcTemplate.queryForList("select index_name || ':' || column_name from information_schema.index_columns "
+                + "where table_name = 'OUTBOX_EVENT' order by index_name, ordinal_position", String.class);
+
+        assertThat(indexedColumns).containsSubsequence("IDX_OUTBOX_EVENT_DUE:PARKED", "IDX_OUTBOX_EVENT_DUE:NEXT_ATTEMPT_AT");
+        assertThat(indexedColumns).contains("IDX_OUTBOX_EVENT_CLAIM_TOKEN:CLAIM_TOKEN");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldNotDeliverEventsOfRolledBackTransaction() {
+        relay = relay(delivered::add);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            dispatcher().dispatch(storyDone(1));
+            status.setRollbackOnly();
+        });
+        transaction.executeWithoutResult(status -> dispatcher().dispatch(storyDone(2)));
+
+        assertThat(relay.relay()).isEqualTo(1);
+        assertThat(delivered).extracting(event -> ((StoryDoneEvent) event).getStoryId()).containsExactly(2L);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    private OutboxRelay relay(EventDispatcher delivery) {
+        return relay(delivery, new OutboxRetryPolicy(MAX_ATTEMPTS, BACKOFF, BACKOFF.multipliedBy(MAX_ATTEMPTS)));
+    }
+
+    private OutboxRelay relay(EventDispatcher delivery, OutboxRetryPolicy retryPolicy) {
+        return relay(delivery, retryPolicy, Clock.fixed(NOW.plus(LAG), ZoneOffset.UTC));
+    }
+
+    private OutboxRelay relay(EventDispatcher delivery, Clock clock) {
+        return relay(delivery, new OutboxRetryPolicy(MAX_ATTEMPTS, BACKOFF, BACKOFF), clock);
+    }
+
+    private OutboxRelay relay(EventDispatcher delivery, OutboxRetryPolicy retryPolicy, Clock clock) {
+        return new OutboxRelay(
+                outboxEventRepository, transactionManager, delivery, new ObjectMapper(), clock, Duration.ofHours(1), BATCH_SIZE, retryPolicy, LEASE);
+    }
+
+    private EventDispatcher failingFor(long storyId) {
+        return event -> {
+            if (((StoryDoneEvent) event).getStoryId() == storyId) {
+                throw new IllegalStateException();
+            }
+
+            delivered.add(event);
+        };
+    }
+
+    private OutboxEventDispatcher dispatcher() {
+        return new OutboxEventDispatcher(outboxEventRepository, new ObjectMapper(), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private StoryDoneEvent storyDone(long storyId) {
+        StoryDoneEvent event = new StoryDoneEvent();
+        event.setStoryId(storyId);
+        return event;
+    }
+
+    private TaskApprovedEvent taskApproved(long taskId) {
+        TaskApprovedEvent event = new TaskApprovedEvent();
+        event.setTaskId(taskId);
+        return event;
+    }
+}
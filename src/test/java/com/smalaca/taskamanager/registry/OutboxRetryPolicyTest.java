@@ -0,0 +1,33 @@
+package com.smalaca.taskamanager.registry;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxRetryPolicyTest {
+    private static final Instant NOW = Instant.parse("2026-10-18T10:15:30Z");
+
+    private final OutboxRetryPolicy policy = new OutboxRetryPolicy(3, Duration.ofSeconds(1), Duration.ofSeconds(5));
+
+    @Test
+    void shouldDoubleBackoffWithEveryAttempt() {
+        assertThat(policy.nextAttemptAt(NOW, 1)).isEqualTo(NOW.plusSeconds(1));
+        assertThat(policy.nextAttemptAt(NOW, 2)).isEqualTo(NOW.plusSeconds(2));
+        assertThat(policy.nextAttemptAt(NOW, 3)).isEqualTo(NOW.plusSeconds(4));
+    }
+
+    @Test
+    void shouldCapBackoff() {
+        assertThat(policy.nextAttemptAt(NOW, 4)).isEqualTo(NOW.plusSeconds(5));
+        assertThat(policy.nextAttemptAt(NOW, 100)).isEqualTo(NOW.plusSeconds(5));
+    }
+
+    @Test
+    void shouldBeExhaustedAfterMaxAttempts() {
+        assertThat(policy.exhausted(2)).isFalse();
+        assertThat(policy.exhausted(3)).isTrue();
+    }
+}
@@ -0,0 +1,212 @@
+package com.smalaca.taskamanager.registry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueuedEventDispatcherTest {
+    private static final long TIMEOUT_SECONDS = 5;
+    private static final String BLOCKING = "blocking";
+
+    private final CountDownLatch blockingStarted = new CountDownLatch(1);
+    private final CountDownLatch blockingReleased = new CountDownLatch(1);
+    private final BlockingQueue<Delivery> deliveries = new LinkedBlockingQueue<>();
+    private QueuedEventDispatcher dispatcher;
+
+    @AfterEach
+    void close() {
+        blockingReleased.countDown();
+        dispatcher.close();
+    }
+
+    @Test
+    void shouldDeliverEventsOnWorkerThreads() throws InterruptedException {
+        dispatcher = new QueuedEventDispatcher(publisher(), 16, 2, OverflowPolicy.BLOCK);
+
+        dispatcher.dispatch("first");
+        dispatcher.dispatch("second");
+
+        List<Delivery> actual = next(2);
+        assertThat(actual).extracting(Delivery::event).containsExactlyInAnyOrder("first", "second");
+        assertThat(actual).extracting(Delivery::thread).allSatisfy(thread -> assertThat(thread).startsWith("events-dispatch-"));
+    }
+
+    @Test
+    void shouldDeliverOnCallerThreadWhenQueueIsFull() throws InterruptedException {
+        dispatcher = new QueuedEventDispatcher(publisher(), 1, 1, OverflowPolicy.CALLER_RUNS);
+        occupyWorkerAndFillQueue();
+
+        dispatcher.dispatch("overflow");
+
+        assertThat(next(1)).containsExactly(new Delivery("overflow", Thread.currentThread().getName()));
+        blockingReleased.countDown();
+        assertThat(next(1)).extracting(Delivery::event).containsExactly("queued");
+    }
+
+    @Test
+    void shouldDropOldestQueuedEventWhenQueueIsFull() throws InterruptedException {
+        dispatcher = new QueuedEventDispatcher(publisher(), 1, 1, OverflowPolicy.DROP_OLDEST);
+        occupyWorkerAndFillQueue();
+
+        dispatcher.dispatch("newest");
+        blockingReleased.countDown();
+        dispatcher.close();
+
+        assertThat(deliveries).extracting(Delivery::event).containsExactly("newest");
+    }
+
+    @Test
+    void shouldBlockPublisherUntilQueueHasRoom() throws Exception {
+        dispatcher = new QueuedEventDispatcher(publisher(), 1, 1, OverflowPolicy.BLOCK);
+        occupyWorkerAndFillQueue();
+
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> dispatcher.dispatch("waiting"));
+
+        assertThat(waiting).isNotCompleted();
+        blockingReleased.countDown();
+        waiting.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(next(2)).extracting(Delivery::event).containsExactly("queued", "waiting");
+    }
+
+    @Test
+    void shouldKeepDeliveringAfterFailingListener() throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        dispatcher = new QueuedEventDispatcher(event -> {
+            if ("failing".equals(event)) {
+                throw new IllegalStateException();
+            }
+
+            deliveries.add(new Delivery((String) event, Thread.currentThread().getName()));
+        }, 16, 1, OverflowPolicy.BLOCK);
+        dispatcher.bindTo(registry);
+
+        dispatcher.dispatch("failing");
+        dispatcher.dispatch("next");
+
+        assertThat(next(1)).extracting(Delivery::event).containsExactly("next");
+        assertThat(registry.get("events.dispatch.failures").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDeliverQueuedEventsWhenClosed() throws InterruptedException {
+        dispatcher = new QueuedEventDispatcher(publisher(), 16, 1, OverflowPolicy.BLOCK);
+        occupyWorkerAndFillQueue();
+
+        blockingReleased.countDown();
+        dispatcher.close();
+
+        assertThat(deliveries).extracting(Delivery::event).containsExactly("queued");
+    }
+
+    @Test
+    void shouldDeliverEventsDispatchedAfterCloseOnCallerThread() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        dispatcher = new QueuedEventDispatcher(publisher(), 16, 1, OverflowPolicy.CALLER_RUNS);
+        dispatcher.bindTo(registry);
+        dispatcher.close();
+
+        dispatcher.dispatch("late");
+
+        assertThat(deliveries).containsExactly(new Delivery("late", Thread.currentThread().getName()));
+        assertThat(registry.get("events.dispatch.after.close").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("events.dispatch.caller.runs").functionCounter().count()).isZero();
+    }
+
+    @Test
+    void shouldDeliverEveryEventDispatchedWhileClosing() throws Exception {
+        int publishers = 4;
+        int eventsPerPublisher = 2_000;
+        dispatcher = new QueuedEventDispatcher(publisher(), 8, 2, OverflowPolicy.BLOCK);
+        CountDownLatch halfway = new CountDownLatch(publishers);
+        List<CompletableFuture<Void>> publishing = new ArrayList<>();
+
+        for (int publisher = 0; publisher < publishers; publisher++) {
+            String prefix = "publisher-" + publisher + "-";
+            publishing.add(CompletableFuture.runAsync(() -> {
+                for (int event = 0; event < eventsPerPublisher; event++) {
+                    dispatcher.dispatch(prefix + event);
+
+                    if (event == eventsPerPublisher / 2) {
+                        halfway.countDown();
+                    }
+                }
+            }));
+        }
+
+        assertThat(halfway.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        dispatcher.close();
+        CompletableFuture.allOf(publishing.toArray(CompletableFuture[]::new)).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertThat(deliveries).hasSize(publishers * eventsPerPublisher);
+    }
+
+    @Test
+    void shouldExposeQueueDepthAndLatency() throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        dispatcher = new QueuedEventDispatcher(publisher(), 1, 1, OverflowPolicy.DROP_OLDEST);
+        dispatcher.bindTo(registry);
+        occupyWorkerAndFillQueue();
+        dispatcher.dispatch("newest");
+
+        assertThat(registry.get("events.dispatch.queue.depth").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("events.dispatch.dropped").functionCounter().count()).isEqualTo(1);
+
+        blockingReleased.countDown();
+        dispatcher.close();
+
+        assertThat(registry.get("events.dispatch.queue.depth").gauge().value()).isZero();
+        assertThat(registry.get("events.dispatch.dispatched").functionCounter().count()).isEqualTo(3);
+        assertThat(registry.get("events.dispatch.latency").functionTimer().count()).isEqualTo(2);
+        assertThat(registry.get("events.dispatch.latency").functionTimer().totalTime(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    private void occupyWorkerAndFillQueue() throws InterruptedException {
+        dispatcher.dispatch(BLOCKING);
+        assertThat(blockingStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        dispatcher.dispatch("queued");
+    }
+
+    private List<Delivery> next(int count) throws InterruptedException {
+        List<Delivery> next = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            Delivery delivery = deliveries.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertThat(delivery).isNotNull();
+            next.add(delivery);
+        }
+
+        return next;
+    }
+
+    private ApplicationEventPublisher publisher() {
+        return event -> {
+            if (BLOCKING.equals(event)) {
+                blockingStarted.countDown();
+                awaitRelease();
+            } else {
+                deliveries.add(new Delivery((String) event, Thread.currentThread().getName()));
+            }
+        };
+    }
+
+    private void awaitRelease() {
+        try {
+            blockingReleased.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Delivery(String event, String thread) { }
+}
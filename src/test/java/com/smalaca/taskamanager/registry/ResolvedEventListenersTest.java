@@ -0,0 +1,83 @@
+package com.smalaca.taskamanager.registry;
+
+import com.smalaca.taskamanager.events.StoryApprovedEvent;
+import com.smalaca.taskamanager.events.StoryDoneEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.support.AbstractApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResolvedEventListenersTest {
+    private final AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+
+    @AfterEach
+    void closeContext() {
+        context.close();
+    }
+
+    @Test
+    void shouldDeliverEventToListenersResolvedAtStartup() {
+        ResolvedEventListeners listeners = givenContextWithListeners(List.of(StoryDoneEvent.class));
+        StoryDoneEvent event = new StoryDoneEvent();
+
+        listeners.deliver(event);
+
+        assertThat(context.getBean(StoryListeners.class).received).containsExactlyInAnyOrder("done", "any-done");
+    }
+
+    @Test
+    void shouldNotLookUpListenersAddedAfterStartup() {
+        ResolvedEventListeners listeners = givenContextWithListeners(List.of(StoryDoneEvent.class));
+        List<Object> lateReceived = new CopyOnWriteArrayList<>();
+        context.addApplicationListener((PayloadApplicationEvent<StoryDoneEvent> event) -> lateReceived.add(event.getPayload()));
+
+        listeners.deliver(new StoryDoneEvent());
+
+        assertThat(lateReceived).isEmpty();
+    }
+
+    @Test
+    void shouldMulticastEventOfTypeNotResolvedAtStartup() {
+        ResolvedEventListeners listeners = givenContextWithListeners(List.of(StoryDoneEvent.class));
+
+        listeners.deliver(new StoryApprovedEvent());
+
+        assertThat(context.getBean(StoryListeners.class).received).containsExactly("approved");
+    }
+
+    private ResolvedEventListeners givenContextWithListeners(List<Class<?>> eventTypes) {
+        context.registerBean(AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME, ListenerResolvingEventMulticaster.class,
+                () -> new ListenerResolvingEventMulticaster(context.getBeanFactory()));
+        context.registerBean(StoryListeners.class);
+        context.registerBean(ResolvedEventListeners.class,
+                () -> new ResolvedEventListeners(context.getBean(ListenerResolvingEventMulticaster.class), eventTypes));
+        context.refresh();
+        return context.getBean(ResolvedEventListeners.class);
+    }
+
+    static class StoryListeners {
+        private final List<String> received = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        public void done(StoryDoneEvent event) {
+            received.add("done");
+        }
+
+        @EventListener
+        public void approved(StoryApprovedEvent event) {
+            received.add("approved");
+        }
+
+        @EventListener(classes = StoryDoneEvent.class)
+        public void anyDone() {
+            received.add("any-done");
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.smalaca.taskamanager.registry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class RingBufferEventDispatcherTest {
+    private static final long TIMEOUT_SECONDS = 5;
+    private static final String BLOCKING = "blocking";
+
+    private final CountDownLatch blockingStarted = new CountDownLatch(1);
+    private final CountDownLatch blockingReleased = new CountDownLatch(1);
+    private final BlockingQueue<Delivery> deliveries = new LinkedBlockingQueue<>();
+    private RingBufferEventDispatcher dispatcher;
+
+    @AfterEach
+    void close() {
+        blockingReleased.countDown();
+        dispatcher.close();
+    }
+
+    @Test
+    void shouldDeliverEventsInOrderOnConsumerThread() throws InterruptedException {
+        dispatcher = new RingBufferEventDispatcher(16, List.of(handler("first")));
+
+        dispatcher.dispatch("one");
+        dispatcher.dispatch("two");
+        dispatcher.dispatch("three");
+
+        List<Delivery> actual = next(3);
+        assertThat(actual).extracting(Delivery::event).containsExactly("one", "two", "three");
+        assertThat(actual).extracting(Delivery::thread).containsOnly("events-ring-1");
+    }
+
+    @Test
+    void shouldDeliverEveryEventToEveryConsumer() throws InterruptedException {
+        dispatcher = new RingBufferEventDispatcher(16, List.of(handler("first"), handler("second")));
+
+        dispatcher.dispatch("one");
+        dispatcher.dispatch("two");
+
+        assertThat(next(4)).extracting(Delivery::handler, Delivery::event).containsExactlyInAnyOrder(
+                tuple("first", "one"), tuple("first", "two"), tuple("second", "one"), tuple("second", "two"));
+    }
+
+    @Test
+    void shouldDeliverEventsOfManyPublishersExactlyOnce() throws Exception {
+        dispatcher = new RingBufferEventDispatcher(64, List.of(handler("first")));
+        int publishers = 4;
+        int eventsPerPublisher = 10_000;
+
+        CompletableFuture.allOf(IntStream.range(0, publishers)
+                .mapToObj(publisher -> CompletableFuture.runAsync(() -> {
+                    for (int event = 0; event < eventsPerPublisher; event++) {
+                        dispatcher.dispatch(publisher + "-" + event);
+                    }
+                }))
+                .toArray(CompletableFuture[]::new)).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertThat(next(publishers * eventsPerPublisher)).extracting(Delivery::event).doesNotHaveDuplicates();
+        assertThat(deliveries).isEmpty();
+    }
+
+    @Test
+    void shouldMakePublisherWaitForSlowestConsumer() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        dispatcher = new RingBufferEventDispatcher(2, List.of(handler("first")));
+        dispatcher.bindTo(registry);
+        occupyConsumerAndFillRing();
+
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> dispatcher.dispatch("waiting"));
+        awaitProducerWaiting(registry);
+
+        assertThat(waiting).isNotCompleted();
+        assertThat(dispatcher.remaining()).isZero();
+        blockingReleased.countDown();
+        waiting.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(next(2)).extracting(Delivery::event).containsExactly("queued", "waiting");
+    }
+
+    @Test
+    void shouldTakeEventsPublishedMeanwhileAsOneBatch() throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        dispatcher = new RingBufferEventDispatcher(8, List.of(handler("first")));
+        dispatcher.bindTo(registry);
+        occupyConsumerAndFillRing();
+        dispatcher.dispatch("queued");
+
+        blockingReleased.countDown();
+        next(2);
+        dispatcher.close();
+
+        assertThat(registry.get("events.ring.published").functionCounter().count()).isEqualTo(3);
+        assertThat(registry.get("events.ring.delivered").functionCounter().count()).isEqualTo(3);
+        assertThat(registry.get("events.ring.batches").functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepDeliveringAfterFailingHandler() throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        dispatcher = new RingBufferEventDispatcher(16, List.of(event -> {
+            if ("failing".equals(event)) {
+                throw new IllegalStateException();
+            }
+
+            deliveries.add(new Delivery("first", (String) event, Thread.currentThread().getName()));
+        }));
+        dispatcher.bindTo(registry);
+
+        dispatcher.dispatch("failing");
+        dispatcher.dispatch("next");
+
+        assertThat(next(1)).extracting(Delivery::event).containsExactly("next");
+        assertThat(registry.get("events.ring.failures").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDeliverPublishedEventsWhenClosedAndLaterOnesOnCaller() throws InterruptedException {
+        dispatcher = new RingBufferEventDispatcher(8, List.of(handler("first")));
+        occupyConsumerAndFillRing();
+
+        blockingReleased.countDown();
+        dispatcher.close();
+        dispatcher.dispatch("after");
+
+        assertThat(next(2)).extracting(Delivery::event, Delivery::thread).containsExactly(
+                tuple("queued", "events-ring-1"), tuple("after", Thread.currentThread().getName()));
+    }
+
+    @Test
+    void shouldDeliverEveryEventDispatchedWhileClosing() throws Exception {
+        dispatcher = new RingBufferEventDispatcher(4, List.of(handler("first")));
+        int publishers = 4;
+        int eventsPerPublisher = 5_000;
+        CountDownLatch publishing = new CountDownLatch(publishers);
+
+        CompletableFuture<Void> published = CompletableFuture.allOf(IntStream.range(0, publishers)
+                .mapToObj(publisher -> CompletableFuture.runAsync(() -> {
+                    publishing.countDown();
+
+                    for (int event = 0; event < eventsPerPublisher; event++) {
+                        dispatcher.dispatch(publisher + "-" + event);
+                    }
+                }))
+                .toArray(CompletableFuture[]::new));
+        assertThat(publishing.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        dispatcher.close();
+        published.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertThat(next(publishers * eventsPerPublisher)).extracting(Delivery::event).doesNotHaveDuplicates();
+        assertThat(deliveries).isEmpty();
+    }
+
+    @Test
+    void shouldClearSlotsOnceEveryConsumerTookTheEvent() throws Exception {
+        dispatcher = new RingBufferEventDispatcher(8, List.of(handler("first"), handler("second")));
+
+        dispatcher.dispatch("one");
+        dispatcher.dispatch("two");
+        next(4);
+        dispatcher.close();
+
+        assertThat(slots()).containsOnlyNulls();
+    }
+
+    @Test
+    void shouldRequirePowerOfTwoCapacity() {
+        dispatcher = new RingBufferEventDispatcher(1, List.of());
+
+        assertThatThrownBy(() -> new RingBufferEventDispatcher(12, List.of())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Object[] slots() throws ReflectiveOperationException {
+        Field slots = RingBufferEventDispatcher.class.getDeclaredField("slots");
+        slots.setAccessible(true);
+        return (Object[]) slots.get(dispatcher);
+    }
+
+    private void occupyConsumerAndFillRing() throws InterruptedException {
+        dispatcher.dispatch(BLOCKING);
+        assertThat(blockingStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        dispatcher.dispatch("queued");
+    }
+
+    private void awaitProducerWaiting(SimpleMeterRegistry registry) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+
+        while (registry.get("events.ring.producer.waits").functionCounter().count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+
+        assertThat(registry.get("events.ring.producer.waits").functionCounter().count()).isEqualTo(1);
+    }
+
+    private List<Delivery> next(int count) throws InterruptedException {
+        List<Delivery> next = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            Delivery delivery = deliveries.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertThat(delivery).isNotNull();
+            next.add(delivery);
+        }
+
+        return next;
+    }
+
+    private EventDispatcher handler(String name) {
+        return event -> {
+            if (BLOCKING.equals(event)) {
+                blockingStarted.countDown();
+                awaitRelease();
+            } else {
+                deliveries.add(new Delivery(name, (String) event, Thread.currentThread().getName()));
+            }
+        };
+    }
+
+    private void awaitRelease() {
+        try {
+            blockingReleased.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Delivery(String handler, String event, String thread) { }
+}
@@ -0,0 +1,213 @@
+package com.smalaca.taskamanager.repository;
+
+import com.smalaca.taskamanager.invalidation.EntityCacheInvalidation;
+import com.smalaca.taskamanager.invalidation.InvalidationBus;
+import com.smalaca.taskamanager.model.embedded.Stakeholder;
+import com.smalaca.taskamanager.model.embedded.Watcher;
+import com.smalaca.taskamanager.model.entities.Epic;
+import com.smalaca.taskamanager.model.entities.ProductOwner;
+import com.smalaca.taskamanager.model.entities.Project;
+import com.smalaca.taskamanager.model.entities.Sprint;
+import com.smalaca.taskamanager.model.entities.Story;
+import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.entities.Team;
+import com.smalaca.taskamanager.service.CascadeDeletion;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.smalaca.taskamanager.invalidation.EntityCacheInvalidation.REGION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@DataJpaTest
+@Import(CascadeDeletion.class)
+class CascadeDeletionTest {
+    private static final int TASKS_PER_STORY = 600;
+    private static final List<String> TABLES = List.of(
+            "project", "project_epics", "project_sprints", "sprint", "sprint_tasks", "sprint_stories",
+            "epic", "epic_stories", "epic_watchers", "epic_stakeholders",
+            "story", "story_tasks", "story_sprints", "story_watchers", "story_stakeholders",
+            "task", "task_watchers", "task_stakeholders");
+
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private CascadeDeletion cascadeDeletion;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @MockBean private InvalidationBus invalidationBus;
+
+    @Test
+    void shouldDeleteProjectWithWholeContent() {
+        Map<String, Long> before = rowCounts();
+        Team team = entityManager.persist(new Team());
+        ProductOwner productOwner = entityManager.persist(new ProductOwner());
+        Project project = projectWithContent();
+        project.addTeam(team);
+        team.setProject(project);
+        project.setProductOwner(productOwner);
+        productOwner.addProject(project);
+        entityManager.flush();
+        entityManager.clear();
+
+        cascadeDeletion.deleteProject(project.getId());
+        entityManager.clear();
+
+        assertThat(rowCounts()).isEqualTo(before);
+        assertThat(entityManager.find(Team.class, team.getId()).getProject()).isNull();
+        assertThat(entityManager.find(ProductOwner.class, productOwner.getId()).getProjects()).isEmpty();
+        then(invalidationBus).should().publish(REGION, EntityCacheInvalidation.key(Project.class.getName(), project.getId()));
+        then(invalidationBus).should().publish(REGION, EntityCacheInvalidation.key(Sprint.class.getName(), project.getSprints().get(0).getId()));
+        then(invalidationBus).should().publish(REGION, EntityCacheInvalidation.key(Team.class.getName(), team.getId()));
+        then(invalidationBus).should(never()).publish(eq(REGION), startsWith(Task.class.getName()));
+    }
+
+    @Test
+    void shouldDeleteOnlyGivenEpicWithItsContent() {
+        Project project = projectWithContent();
+        entityManager.flush();
+        Epic deleted = project.getEpics().get(0);
+        Epic kept = project.getEpics().get(1);
+        entityManager.clear();
+
+        cascadeDeletion.deleteEpic(deleted.getId());
+        entityManager.clear();
+
+        assertThat(entityManager.find(Epic.class, deleted.getId())).isNull();
+        assertThat(count("select count(*) from story where epic_id = " + deleted.getId())).isZero();
+        assertThat(entityManager.find(Project.class, project.getId()).getEpics()).extracting(Epic::getId).containsExactly(kept.getId());
+        assertThat(entityManager.find(Epic.class, kept.getId()).getStories()).hasSize(2)
+                .allSatisfy(story -> assertThat(story.getTasks()).hasSize(TASKS_PER_STORY));
+    }
+
+    @Test
+    void shouldDeleteOnlyGivenStoryWithItsTasks() {
+        Project project = projectWithContent();
+        entityManager.flush();
+        Epic epic = project.getEpics().get(0);
+        Story deleted = epic.getStories().get(0);
+        Story kept = epic.getStories().get(1);
+        entityManager.clear();
+
+        cascadeDeletion.deleteStory(deleted.getId());
+        entityManager.clear();
+
+        assertThat(entityManager.find(Story.class, deleted.getId())).isNull();
+        assertThat(count("select count(*) from task where story_id = " + deleted.getId())).isZero();
+        assertThat(entityManager.find(Epic.class, epic.getId()).getStories()).extracting(Story::getId).containsExactly(kept.getId());
+        assertThat(entityManager.find(Sprint.class, project.getSprints().get(0).getId()).getStories()).extracting(Story::getId).doesNotContain(deleted.getId());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldDeleteProjectWithWholeContentInBackground() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Map<String, Long> before = transaction.execute(status -> rowCounts());
+        Long projectId = transaction.execute(status -> projectWithContent().getId());
+
+        cascadeDeletion.deleteProjectLater(projectId).get(1, TimeUnit.MINUTES);
+
+        Map<String, Long> after = transaction.execute(status -> rowCounts());
+        assertThat(after).isEqualTo(before);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldKeepUnrelatedEntitiesInSecondLevelCache() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Project project = transaction.execute(status -> projectWithContent());
+        Long teamId = transaction.execute(status -> entityManager.persist(new Team()).getId());
+        Long storyId = project.getEpics().get(0).getStories().get(0).getId();
+        transaction.executeWithoutResult(status -> {
+            entityManager.find(Project.class, project.getId());
+            entityManager.find(Team.class, teamId);
+        });
+
+        try {
+            cascadeDeletion.deleteStory(storyId);
+
+            assertThat(entityManagerFactory.getCache().contains(Project.class, project.getId())).isTrue();
+            assertThat(entityManagerFactory.getCache().contains(Team.class, teamId)).isTrue();
+        } finally {
+            cascadeDeletion.deleteProject(project.getId());
+            transaction.executeWithoutResult(status -> entityManager.remove(entityManager.find(Team.class, teamId)));
+        }
+
+        assertThat(entityManagerFactory.getCache().contains(Project.class, project.getId())).isFalse();
+    }
+
+    private Project projectWithContent() {
+        Project project = entityManager.persist(new Project());
+        Sprint sprint = entityManager.persist(new Sprint());
+        sprint.setProject(project);
+        project.addSprint(sprint);
+
+        for (int epicNumber = 0; epicNumber < 2; epicNumber++) {
+            Epic epic = new Epic();
+            epic.addWatcher(watcher("epic" + epicNumber));
+            epic.addStakeholder(stakeholder("epic" + epicNumber));
+            epic.setProject(project);
+            project.addEpic(entityManager.persist(epic));
+
+            for (int storyNumber = 0; storyNumber < 2; storyNumber++) {
+                Story story = new Story();
+                story.addWatcher(watcher("story" + storyNumber));
+                story.addStakeholder(stakeholder("story" + storyNumber));
+                story.setEpic(epic);
+                story.addSprint(sprint);
+                story.setCurrentSprint(sprint);
+                epic.addStory(entityManager.persist(story));
+                sprint.addStory(story);
+
+                for (int taskNumber = 0; taskNumber < TASKS_PER_STORY; taskNumber++) {
+                    Task task = new Task();
+                    task.addWatcher(watcher("task" + taskNumber));
+                    task.addStakeholder(stakeholder("task" + taskNumber));
+                    task.setStory(story);
+                    task.setCurrentSprint(sprint);
+                    story.addTask(entityManager.persist(task));
+                    sprint.addTask(task);
+                }
+            }
+        }
+
+        return project;
+    }
+
+    private Map<String, Long> rowCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        TABLES.forEach(table -> counts.put(table, count("select count(*) from " + table)));
+        return counts;
+    }
+
+    private long count(String query) {
+        return ((Number) entityManager.getEntityManager().createNativeQuery(query).getSingleResult()).longValue();
+    }
+
+    private Watcher watcher(String name) {
+        Watcher watcher = new Watcher();
+        watcher.setFirstName(name);
+        return watcher;
+    }
+
+    private Stakeholder stakeholder(String name) {
+        Stakeholder stakeholder = new Stakeholder();
+        stakeholder.setFirstName(name);
+        return stakeholder;
+    }
+}
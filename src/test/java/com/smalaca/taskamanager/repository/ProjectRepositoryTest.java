@@ -7,6 +7,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -58,6 +61,25 @@ class ProjectRepositoryTest {
         assertThat(actual.getProjectStatus()).isEqualTo(ProjectStatus.UNDER_MAINTENANCE);
     }
 
+    @Test
+    void shouldStreamSummariesOfAllProjects() {
+        repository.saveAll(asList(
+                project("X-Men", ProjectStatus.IDEA),
+                project("Avengers", ProjectStatus.STARTED)
+        ));
+
+        try (Stream<ProjectSummary> actual = repository.streamAllSummaries()) {
+            List<ProjectSummary> summaries = actual.toList();
+
+            assertThat(summaries).hasSize(2);
+            assertThat(summaries.get(0).getName()).isEqualTo("X-Men");
+            assertThat(summaries.get(0).getProjectStatus()).isEqualTo(ProjectStatus.IDEA);
+            assertThat(summaries.get(0).getProductOwnerId()).isNull();
+            assertThat(summaries.get(1).getName()).isEqualTo("Avengers");
+            assertThat(summaries.get(1).getProjectStatus()).isEqualTo(ProjectStatus.STARTED);
+        }
+    }
+
     private Project project(String name, ProjectStatus status) {
         Project project = new Project();
         project.setName(name);
@@ -0,0 +1,166 @@
+package com.smalaca.taskamanager.repository;
+
+import com.smalaca.taskamanager.model.entities.ProductOwner;
+import com.smalaca.taskamanager.model.entities.Project;
+import com.smalaca.taskamanager.model.entities.Sprint;
+import com.smalaca.taskamanager.model.entities.Team;
+import com.smalaca.taskamanager.model.entities.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+    private static final String PROJECT_NAME = "Secret Wars";
+
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private TeamRepository teamRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private SprintRepository sprintRepository;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private Long projectId;
+    private Long teamId;
+    private Long sprintId;
+
+    @BeforeEach
+    void givenCommittedReferenceData() {
+        entityManagerFactory.getCache().evictAll();
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            ProductOwner productOwner = new ProductOwner();
+            entityManager.persist(productOwner);
+            Project project = new Project();
+            project.setName(PROJECT_NAME);
+            project.setProductOwner(productOwner);
+            entityManager.persist(project);
+            Team team = new Team();
+            team.setName("Avengers");
+            team.setProject(project);
+            for (int i = 0; i < 3; i++) {
+                User user = new User();
+                entityManager.persist(user);
+                team.addMember(user);
+                user.addToTeam(team);
+            }
+            entityManager.persist(team);
+            project.addTeam(team);
+            Sprint sprint = new Sprint();
+            sprint.setName("Sprint 1");
+            sprint.setProject(project);
+            entityManager.persist(sprint);
+
+            projectId = project.getId();
+            teamId = team.getId();
+            sprintId = sprint.getId();
+        });
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void deleteReferenceData() {
+        transaction.executeWithoutResult(status -> {
+            Team team = entityManager.find(Team.class, teamId);
+            Project project = entityManager.find(Project.class, projectId);
+            List<User> members = new ArrayList<>(team.getMembers());
+            project.getTeams().clear();
+            team.getMembers().clear();
+            entityManager.flush();
+            entityManager.remove(entityManager.find(Sprint.class, sprintId));
+            entityManager.remove(team);
+            members.forEach(entityManager::remove);
+            entityManager.remove(project);
+            entityManager.remove(project.getProductOwner());
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void shouldReadProjectAndProductOwnerFromCacheOnceLoaded() {
+        load(() -> projectRepository.findById(projectId).get().getProductOwner().getId());
+
+        long statements = load(() -> projectRepository.findById(projectId).get().getProductOwner().getId());
+
+        assertThat(statements).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics("project").getHitCount()).isPositive();
+        assertThat(statistics.getDomainDataRegionStatistics("product-owner").getHitCount()).isPositive();
+    }
+
+    @Test
+    void shouldReadTeamWithMembersFromCacheOnceLoaded() {
+        load(() -> teamRepository.findById(teamId).get().getMembers().size());
+
+        long statements = load(() -> teamRepository.findById(teamId).get().getMembers().size());
+
+        assertThat(statements).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics("team-members").getHitCount()).isPositive();
+    }
+
+    @Test
+    void shouldReadProjectTeamsFromCacheOnceLoaded() {
+        load(() -> projectRepository.findById(projectId).get().getTeams().size());
+
+        long statements = load(() -> projectRepository.findById(projectId).get().getTeams().size());
+
+        assertThat(statements).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics("project-teams").getHitCount()).isPositive();
+    }
+
+    @Test
+    void shouldReadSprintFromCacheOnceLoaded() {
+        load(() -> sprintRepository.findById(sprintId).get().getName());
+
+        long statements = load(() -> sprintRepository.findById(sprintId).get().getName());
+
+        assertThat(statements).isZero();
+    }
+
+    @Test
+    void shouldAnswerRepeatedFindByNameFromQueryCache() {
+        load(() -> projectRepository.findByName(PROJECT_NAME).get().getId());
+
+        long statements = load(() -> projectRepository.findByName(PROJECT_NAME).get().getId());
+
+        assertThat(statements).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void shouldNotServeStaleProjectAfterUpdate() {
+        load(() -> projectRepository.findById(projectId).get().getName());
+        transaction.executeWithoutResult(status -> projectRepository.findById(projectId).get().setName("Civil War"));
+
+        String actual = transaction.execute(status -> projectRepository.findById(projectId).get().getName());
+
+        assertThat(actual).isEqualTo("Civil War");
+    }
+
+    private long load(Supplier<?> load) {
+        statistics.clear();
+
+        transaction.execute(status -> load.get());
+
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -2,20 +2,33 @@ package com.smalaca.taskamanager.repository;
 
 import com.smalaca.taskamanager.model.entities.Project;
 import com.smalaca.taskamanager.model.entities.Sprint;
+import com.smalaca.taskamanager.model.entities.Story;
+import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import java.util.List;
+
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DONE;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.IN_PROGRESS;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
 class SprintRepositoryTest {
     @Autowired private SprintRepository sprintRepository;
     @Autowired private ProjectRepository projectRepository;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private StoryRepository storyRepository;
+    @Autowired private EntityManager entityManager;
 
     @AfterEach
     void deleteAll() {
+        taskRepository.deleteAll();
+        storyRepository.deleteAll();
         sprintRepository.deleteAll();
         projectRepository.deleteAll();
     }
@@ -63,6 +76,58 @@ class SprintRepositoryTest {
         assertThat(actual.getProject().getName()).isEqualTo("Project 1");
     }
 
+    @Test
+    void shouldFindTasksOfSprintOrderedByStatus() {
+        Sprint sprint = existingSprint("Sprint 1", existingProject("Project 1"));
+        Sprint anotherSprint = existingSprint("Sprint 2", existingProject("Project 2"));
+        Long doneId = existingTask(sprint, DONE).getId();
+        Long inProgressId = existingTask(sprint, IN_PROGRESS).getId();
+        existingTask(anotherSprint, IN_PROGRESS);
+
+        List<ToDoItemSummary> actual = sprintRepository.findTaskSummariesBySprintId(sprint.getId());
+
+        assertThat(actual).extracting(ToDoItemSummary::getId).containsExactly(inProgressId, doneId);
+        assertThat(actual).extracting(ToDoItemSummary::getStatus).containsExactly(IN_PROGRESS, DONE);
+    }
+
+    @Test
+    void shouldFindStoriesOfSprintOrderedByStatus() {
+        Sprint sprint = existingSprint("Sprint 1", existingProject("Project 1"));
+        Sprint anotherSprint = existingSprint("Sprint 2", existingProject("Project 2"));
+        Long doneId = existingStory(sprint, DONE).getId();
+        Long inProgressId = existingStory(sprint, IN_PROGRESS).getId();
+        existingStory(anotherSprint, IN_PROGRESS);
+
+        List<ToDoItemSummary> actual = sprintRepository.findStorySummariesBySprintId(sprint.getId());
+
+        assertThat(actual).extracting(ToDoItemSummary::getId).containsExactly(inProgressId, doneId);
+        assertThat(actual).extracting(ToDoItemSummary::getParentId).containsOnly(sprint.getId());
+    }
+
+    @Test
+    void shouldHaveIndexesBackingSprintBoard() {
+        List<Object> actual = entityManager.createNativeQuery(
+                "select index_name from information_schema.indexes where index_name like 'IDX_%'").getResultList();
+
+        assertThat(actual).contains("IDX_TASK_CURRENT_SPRINT_STATUS", "IDX_SPRINT_STORIES_SPRINT");
+    }
+
+    private Task existingTask(Sprint sprint, ToDoItemStatus status) {
+        Task task = new Task();
+        task.setStatus(status);
+        task.setCurrentSprint(sprint);
+        sprint.addTask(task);
+        return taskRepository.save(task);
+    }
+
+    private Story existingStory(Sprint sprint, ToDoItemStatus status) {
+        Story story = new Story();
+        story.setStatus(status);
+        story.addSprint(sprint);
+        sprint.addStory(story);
+        return storyRepository.save(story);
+    }
+
     private Project existingProject(String name) {
         Project project = new Project();
         project.setName(name);
@@ -12,6 +12,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.APPROVED;
 import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DEFINED;
 import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DONE;
@@ -33,6 +36,23 @@ class TaskRepositoryTest {
         storyRepository.deleteAll();
     }
 
+    @Test
+    void shouldAllocateConsecutiveIdsForTasksCreatedTogether() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            Task task = new Task();
+            task.setTitle("Imported " + i);
+            tasks.add(task);
+        }
+
+        List<Long> ids = new ArrayList<>();
+        taskRepository.saveAll(tasks).forEach(task -> ids.add(task.getId()));
+
+        assertThat(ids).doesNotHaveDuplicates().isSorted();
+        assertThat(ids.get(ids.size() - 1) - ids.get(0)).isEqualTo(1199);
+        assertThat(taskRepository.count()).isEqualTo(1200);
+    }
+
     @Test
     void shouldCreateTask() {
         Task task = new Task();
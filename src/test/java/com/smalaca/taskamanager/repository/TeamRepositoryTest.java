@@ -2,12 +2,16 @@ package com.smalaca.taskamanager.repository;
 
 import com.smalaca.taskamanager.model.embedded.Codename;
 import com.smalaca.taskamanager.model.entities.Team;
+import com.smalaca.taskamanager.model.entities.User;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -15,10 +19,25 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DataJpaTest
 class TeamRepositoryTest {
     @Autowired private TeamRepository teamRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManager entityManager;
 
     @AfterEach
     void tearDown() {
         teamRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void shouldIncrementVersionWhenMembersOfTeamChange() {
+        Team team = teamRepository.save(team("Avengers"));
+        entityManager.flush();
+        Long version = teamRepository.findVersionById(team.getId()).get();
+
+        team.addMember(userRepository.save(new User()));
+        entityManager.flush();
+
+        assertThat(teamRepository.findVersionById(team.getId())).contains(version + 1);
     }
 
     @Test
@@ -65,6 +84,26 @@ class TeamRepositoryTest {
         assertThat(actual.getDescription()).isEqualTo("there is no description good enough");
     }
 
+    @Test
+    void shouldStreamSummariesOfAllTeams() {
+        teamRepository.saveAll(asList(
+                team("Avengers", "A", "Mighty", "description is too long to be written"),
+                team("X-Men")
+        ));
+
+        try (Stream<TeamSummary> actual = teamRepository.streamAllSummaries()) {
+            List<TeamSummary> summaries = actual.toList();
+
+            assertThat(summaries).hasSize(2);
+            assertThat(summaries.get(0).getName()).isEqualTo("Avengers");
+            assertThat(summaries.get(0).getCodenameShort()).isEqualTo("A");
+            assertThat(summaries.get(0).getCodenameFull()).isEqualTo("Mighty");
+            assertThat(summaries.get(0).getDescription()).isEqualTo("description is too long to be written");
+            assertThat(summaries.get(1).getName()).isEqualTo("X-Men");
+            assertThat(summaries.get(1).getCodenameShort()).isNull();
+        }
+    }
+
     private Team team(String name, String codenameShort, String codenameFull, String description) {
         Team team = new Team();
         team.setName(name);
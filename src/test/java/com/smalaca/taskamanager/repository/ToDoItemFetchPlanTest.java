@@ -0,0 +1,305 @@
+package com.smalaca.taskamanager.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smalaca.taskamanager.api.rest.EpicController;
+import com.smalaca.taskamanager.api.rest.OptimisticUpdateRetry;
+import com.smalaca.taskamanager.api.rest.SerializedDtoCache;
+import com.smalaca.taskamanager.api.rest.StoryController;
+import com.smalaca.taskamanager.api.rest.TaskController;
+import com.smalaca.taskamanager.dto.EpicDto;
+import com.smalaca.taskamanager.dto.EpicTreeDto;
+import com.smalaca.taskamanager.dto.StoryDto;
+import com.smalaca.taskamanager.dto.TaskDto;
+import com.smalaca.taskamanager.invalidation.InvalidationConfiguration;
+import com.smalaca.taskamanager.model.embedded.EmailAddress;
+import com.smalaca.taskamanager.model.embedded.PhoneNumber;
+import com.smalaca.taskamanager.model.embedded.Stakeholder;
+import com.smalaca.taskamanager.model.embedded.Watcher;
+import com.smalaca.taskamanager.model.entities.Epic;
+import com.smalaca.taskamanager.model.entities.ProductOwner;
+import com.smalaca.taskamanager.model.entities.Project;
+import com.smalaca.taskamanager.model.entities.Sprint;
+import com.smalaca.taskamanager.model.entities.Story;
+import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.service.CascadeDeletion;
+import com.smalaca.taskamanager.service.ToDoItemService;
+import com.smalaca.taskamanager.service.UserLoader;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TaskController.class, StoryController.class, EpicController.class, UserLoader.class, SerializedDtoCache.class, CascadeDeletion.class,
+        OptimisticUpdateRetry.class, InvalidationConfiguration.class, JacksonAutoConfiguration.class})
+class ToDoItemFetchPlanTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private TaskController taskController;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private StoryController storyController;
+    @Autowired private EpicController epicController;
+    @MockBean private ToDoItemService toDoItemService;
+
+    private Statistics statistics;
+    private Long taskId;
+    private Long anotherTaskId;
+    private Long storyId;
+    private Long anotherStoryId;
+    private Long epicId;
+    private Long anotherEpicId;
+
+    @BeforeEach
+    void givenItemsWithWholeHierarchy() {
+        ProductOwner productOwner = entityManager.persist(new ProductOwner());
+        Project project = new Project();
+        project.setName("Secret Invasion");
+        project.setProductOwner(productOwner);
+        entityManager.persist(project);
+        Sprint sprint = new Sprint();
+        sprint.setName("Sprint 1");
+        sprint.setProject(project);
+        entityManager.persist(sprint);
+
+        Epic epic = epic(project);
+        epicId = epic.getId();
+        anotherEpicId = epic(project).getId();
+
+        Story story = story(epic, sprint);
+        storyId = story.getId();
+        anotherStoryId = story(epic, sprint).getId();
+
+        taskId = task(story, sprint).getId();
+        anotherTaskId = task(story(epic, sprint), sprint).getId();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private Epic epic(Project project) {
+        Epic epic = new Epic();
+        epic.setProject(project);
+        withWatchersAndStakeholders(epic::addWatcher, epic::addStakeholder);
+        return entityManager.persist(epic);
+    }
+
+    private Story story(Epic epic, Sprint sprint) {
+        Story story = new Story();
+        story.setEpic(epic);
+        story.setCurrentSprint(sprint);
+        withWatchersAndStakeholders(story::addWatcher, story::addStakeholder);
+        return entityManager.persist(story);
+    }
+
+    private Task task(Story story, Sprint sprint) {
+        Task task = new Task();
+        task.setStory(story);
+        task.setCurrentSprint(sprint);
+        withWatchersAndStakeholders(task::addWatcher, task::addStakeholder);
+        return entityManager.persist(task);
+    }
+
+    private void withWatchersAndStakeholders(Consumer<Watcher> watchers, Consumer<Stakeholder> stakeholders) {
+        for (String name : new String[] {"Nick", "Maria", "Phil"}) {
+            Watcher watcher = new Watcher();
+            watcher.setFirstName(name);
+            watcher.setEmailAddress(emailAddress(name));
+            watcher.setPhoneNumber(phoneNumber(name));
+            watchers.accept(watcher);
+            Stakeholder stakeholder = new Stakeholder();
+            stakeholder.setFirstName(name);
+            stakeholder.setEmailAddress(emailAddress(name));
+            stakeholder.setPhoneNumber(phoneNumber(name));
+            stakeholders.accept(stakeholder);
+        }
+    }
+
+    private EmailAddress emailAddress(String name) {
+        EmailAddress emailAddress = new EmailAddress();
+        emailAddress.setEmailAddress(name + "@shield.com");
+        return emailAddress;
+    }
+
+    private PhoneNumber phoneNumber(String name) {
+        PhoneNumber phoneNumber = new PhoneNumber();
+        phoneNumber.setPrefix("+1");
+        phoneNumber.setNumber(name);
+        return phoneNumber;
+    }
+
+    @Test
+    void shouldFindTaskWithVersionCheckAndTwoStatements() throws IOException {
+        TaskDto actual = OBJECT_MAPPER.readValue(taskController.findById(taskId).getBody(), TaskDto.class);
+
+        assertThat(actual.getStoryId()).isEqualTo(storyId);
+        assertThat(actual.getWatchers()).hasSize(3);
+        assertThat(actual.getStakeholders()).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldCreateTasksOfStoriesWithoutLoadingStoryWatchers() {
+        List<Long> ids = taskController.createAll(asList(taskDtoOf(storyId), taskDtoOf(anotherStoryId), taskDtoOf(storyId))).getBody();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(ids).hasSize(3);
+        assertThat(statistics.getCollectionStatistics(Story.class.getName() + ".watchers").getLoadCount()).isZero();
+        assertThat(entityManager.find(Story.class, storyId).getTasks()).extracting(Task::getId).contains(ids.get(0), ids.get(2));
+        assertThat(entityManager.find(Story.class, anotherStoryId).getTasks()).extracting(Task::getId).containsExactly(ids.get(1));
+    }
+
+    @Test
+    void shouldLinkManyTasksToOneStoryWithoutLoadingStoryTasks() {
+        List<TaskDto> dtos = new ArrayList<>();
+        IntStream.range(0, 1_000).forEach(index -> dtos.add(taskDtoOf(storyId)));
+        statistics.clear();
+
+        List<Long> ids = taskController.createAll(dtos).getBody();
+
+        assertThat(statistics.getCollectionStatistics(Story.class.getName() + ".tasks").getLoadCount()).isZero();
+        assertThat(statistics.getCollectionStatistics(Story.class.getName() + ".tasks").getRecreateCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(100);
+        entityManager.clear();
+        assertThat(entityManager.find(Story.class, storyId).getTasks()).extracting(Task::getId).containsAll(ids);
+    }
+
+    private TaskDto taskDtoOf(Long storyId) {
+        TaskDto dto = new TaskDto();
+        dto.setTitle("Hydra");
+        dto.setStatus("TO_BE_DEFINED");
+        dto.setStoryId(storyId);
+        return dto;
+    }
+
+    @Test
+    void shouldFindSerializedTaskWithVersionCheckOnly() {
+        byte[] expected = taskController.findById(taskId).getBody();
+        entityManager.clear();
+        statistics.clear();
+
+        byte[] actual = taskController.findById(taskId).getBody();
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFindStoryWithVersionCheckAndTwoStatements() throws IOException {
+        StoryDto actual = OBJECT_MAPPER.readValue(storyController.findById(storyId).getBody(), StoryDto.class);
+
+        assertThat(actual.getEpicId()).isEqualTo(epicId);
+        assertThat(actual.getWatchers()).hasSize(3);
+        assertThat(actual.getStakeholders()).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldFindSerializedStoryWithVersionCheckOnly() {
+        byte[] expected = storyController.findById(storyId).getBody();
+        entityManager.clear();
+        statistics.clear();
+
+        byte[] actual = storyController.findById(storyId).getBody();
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFindEpicWithVersionCheckAndTwoStatements() throws IOException {
+        EpicDto actual = OBJECT_MAPPER.readValue(epicController.findById(epicId).getBody(), EpicDto.class);
+
+        assertThat(actual.getProjectId()).isNotNull();
+        assertThat(actual.getWatchers()).hasSize(3);
+        assertThat(actual.getStakeholders()).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldFindSerializedEpicWithVersionCheckOnly() {
+        byte[] expected = epicController.findById(epicId).getBody();
+        entityManager.clear();
+        statistics.clear();
+
+        byte[] actual = epicController.findById(epicId).getBody();
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepPlainFindAllByIdFreeOfDetailsGraph() {
+        Iterable<Task> actual = taskRepository.findAllById(asList(taskId, anotherTaskId));
+
+        assertThat(actual).hasSize(2).allSatisfy(task ->
+                assertThat(entityManagerFactory.getPersistenceUnitUtil().isLoaded(task, "watchers")).isFalse());
+    }
+
+    @Test
+    void shouldFindTasksWithTwoStatements() {
+        List<TaskDto> actual = taskController.findAllById(asList(taskId, anotherTaskId)).getBody();
+
+        assertThat(actual).hasSize(2).allSatisfy(dto -> {
+            assertThat(dto.getWatchers()).hasSize(3);
+            assertThat(dto.getStakeholders()).hasSize(3);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldFindStoriesWithTwoStatements() {
+        List<StoryDto> actual = storyController.findAllById(asList(storyId, anotherStoryId)).getBody();
+
+        assertThat(actual).hasSize(2).allSatisfy(dto -> {
+            assertThat(dto.getWatchers()).hasSize(3);
+            assertThat(dto.getStakeholders()).hasSize(3);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldFindEpicsWithTwoStatements() {
+        List<EpicDto> actual = epicController.findAllById(asList(epicId, anotherEpicId)).getBody();
+
+        assertThat(actual).hasSize(2).allSatisfy(dto -> {
+            assertThat(dto.getWatchers()).hasSize(3);
+            assertThat(dto.getStakeholders()).hasSize(3);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldFindEpicTreeWithThreeStatements() {
+        EpicTreeDto actual = epicController.findTreeById(epicId).getBody();
+
+        assertThat(actual.getStories()).hasSize(3);
+        assertThat(actual.getStories().get(0).getId()).isEqualTo(storyId);
+        assertThat(actual.getStories().get(0).getTasks()).extracting("id").containsExactly(taskId);
+        assertThat(actual.getStories().get(1).getId()).isEqualTo(anotherStoryId);
+        assertThat(actual.getStories().get(1).getTasks()).isEmpty();
+        assertThat(actual.getStories().get(2).getTasks()).extracting("id").containsExactly(anotherTaskId);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,135 @@
+package com.smalaca.taskamanager.repository;
+
+import com.smalaca.taskamanager.model.embedded.UserName;
+import com.smalaca.taskamanager.model.entities.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(SecondLevelCacheConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserRepositoryCacheTest {
+    private static final long NOT_EXISTING_ID = 13_000;
+
+    @Autowired private UserRepository repository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private MeterBinder userCacheMetrics;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private Long userId;
+
+    @BeforeEach
+    void givenCachedUser() {
+        transaction = new TransactionTemplate(transactionManager);
+        userId = repository.save(user("Peter", "Parker")).getId();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        repository.findById(userId);
+    }
+
+    @AfterEach
+    void deleteUser() {
+        repository.findById(userId).ifPresent(repository::delete);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void shouldReadUserFromSecondLevelCacheOnceLoaded() {
+        statistics.clear();
+
+        repository.findById(userId);
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics(SecondLevelCacheConfiguration.USER_REGION).getHitCount()).isPositive();
+    }
+
+    @Test
+    void shouldHandOutSeparateInstanceToEveryReader() {
+        User first = repository.findById(userId).get();
+        User second = repository.findById(userId).get();
+
+        assertThat(first).isNotSameAs(second);
+    }
+
+    @Test
+    void shouldNotExposeUnsavedChanges() {
+        repository.findById(userId).get().setLogin("spiderman");
+
+        assertThat(repository.findById(userId).get().getLogin()).isNull();
+    }
+
+    @Test
+    void shouldNotExposeRolledBackChanges() {
+        transaction.executeWithoutResult(status -> {
+            repository.findById(userId).get().setLogin("spiderman");
+            status.setRollbackOnly();
+        });
+
+        assertThat(repository.findById(userId).get().getLogin()).isNull();
+    }
+
+    @Test
+    void shouldServeUpdatedUser() {
+        User user = repository.findById(userId).get();
+        user.setLogin("spiderman");
+
+        repository.save(user);
+
+        assertThat(repository.findById(userId).get().getLogin()).isEqualTo("spiderman");
+    }
+
+    @Test
+    void shouldNotServeDeletedUser() {
+        repository.deleteById(userId);
+
+        assertThat(repository.findById(userId)).isEmpty();
+    }
+
+    @Test
+    void shouldNotCacheMissingUser() {
+        repository.findById(NOT_EXISTING_ID);
+        statistics.clear();
+
+        repository.findById(NOT_EXISTING_ID);
+
+        assertThat(statistics.getPrepareStatementCount()).isOne();
+    }
+
+    @Test
+    void shouldExposeHitAndMissMetrics() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        userCacheMetrics.bindTo(registry);
+
+        repository.findById(userId);
+
+        assertThat(registry.get("cache.gets").tag("result", "hit").functionCounter().count()).isPositive();
+        assertThat(registry.get("cache.gets").tag("result", "miss").functionCounter().count()).isPositive();
+        assertThat(registry.find("cache.evictions").meters()).isNotEmpty();
+    }
+
+    private User user(String firstName, String lastName) {
+        User user = new User();
+        UserName userName = new UserName();
+        userName.setFirstName(firstName);
+        userName.setLastName(lastName);
+        user.setUserName(userName);
+        return user;
+    }
+}
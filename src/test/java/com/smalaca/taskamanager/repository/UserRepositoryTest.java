@@ -8,7 +8,9 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -46,6 +48,20 @@ class UserRepositoryTest {
                 .anySatisfy(isUser("Steve", "Rogers"));
     }
 
+    @Test
+    void shouldFindPageOfUsersAfterGivenId() {
+        Long id1 = repository.save(user("Peter", "Parker")).getId();
+        repository.save(user("Tony", "Stark"));
+        repository.save(user("Steve", "Rogers"));
+        repository.save(user("Natasha", "Romanow"));
+
+        List<User> actual = repository.findByIdGreaterThanOrderByIdAsc(id1, Limit.of(2));
+
+        assertThat(actual).hasSize(2);
+        assertThat(actual.get(0)).satisfies(isUser("Tony", "Stark"));
+        assertThat(actual.get(1)).satisfies(isUser("Steve", "Rogers"));
+    }
+
     private Consumer<User> isUser(String firstName, String lastName) {
         return actual -> {
             assertThat(actual.getUserName().getFirstName()).isEqualTo(firstName);
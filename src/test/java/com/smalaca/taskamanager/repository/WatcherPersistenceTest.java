@@ -0,0 +1,151 @@
+package com.smalaca.taskamanager.repository;
+
+import com.smalaca.taskamanager.model.embedded.EmailAddress;
+import com.smalaca.taskamanager.model.embedded.PhoneNumber;
+import com.smalaca.taskamanager.model.embedded.Stakeholder;
+import com.smalaca.taskamanager.model.embedded.Watcher;
+import com.smalaca.taskamanager.model.entities.Epic;
+import com.smalaca.taskamanager.model.entities.Story;
+import com.smalaca.taskamanager.model.entities.Task;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.smalaca.taskamanager.repository.WatcherPersistenceTest$RecordingStatementInspector")
+class WatcherPersistenceTest {
+    private static final int MANY = 1200;
+    private static final int MAX_FIELD_LENGTH = 255;
+
+    @Autowired private TestEntityManager entityManager;
+
+    @BeforeEach
+    void resetStatements() {
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void shouldWriteOneRowWhenWatcherAddedToTaskWithManyWatchers() {
+        Task task = new Task();
+        for (int i = 0; i < MANY; i++) {
+            task.addWatcher(watcher(i));
+        }
+        Long id = entityManager.persistFlushFind(task).getId();
+        entityManager.clear();
+
+        Task found = entityManager.find(Task.class, id);
+        found.getWatchers().size();
+        RecordingStatementInspector.STATEMENTS.clear();
+        found.addWatcher(watcher(MANY));
+        entityManager.flush();
+
+        assertThat(statementsOn("task_watchers")).containsExactly("insert");
+    }
+
+    @Test
+    void shouldDeleteOneRowWhenWatcherRemovedFromStoryWithManyWatchers() {
+        Story story = new Story();
+        for (int i = 0; i < MANY; i++) {
+            story.addWatcher(watcher(i));
+        }
+        Long id = entityManager.persistFlushFind(story).getId();
+        entityManager.clear();
+
+        Story found = entityManager.find(Story.class, id);
+        found.getWatchers().size();
+        RecordingStatementInspector.STATEMENTS.clear();
+        found.removeWatcher(watcher(MANY / 2));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(statementsOn("story_watchers")).containsExactly("delete");
+        assertThat(entityManager.find(Story.class, id).getWatchers()).hasSize(MANY - 1).doesNotContain(watcher(MANY / 2));
+    }
+
+    @Test
+    void shouldDeleteOneRowWhenStakeholderWithoutContactDetailsRemovedFromEpic() {
+        Epic epic = new Epic();
+        for (int i = 0; i < MANY; i++) {
+            epic.addStakeholder(stakeholder(i));
+        }
+        Long id = entityManager.persistFlushFind(epic).getId();
+        entityManager.clear();
+
+        Epic found = entityManager.find(Epic.class, id);
+        found.getStakeholders().size();
+        RecordingStatementInspector.STATEMENTS.clear();
+        found.removeStakeholder(stakeholder(0));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(statementsOn("epic_stakeholders")).containsExactly("delete");
+        assertThat(entityManager.find(Epic.class, id).getStakeholders()).hasSize(MANY - 1);
+    }
+
+    @Test
+    void shouldStoreWatcherWithEveryFieldAtMaximumLength() {
+        Watcher watcher = new Watcher();
+        watcher.setFirstName("f".repeat(MAX_FIELD_LENGTH));
+        watcher.setLastName("l".repeat(MAX_FIELD_LENGTH));
+        EmailAddress emailAddress = new EmailAddress();
+        emailAddress.setEmailAddress("e".repeat(MAX_FIELD_LENGTH));
+        watcher.setEmailAddress(emailAddress);
+        PhoneNumber phoneNumber = new PhoneNumber();
+        phoneNumber.setPrefix("1".repeat(MAX_FIELD_LENGTH));
+        phoneNumber.setNumber("2".repeat(MAX_FIELD_LENGTH));
+        watcher.setPhoneNumber(phoneNumber);
+        Task task = new Task();
+        task.addWatcher(watcher);
+
+        Long id = entityManager.persistFlushFind(task).getId();
+        entityManager.clear();
+        Task found = entityManager.find(Task.class, id);
+        found.removeWatcher(watcher);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(entityManager.find(Task.class, id).getWatchers()).isEmpty();
+    }
+
+    private List<String> statementsOn(String table) {
+        return RecordingStatementInspector.STATEMENTS.stream()
+                .map(sql -> sql.toLowerCase(Locale.ROOT))
+                .filter(sql -> sql.contains(" " + table + " ") || sql.contains(" " + table + "("))
+                .map(sql -> sql.trim().split("\\s+")[0])
+                .filter(verb -> !"select".equals(verb))
+                .toList();
+    }
+
+    private Watcher watcher(int number) {
+        Watcher watcher = new Watcher();
+        watcher.setFirstName("Agent");
+        watcher.setLastName(String.valueOf(number));
+        return watcher;
+    }
+
+    private Stakeholder stakeholder(int number) {
+        Stakeholder stakeholder = new Stakeholder();
+        stakeholder.setFirstName("Agent");
+        stakeholder.setLastName(String.valueOf(number));
+        return stakeholder;
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
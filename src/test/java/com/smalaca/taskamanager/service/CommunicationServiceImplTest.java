@@ -39,7 +39,8 @@ class CommunicationServiceImplTest {
     private final ChatClient chat = mock(ChatClient.class);
     private final SmsCommunicatorClient smsCommunicator = mock(SmsCommunicatorClient.class);
     private final MailClient mailClient = mock(MailClient.class);
-    private final CommunicationServiceImpl service = new CommunicationServiceImpl(projectBacklogService, devNullDirectory, chat, smsCommunicator, mailClient);
+    private final CommunicationServiceImpl service = new CommunicationServiceImpl(
+            projectBacklogService, devNullDirectory, chat, smsCommunicator, mailClient, new ProjectRecipientIndex());
 
     @Test
     void shouldNotifyProductOwnerViaMail() {
@@ -492,16 +493,48 @@ class CommunicationServiceImplTest {
         ToDoItem toDoItem = mock(ToDoItem.class);
         service.setType(NULL_TYPE);
         Team team1 = mock(Team.class);
+        given(team1.getId()).willReturn(1L);
         given(team1.getMembers()).willReturn(asList(mock(User.class), mock(User.class)));
         Team team2 = mock(Team.class);
+        given(team2.getId()).willReturn(2L);
         given(team2.getMembers()).willReturn(asList(mock(User.class)));
         Project project = mock(Project.class);
+        given(project.getId()).willReturn(13L);
         given(project.getTeams()).willReturn(asList(team1, team2));
 
         service.notifyTeamsAbout(toDoItem, project);
 
+        then(project).should(times(2)).getId();
         then(project).should().getTeams();
         then(devNullDirectory).should(times(3)).forget();
         verifyNoMoreInteractions(toDoItem, project, projectBacklogService, devNullDirectory, chat, smsCommunicator, mailClient);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldNotifyTeamsAboutProjectUsingResolvedRecipients() {
+        long toDoItemId = 42;
+        ToDoItem toDoItem = mock(ToDoItem.class);
+        given(toDoItem.getId()).willReturn(toDoItemId);
+        String link = "www.refactoring.com";
+        given(projectBacklogService.linkFor(toDoItemId)).willReturn(link);
+        service.setType(SMS);
+        PhoneNumber phoneNumber = new PhoneNumber();
+        phoneNumber.setPrefix("+48");
+        phoneNumber.setNumber("123456789");
+        User user = mock(User.class);
+        given(user.getPhoneNumber()).willReturn(phoneNumber);
+        Team team = mock(Team.class);
+        given(team.getMembers()).willReturn(asList(user));
+        Project project = mock(Project.class);
+        given(project.getId()).willReturn(13L);
+        given(project.getTeams()).willReturn(asList(team));
+        service.notifyTeamsAbout(toDoItem, project);
+
+        service.notifyTeamsAbout(toDoItem, project);
+
+        then(project).should().getTeams();
+        then(team).should().getMembers();
+        then(user).should().getPhoneNumber();
+        then(smsCommunicator).should(times(2)).textTo(phoneNumber, link);
+    }
+}
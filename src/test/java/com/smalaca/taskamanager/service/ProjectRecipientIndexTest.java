@@ -0,0 +1,213 @@
+package com.smalaca.taskamanager.service;
+
+import com.smalaca.taskamanager.model.embedded.EmailAddress;
+import com.smalaca.taskamanager.model.entities.Project;
+import com.smalaca.taskamanager.model.entities.Team;
+import com.smalaca.taskamanager.model.entities.User;
+import com.smalaca.taskamanager.service.ProjectRecipientIndex.Recipient;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Field;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_ROLLED_BACK;
+
+class ProjectRecipientIndexTest {
+    private final ProjectRecipientIndex index = new ProjectRecipientIndex();
+
+    @Test
+    void shouldResolveRecipientsOfAllTeamsOfProject() {
+        Project project = project(13, team(1, user(1, "tony.stark"), user(2, "steve.rogers")), team(2, user(3, "thor")));
+
+        assertThat(index.recipientsOf(project)).extracting(Recipient::login).containsExactly("tony.stark", "steve.rogers", "thor");
+    }
+
+    @Test
+    void shouldServeRecipientsFromIndexOnceResolved() {
+        Team team = team(1, user(1, "tony.stark"));
+        Project project = project(13, team);
+        index.recipientsOf(project);
+
+        team.addMember(user(2, "steve.rogers"));
+
+        assertThat(index.recipientsOf(project)).extracting(Recipient::login).containsExactly("tony.stark");
+    }
+
+    @Test
+    void shouldAddRecipientsOfAddedTeam() {
+        Project project = project(13, team(1, user(1, "tony.stark")));
+        index.recipientsOf(project);
+        Team team = team(2, user(3, "thor"));
+
+        index.teamAdded(project, team);
+
+        assertThat(index.recipientsOf(project)).extracting(Recipient::login).containsExactly("tony.stark", "thor");
+    }
+
+    @Test
+    void shouldRemoveRecipientsOfRemovedTeam() {
+        Team team = team(2, user(3, "thor"));
+        Project project = project(13, team(1, user(1, "tony.stark")), team);
+        index.recipientsOf(project);
+
+        index.teamRemoved(project, team);
+
+        assertThat(index.recipientsOf(project)).extracting(Recipient::login).containsExactly("tony.stark");
+    }
+
+    @Test
+    void shouldAddRecipientsOfAddedMembers() {
+        Team team = team(1, user(1, "tony.stark"));
+        Project project = project(13, team);
+        index.recipientsOf(project);
+
+        index.membersAdded(team, singletonList(user(2, "steve.rogers")));
+
+        assertThat(index.recipientsOf(project)).extracting(Recipient::login).containsExactly("tony.stark", "steve.rogers");
+    }
+
+    @Test
+    void shouldRemoveRecipientsOfRemovedMembers() {
+        User user = user(2, "steve.rogers");
+        Team team = team(1, user(1, "tony.stark"), user);
+        Project project = project(13, team);
+        index.recipientsOf(project);
+
+        index.membersRemoved(team, singletonList(user));
+
+        assertThat(index.recipientsOf(project)).extracting(Recipient::login).containsExactly("tony.stark");
+    }
+
+    @Test
+    void shouldIgnoreMembersOfTeamWithoutProject() {
+        Team team = team(1);
+
+        index.membersAdded(team, singletonList(user(2, "steve.rogers")));
+
+        assertThat(index.recipientsOf(project(13, team))).isEmpty();
+    }
+
+    @Test
+    void shouldUpdateContactDataOfRecipient() {
+        User user = user(1, "tony.stark");
+        Project project = project(13, team(1, user), team(2, user));
+        index.recipientsOf(project);
+        EmailAddress emailAddress = new EmailAddress();
+        emailAddress.setEmailAddress("ironman@avengers.com");
+        user.setEmailAddress(emailAddress);
+
+        index.contactChanged(user);
+
+        assertThat(index.recipientsOf(project)).extracting(Recipient::emailAddress).containsExactly(emailAddress, emailAddress);
+    }
+
+    @Test
+    void shouldKeepOwnCopyOfContactData() {
+        User user = user(1, "tony.stark");
+        EmailAddress emailAddress = new EmailAddress();
+        emailAddress.setEmailAddress("tony@stark.com");
+        user.setEmailAddress(emailAddress);
+        Project project = project(13, team(1, user));
+        index.recipientsOf(project);
+
+        emailAddress.setEmailAddress("ironman@avengers.com");
+        index.recipientsOf(project).get(0).emailAddress().setEmailAddress("hacked@hydra.com");
+
+        assertThat(index.recipientsOf(project).get(0).emailAddress().getEmailAddress()).isEqualTo("tony@stark.com");
+    }
+
+    @Test
+    void shouldRemoveRemovedUserFromAllTeams() {
+        User user = user(1, "tony.stark");
+        Project project = project(13, team(1, user, user(2, "steve.rogers")), team(2, user));
+        index.recipientsOf(project);
+
+        index.userRemoved(user);
+
+        assertThat(index.recipientsOf(project)).extracting(Recipient::login).containsExactly("steve.rogers");
+    }
+
+    @Test
+    void shouldApplyChangesOnlyOnceTransactionCommitted() {
+        Team team = team(1, user(1, "tony.stark"));
+        Project project = project(13, team);
+        index.recipientsOf(project);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            index.membersAdded(team, singletonList(user(2, "steve.rogers")));
+            assertThat(index.recipientsOf(project)).extracting(Recipient::login).containsExactly("tony.stark");
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(index.recipientsOf(project)).extracting(Recipient::login).containsExactly("tony.stark", "steve.rogers");
+    }
+
+    @Test
+    void shouldNotApplyChangesOfRolledBackTransaction() {
+        Team team = team(2, user(3, "thor"));
+        Project project = project(13, team(1, user(1, "tony.stark")), team);
+        index.recipientsOf(project);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            index.teamRemoved(project, team);
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(index.recipientsOf(project)).extracting(Recipient::login).containsExactly("tony.stark", "thor");
+    }
+
+    @Test
+    void shouldResolveRecipientsAgainWhenProjectForgotten() {
+        Team team = team(1, user(1, "tony.stark"));
+        Project project = project(13, team);
+        index.recipientsOf(project);
+        team.addMember(user(2, "steve.rogers"));
+
+        index.forget(13L);
+
+        assertThat(index.recipientsOf(project)).extracting(Recipient::login).containsExactly("tony.stark", "steve.rogers");
+    }
+
+    private Project project(long id, Team... teams) {
+        Project project = withId(new Project(), id);
+        asList(teams).forEach(team -> {
+            project.addTeam(team);
+            team.setProject(project);
+        });
+        return project;
+    }
+
+    private Team team(long id, User... members) {
+        Team team = withId(new Team(), id);
+        asList(members).forEach(team::addMember);
+        return team;
+    }
+
+    private User user(long id, String login) {
+        User user = withId(new User(), id);
+        user.setLogin(login);
+        return user;
+    }
+
+    private <T> T withId(T entity, long id) {
+        try {
+            Field fieldId = entity.getClass().getDeclaredField("id");
+            fieldId.setAccessible(true);
+            fieldId.set(entity, id);
+            return entity;
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
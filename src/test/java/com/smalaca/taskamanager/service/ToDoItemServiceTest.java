@@ -9,6 +9,7 @@ import com.smalaca.taskamanager.repository.StoryRepository;
 import com.smalaca.taskamanager.repository.TaskRepository;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -49,6 +50,25 @@ class ToDoItemServiceTest {
         then(processor).should(never()).processFor(any());
     }
 
+    @Test
+    void shouldProcessTasksTogether() {
+        List<Task> tasks = List.of(new Task(), new Task());
+
+        int actual = service.processTasks(tasks);
+
+        assertThat(actual).isEqualTo(2);
+        then(processor).should().processForAll(tasks);
+    }
+
+    @Test
+    void shouldCatchExceptionDuringProcessingOfTasks() {
+        doThrow(new RuntimeException()).when(processor).processForAll(any());
+
+        int actual = service.processTasks(List.of(new Task()));
+
+        assertThat(actual).isEqualTo(-2);
+    }
+
     @Test
     void shouldCatchExceptionDuringTaskProcessing() {
         given(taskRepository.findById(ID)).willReturn(Optional.of(new Task()));
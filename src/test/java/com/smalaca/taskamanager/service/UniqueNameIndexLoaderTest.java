@@ -0,0 +1,75 @@
+package com.smalaca.taskamanager.service;
+
+import com.smalaca.taskamanager.model.embedded.UserName;
+import com.smalaca.taskamanager.model.entities.ProductOwner;
+import com.smalaca.taskamanager.model.entities.Project;
+import com.smalaca.taskamanager.model.entities.Sprint;
+import com.smalaca.taskamanager.model.entities.Team;
+import com.smalaca.taskamanager.model.entities.User;
+import com.smalaca.taskamanager.repository.ProductOwnerRepository;
+import com.smalaca.taskamanager.repository.ProjectRepository;
+import com.smalaca.taskamanager.repository.SprintRepository;
+import com.smalaca.taskamanager.repository.TeamRepository;
+import com.smalaca.taskamanager.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static com.smalaca.taskamanager.service.UniqueNameIndex.Kind.PRODUCT_OWNER;
+import static com.smalaca.taskamanager.service.UniqueNameIndex.Kind.PROJECT;
+import static com.smalaca.taskamanager.service.UniqueNameIndex.Kind.SPRINT;
+import static com.smalaca.taskamanager.service.UniqueNameIndex.Kind.TEAM;
+import static com.smalaca.taskamanager.service.UniqueNameIndex.Kind.USER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({UniqueNameIndex.class, UniqueNameIndexLoader.class})
+class UniqueNameIndexLoaderTest {
+    @Autowired private UserRepository userRepository;
+    @Autowired private TeamRepository teamRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private ProductOwnerRepository productOwnerRepository;
+    @Autowired private SprintRepository sprintRepository;
+    @Autowired private UniqueNameIndex uniqueNameIndex;
+    @Autowired private UniqueNameIndexLoader uniqueNameIndexLoader;
+
+    @Test
+    void shouldWarmUpIndexWithExistingNames() {
+        userRepository.save(user("Peter", "Parker"));
+        Team team = new Team();
+        team.setName("Avengers");
+        teamRepository.save(team);
+        Project project = new Project();
+        project.setName("Empyre");
+        Long projectId = projectRepository.save(project).getId();
+        ProductOwner productOwner = new ProductOwner();
+        productOwner.setFirstName("Nick");
+        productOwner.setLastName("Fury");
+        productOwnerRepository.save(productOwner);
+        Sprint sprint = new Sprint();
+        sprint.setName("Sprint Zero");
+        sprint.setProject(project);
+        sprintRepository.save(sprint);
+
+        uniqueNameIndexLoader.load();
+
+        assertThat(uniqueNameIndex.mightContain(USER, "Peter", "Parker")).isTrue();
+        assertThat(uniqueNameIndex.mightContain(TEAM, "Avengers")).isTrue();
+        assertThat(uniqueNameIndex.mightContain(PROJECT, "Empyre")).isTrue();
+        assertThat(uniqueNameIndex.mightContain(PRODUCT_OWNER, "Nick", "Fury")).isTrue();
+        assertThat(uniqueNameIndex.mightContain(SPRINT, "Sprint Zero", projectId)).isTrue();
+        assertThat(uniqueNameIndex.mightContain(USER, "Tony", "Stark")).isFalse();
+        assertThat(uniqueNameIndex.mightContain(TEAM, "X-Men")).isFalse();
+        assertThat(uniqueNameIndex.mightContain(SPRINT, "Sprint Zero", projectId + 1)).isFalse();
+    }
+
+    private User user(String firstName, String lastName) {
+        User user = new User();
+        UserName userName = new UserName();
+        userName.setFirstName(firstName);
+        userName.setLastName(lastName);
+        user.setUserName(userName);
+        return user;
+    }
+}
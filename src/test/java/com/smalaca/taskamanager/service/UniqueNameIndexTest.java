@@ -0,0 +1,71 @@
+package com.smalaca.taskamanager.service;
+
+import org.junit.jupiter.api.Test;
+
+import static com.smalaca.taskamanager.service.UniqueNameIndex.Kind.PRODUCT_OWNER;
+import static com.smalaca.taskamanager.service.UniqueNameIndex.Kind.SPRINT;
+import static com.smalaca.taskamanager.service.UniqueNameIndex.Kind.TEAM;
+import static com.smalaca.taskamanager.service.UniqueNameIndex.Kind.USER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UniqueNameIndexTest {
+    private final UniqueNameIndex index = new UniqueNameIndex();
+
+    @Test
+    void shouldReportPossibleMatchForEveryNameUntilWarmedUp() {
+        assertThat(index.mightContain(TEAM, "Avengers")).isTrue();
+        assertThat(index.skippedQueries()).isZero();
+    }
+
+    @Test
+    void shouldRecognizeNameIsDefinitelyNew() {
+        index.warmedUp();
+
+        assertThat(index.mightContain(TEAM, "Avengers")).isFalse();
+        assertThat(index.skippedQueries()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReportPossibleMatchForEveryNameWhileBypassed() {
+        index.warmedUp();
+        index.bypassWhen(() -> true);
+
+        assertThat(index.mightContain(TEAM, "Avengers")).isTrue();
+        assertThat(index.skippedQueries()).isZero();
+    }
+
+    @Test
+    void shouldRecognizeNameMightExist() {
+        index.warmedUp();
+        index.put(USER, "Peter", "Parker");
+
+        assertThat(index.mightContain(USER, "Peter", "Parker")).isTrue();
+        assertThat(index.skippedQueries()).isZero();
+    }
+
+    @Test
+    void shouldKeepNamesOfDifferentKindsApart() {
+        index.warmedUp();
+        index.put(USER, "Peter", "Parker");
+
+        assertThat(index.mightContain(PRODUCT_OWNER, "Peter", "Parker")).isFalse();
+    }
+
+    @Test
+    void shouldNotMixUpBoundariesBetweenNameParts() {
+        index.warmedUp();
+        index.put(USER, "Peter", "Parker");
+
+        assertThat(index.mightContain(USER, "PeterP", "arker")).isFalse();
+        assertThat(index.mightContain(USER, "PeterParker", null)).isFalse();
+    }
+
+    @Test
+    void shouldRecognizeNamesWithMissingParts() {
+        index.warmedUp();
+        index.put(SPRINT, "Sprint Zero", null);
+
+        assertThat(index.mightContain(SPRINT, "Sprint Zero", null)).isTrue();
+        assertThat(index.mightContain(SPRINT, "Sprint Zero", 13L)).isFalse();
+    }
+}
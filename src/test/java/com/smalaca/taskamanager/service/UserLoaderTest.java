@@ -0,0 +1,167 @@
+package com.smalaca.taskamanager.service;
+
+import com.smalaca.taskamanager.exception.UserNotFoundException;
+import com.smalaca.taskamanager.model.entities.User;
+import com.smalaca.taskamanager.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class UserLoaderTest {
+    private static final long USER_ID = 13;
+    private static final long ANOTHER_USER_ID = 42;
+    private static final long MISSING_USER_ID = 69;
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserLoader loader = new UserLoader(userRepository);
+
+    @AfterEach
+    void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldLoadUserOncePerRequest() {
+        inRequest();
+        User user = new User();
+        given(userRepository.findById(USER_ID)).willReturn(Optional.of(user));
+
+        Optional<User> first = loader.findById(USER_ID);
+        Optional<User> second = loader.findById(USER_ID);
+
+        assertThat(first).containsSame(user);
+        assertThat(second).containsSame(user);
+        then(userRepository).should(times(1)).findById(USER_ID);
+        assertThat(loader.queries()).isEqualTo(1);
+        assertThat(loader.savedRoundTrips()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRememberMissingUserWithinRequest() {
+        inRequest();
+        given(userRepository.findById(USER_ID)).willReturn(Optional.empty());
+
+        loader.findById(USER_ID);
+        Optional<User> actual = loader.findById(USER_ID);
+
+        assertThat(actual).isEmpty();
+        then(userRepository).should(times(1)).findById(USER_ID);
+    }
+
+    @Test
+    void shouldNotShareUsersBetweenRequests() {
+        inRequest();
+        loader.findById(USER_ID);
+        inRequest();
+        loader.findById(USER_ID);
+        loader.findById(ANOTHER_USER_ID);
+
+        then(userRepository).should(times(2)).findById(USER_ID);
+        assertThat(loader.queries()).isEqualTo(3);
+        assertThat(loader.savedRoundTrips()).isZero();
+    }
+
+    @Test
+    void shouldGoToRepositoryOutsideOfRequest() {
+        loader.findById(USER_ID);
+        loader.findById(USER_ID);
+
+        then(userRepository).should(times(2)).findById(USER_ID);
+    }
+
+    @Test
+    void shouldLoadMissingUsersInOneQuery() {
+        inRequest();
+        User user = new User();
+        User anotherUser = withId(new User(), ANOTHER_USER_ID);
+        given(userRepository.findById(USER_ID)).willReturn(Optional.of(user));
+        given(userRepository.findAllById(Set.of(ANOTHER_USER_ID, MISSING_USER_ID))).willReturn(List.of(anotherUser));
+        loader.findById(USER_ID);
+
+        Map<Long, User> actual = loader.findAllById(List.of(USER_ID, ANOTHER_USER_ID, MISSING_USER_ID));
+
+        assertThat(actual).containsOnly(entry(USER_ID, user), entry(ANOTHER_USER_ID, anotherUser));
+        assertThat(loader.findById(MISSING_USER_ID)).isEmpty();
+        then(userRepository).should(never()).findById(MISSING_USER_ID);
+        assertThat(loader.queries()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotQueryWhenAllUsersAreKnown() {
+        inRequest();
+        given(userRepository.findById(USER_ID)).willReturn(Optional.empty());
+        loader.findById(USER_ID);
+
+        Map<Long, User> actual = loader.findAllById(List.of(USER_ID));
+
+        assertThat(actual).isEmpty();
+        then(userRepository).should(never()).findAllById(any());
+    }
+
+    @Test
+    void shouldGetEveryUserOnceForRepeatedIds() {
+        User user = withId(new User(), USER_ID);
+        User anotherUser = withId(new User(), ANOTHER_USER_ID);
+        given(userRepository.findAllById(Set.of(USER_ID, ANOTHER_USER_ID))).willReturn(List.of(user, anotherUser));
+
+        Collection<User> actual = loader.getAllById(List.of(USER_ID, ANOTHER_USER_ID, USER_ID));
+
+        assertThat(actual).containsExactlyInAnyOrder(user, anotherUser);
+    }
+
+    @Test
+    void shouldNotGetUsersWhenAnyIsMissing() {
+        given(userRepository.findAllById(Set.of(USER_ID, MISSING_USER_ID))).willReturn(List.of(withId(new User(), USER_ID)));
+
+        assertThatThrownBy(() -> loader.getAllById(List.of(USER_ID, MISSING_USER_ID))).isInstanceOf(UserNotFoundException.class);
+    }
+
+    @Test
+    void shouldExposeCounters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        loader.bindTo(registry);
+        inRequest();
+
+        loader.findById(USER_ID);
+        loader.findById(USER_ID);
+        loader.findById(USER_ID);
+
+        assertThat(registry.get("user.loader.queries").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("user.loader.saved").functionCounter().count()).isEqualTo(2);
+    }
+
+    private User withId(User user, long id) {
+        try {
+            Field fieldId = User.class.getDeclaredField("id");
+            fieldId.setAccessible(true);
+            fieldId.set(user, id);
+            return user;
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void inRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+}
@@ -0,0 +1,242 @@
+package com.smalaca.taskamanager.stream;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.smalaca.taskamanager.stream.ItemChange.STORY;
+import static com.smalaca.taskamanager.stream.ItemChange.TASK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemChangeBroadcasterTest {
+    private static final long TIMEOUT_SECONDS = 5;
+    private static final long NO_MORE_MILLIS = 100;
+    private static final long PROJECT_ID = 10;
+    private static final long OTHER_PROJECT_ID = 20;
+    private static final String HEARTBEAT = "heartbeat";
+    private static final String UPDATED = "updated";
+
+    private ItemChangeBroadcaster broadcaster = broadcaster(16);
+
+    @AfterEach
+    void close() {
+        broadcaster.close();
+    }
+
+    @Test
+    void shouldDeliverChangesOfSubscribedProjectOnly() throws InterruptedException {
+        RecordingSink sink = new RecordingSink();
+        broadcaster.subscribe(new ItemChangeFilter(PROJECT_ID, null, null), sink);
+
+        broadcaster.publish(change(TASK, 2, OTHER_PROJECT_ID));
+        broadcaster.publish(change(TASK, 1, PROJECT_ID));
+
+        assertThat(sink.next()).isEqualTo(new ItemChange(UPDATED, TASK, 1, PROJECT_ID, "DONE"));
+        assertThat(sink.nothingMore()).isTrue();
+    }
+
+    @Test
+    void shouldDeliverChangesOfSubscribedItemOnly() throws InterruptedException {
+        RecordingSink sink = new RecordingSink();
+        broadcaster.subscribe(new ItemChangeFilter(null, STORY, 5L), sink);
+
+        broadcaster.publish(change(STORY, 6, PROJECT_ID));
+        broadcaster.publish(change(TASK, 5, PROJECT_ID));
+        broadcaster.publish(change(STORY, 5, PROJECT_ID));
+
+        assertThat(sink.next()).isEqualTo(new ItemChange(UPDATED, STORY, 5, PROJECT_ID, "DONE"));
+        assertThat(sink.nothingMore()).isTrue();
+    }
+
+    @Test
+    void shouldDeliverEachChangeToEverySubscriber() throws InterruptedException {
+        RecordingSink first = new RecordingSink();
+        RecordingSink second = new RecordingSink();
+        RecordingSink ofItem = new RecordingSink();
+        broadcaster.subscribe(new ItemChangeFilter(PROJECT_ID, null, null), first);
+        broadcaster.subscribe(new ItemChangeFilter(PROJECT_ID, null, null), second);
+        broadcaster.subscribe(new ItemChangeFilter(null, TASK, 1L), ofItem);
+
+        broadcaster.publish(change(TASK, 1, PROJECT_ID));
+
+        assertThat(first.next()).isEqualTo(second.next()).isEqualTo(ofItem.next());
+    }
+
+    @Test
+    void shouldDeliverChangeWithoutProjectToItemSubscribersOnly() throws InterruptedException {
+        RecordingSink ofProject = new RecordingSink();
+        RecordingSink ofItem = new RecordingSink();
+        broadcaster.subscribe(new ItemChangeFilter(PROJECT_ID, null, null), ofProject);
+        broadcaster.subscribe(new ItemChangeFilter(null, TASK, 1L), ofItem);
+
+        broadcaster.publish(new ItemChange(UPDATED, TASK, 1, null, "DONE"));
+
+        assertThat(ofItem.next()).isEqualTo(new ItemChange(UPDATED, TASK, 1, null, "DONE"));
+        assertThat(ofProject.nothingMore()).isTrue();
+    }
+
+    @Test
+    void shouldDisconnectSubscriberThatFallsBehind() throws InterruptedException {
+        broadcaster.close();
+        broadcaster = broadcaster(1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        broadcaster.bindTo(registry);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        RecordingSink sink = new RecordingSink() {
+            @Override
+            public void send(ItemChange change) throws IOException {
+                sending.countDown();
+                await(released);
+                super.send(change);
+            }
+        };
+        broadcaster.subscribe(new ItemChangeFilter(PROJECT_ID, null, null), sink);
+
+        broadcaster.publish(change(TASK, 1, PROJECT_ID));
+        assertThat(sending.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        broadcaster.publish(change(TASK, 1, PROJECT_ID));
+        broadcaster.publish(change(TASK, 1, PROJECT_ID));
+
+        assertThat(sink.closed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        released.countDown();
+        assertThat(broadcaster.subscribers()).isZero();
+        assertThat(registry.get("events.stream.overflows").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDisconnectSubscriberThatCannotBeWrittenTo() throws InterruptedException {
+        RecordingSink sink = new RecordingSink() {
+            @Override
+            public void send(ItemChange change) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        broadcaster.subscribe(new ItemChangeFilter(PROJECT_ID, null, null), sink);
+
+        broadcaster.publish(change(TASK, 1, PROJECT_ID));
+
+        assertThat(sink.closed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        assertThat(broadcaster.subscribers()).isZero();
+    }
+
+    @Test
+    void shouldDisconnectSubscriberWhoseWriteTimesOutAndKeepServingOthers() throws InterruptedException {
+        broadcaster.close();
+        broadcaster = new ItemChangeBroadcaster(16, 16, 1, Duration.ofHours(1), Duration.ofMillis(NO_MORE_MILLIS));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        broadcaster.bindTo(registry);
+        CountDownLatch released = new CountDownLatch(1);
+        RecordingSink stuck = new RecordingSink() {
+            @Override
+            public void send(ItemChange change) {
+                awaitUninterruptibly(released);
+            }
+        };
+        RecordingSink other = new RecordingSink();
+        broadcaster.subscribe(new ItemChangeFilter(null, TASK, 1L), stuck);
+        broadcaster.subscribe(new ItemChangeFilter(PROJECT_ID, null, null), other);
+
+        broadcaster.publish(change(TASK, 1, PROJECT_ID));
+
+        assertThat(other.next()).isEqualTo(new ItemChange(UPDATED, TASK, 1, PROJECT_ID, "DONE"));
+        assertThat(broadcaster.subscribers()).isEqualTo(1);
+        assertThat(registry.get("events.stream.write.timeouts").functionCounter().count()).isEqualTo(1);
+        released.countDown();
+        assertThat(stuck.closed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldSendHeartbeatToSubscribers() throws InterruptedException {
+        RecordingSink ofProject = new RecordingSink();
+        RecordingSink ofItem = new RecordingSink();
+        broadcaster.subscribe(new ItemChangeFilter(PROJECT_ID, null, null), ofProject);
+        broadcaster.subscribe(new ItemChangeFilter(null, TASK, 1L), ofItem);
+
+        broadcaster.heartbeat();
+
+        assertThat(ofProject.next()).isEqualTo(HEARTBEAT);
+        assertThat(ofItem.next()).isEqualTo(HEARTBEAT);
+    }
+
+    @Test
+    void shouldExposeSubscribersAndDeliveries() throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        broadcaster.bindTo(registry);
+        RecordingSink sink = new RecordingSink();
+        broadcaster.subscribe(new ItemChangeFilter(PROJECT_ID, null, null), sink);
+
+        broadcaster.publish(change(TASK, 1, PROJECT_ID));
+        sink.next();
+        broadcaster.close();
+
+        assertThat(registry.get("events.stream.subscribers").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("events.stream.published").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("events.stream.sent").functionCounter().count()).isEqualTo(1);
+    }
+
+    private ItemChangeBroadcaster broadcaster(int bufferSize) {
+        return new ItemChangeBroadcaster(16, bufferSize, 2, Duration.ofHours(1), Duration.ofHours(1));
+    }
+
+    private ItemChange change(String item, long itemId, long projectId) {
+        return new ItemChange(UPDATED, item, itemId, projectId, "DONE");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+
+        while (latch.getCount() > 0 && System.nanoTime() < deadline) {
+            try {
+                latch.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException exception) {
+                continue;
+            }
+        }
+    }
+
+    private static class RecordingSink implements ItemChangeSink {
+        private final BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+        private final CountDownLatch closed = new CountDownLatch(1);
+
+        @Override
+        public void send(ItemChange change) throws IOException {
+            received.add(change);
+        }
+
+        @Override
+        public void heartbeat() {
+            received.add(HEARTBEAT);
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+
+        private Object next() throws InterruptedException {
+            Object next = received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertThat(next).isNotNull();
+            return next;
+        }
+
+        private boolean nothingMore() throws InterruptedException {
+            return received.poll(NO_MORE_MILLIS, TimeUnit.MILLISECONDS) == null;
+        }
+    }
+}
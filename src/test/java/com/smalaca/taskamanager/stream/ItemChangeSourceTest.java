@@ -0,0 +1,155 @@
+package com.smalaca.taskamanager.stream;
+
+import com.smalaca.taskamanager.events.StoryDoneEvent;
+import com.smalaca.taskamanager.model.entities.Epic;
+import com.smalaca.taskamanager.model.entities.Project;
+import com.smalaca.taskamanager.model.entities.Sprint;
+import com.smalaca.taskamanager.model.entities.Story;
+import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.entities.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.IN_PROGRESS;
+import static com.smalaca.taskamanager.stream.ItemChange.EPIC;
+import static com.smalaca.taskamanager.stream.ItemChange.STORY;
+import static com.smalaca.taskamanager.stream.ItemChange.TASK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@DataJpaTest
+@Import({ItemChangeSource.class, ItemProjects.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ItemChangeSourceTest {
+    @Autowired private EntityManager entityManager;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private ItemProjects itemProjects;
+    @Autowired private ItemChangeSource itemChangeSource;
+    @MockBean private ItemChangeBroadcaster broadcaster;
+
+    @Test
+    void shouldPublishCommittedUpdateOfTask() {
+        Task task = transaction().execute(status -> projectWithTask());
+
+        transaction().executeWithoutResult(status -> entityManager.find(Task.class, task.getId()).setStatus(IN_PROGRESS));
+
+        then(broadcaster).should().publish(new ItemChange("updated", TASK, task.getId(), projectIdOf(task), "IN_PROGRESS"));
+    }
+
+    @Test
+    void shouldPublishUpdateOfTaskWithoutStoryToProjectOfItsSprint() {
+        Task task = transaction().execute(status -> {
+            Project project = new Project();
+            entityManager.persist(project);
+            Sprint sprint = new Sprint();
+            sprint.setProject(project);
+            entityManager.persist(sprint);
+            Task created = new Task();
+            created.setCurrentSprint(sprint);
+            entityManager.persist(created);
+            return created;
+        });
+        Long projectId = task.getCurrentSprint().getProject().getId();
+
+        transaction().executeWithoutResult(status -> entityManager.find(Task.class, task.getId()).setStatus(IN_PROGRESS));
+
+        then(broadcaster).should().publish(new ItemChange("updated", TASK, task.getId(), projectId, "IN_PROGRESS"));
+        assertThat(itemProjects.projectOf(TASK, task.getId())).isEqualTo(projectId);
+    }
+
+    @Test
+    void shouldCarryProjectOfItemInDomainEventChanges() {
+        Task task = transaction().execute(status -> projectWithTask());
+        StoryDoneEvent event = new StoryDoneEvent();
+        event.setStoryId(task.getStory().getId());
+
+        itemChangeSource.storyDone(event);
+
+        then(broadcaster).should().publish(new ItemChange("story-done", STORY, task.getStory().getId(), projectIdOf(task), null));
+    }
+
+    @Test
+    void shouldNotPublishRolledBackUpdate() {
+        Task task = transaction().execute(status -> projectWithTask());
+
+        transaction().executeWithoutResult(status -> {
+            entityManager.find(Task.class, task.getId()).setStatus(IN_PROGRESS);
+            entityManager.flush();
+            status.setRollbackOnly();
+        });
+
+        then(broadcaster).should(never()).publish(any());
+    }
+
+    @Test
+    void shouldPublishDeletedStory() {
+        Task task = transaction().execute(status -> projectWithTask());
+        Story story = task.getStory();
+
+        transaction().executeWithoutResult(status -> {
+            entityManager.remove(entityManager.find(Task.class, task.getId()));
+            entityManager.remove(entityManager.find(Story.class, story.getId()));
+        });
+
+        then(broadcaster).should().publish(new ItemChange("deleted", STORY, story.getId(), projectIdOf(task), null));
+        then(broadcaster).should().publish(new ItemChange("deleted", TASK, task.getId(), projectIdOf(task), null));
+    }
+
+    @Test
+    void shouldNotPublishChangesOfOtherEntities() {
+        User user = transaction().execute(status -> {
+            User created = new User();
+            entityManager.persist(created);
+            return created;
+        });
+
+        transaction().executeWithoutResult(status -> entityManager.find(User.class, user.getId()).setLogin("nobody"));
+
+        then(broadcaster).should(never()).publish(any());
+    }
+
+    @Test
+    void shouldFindProjectOfEveryItem() {
+        Task task = transaction().execute(status -> projectWithTask());
+        Story story = task.getStory();
+        Epic epic = story.getEpic();
+
+        assertThat(itemProjects.projectOf(TASK, task.getId())).isEqualTo(epic.getProject().getId());
+        assertThat(itemProjects.projectOf(STORY, story.getId())).isEqualTo(epic.getProject().getId());
+        assertThat(itemProjects.projectOf(EPIC, epic.getId())).isEqualTo(epic.getProject().getId());
+        assertThat(itemProjects.projectOf(TASK, task.getId() + 1000)).isNull();
+    }
+
+    private Task projectWithTask() {
+        Project project = new Project();
+        entityManager.persist(project);
+        Epic epic = new Epic();
+        epic.setProject(project);
+        entityManager.persist(epic);
+        Story story = new Story();
+        story.setEpic(epic);
+        entityManager.persist(story);
+        Task task = new Task();
+        task.setStory(story);
+        entityManager.persist(task);
+        return task;
+    }
+
+    private Long projectIdOf(Task task) {
+        return task.getStory().getEpic().getProject().getId();
+    }
+
+    private TransactionTemplate transaction() {
+        return new TransactionTemplate(transactionManager);
+    }
+}